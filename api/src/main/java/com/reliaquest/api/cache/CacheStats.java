@@ -0,0 +1,16 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+
+/**
+ * Counters of the roster snapshot cache. {@code refreshes} and {@code replayedRefreshes} together count every refresh
+ * that was swapped in; the latter are the ones that had to replay local creates or deletes made during the fetch.
+ */
+public record CacheStats(long hits, long misses, long refreshes, long replayedRefreshes, long refreshFailures,
+                         Duration age, int size) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
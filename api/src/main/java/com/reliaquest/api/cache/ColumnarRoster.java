@@ -0,0 +1,470 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Column-per-field storage of the roster, and the only copy of it a snapshot keeps. Salaries and ages live in
+ * {@code int[]} columns, titles are dictionary-encoded into an {@code int[]} of codes, and equal names share one
+ * {@code String} instance, so a scan walks contiguous primitives instead of chasing an {@link Employee} and two boxed
+ * integers per row. {@link Employee} objects are only materialized on demand, by {@link #employee(int)} and the
+ * {@link #asList()} view.
+ *
+ * <p>Each instance is an immutable version. Versions derived from one build share their arrays: the newest version
+ * appends rows in place, growing the arrays geometrically, and deletes a row by stamping it with the version that
+ * removed it. Every version only sees the rows appended before it and not removed by then, so {@link #with(Employee)}
+ * and {@link #withoutRow(int)} cost amortized O(1); deriving from an older version branches into a copy. Row numbers
+ * are therefore stable across versions, with removed rows left in place, until {@link #compacted()} renumbers them.
+ *
+ * <p>Missing salaries and ages are stored as {@link #MISSING}, a missing title as code {@link #NO_TITLE}.
+ */
+public final class ColumnarRoster {
+
+    public static final int MISSING = Integer.MIN_VALUE;
+    public static final int NO_TITLE = -1;
+
+    private static final int LIVE = Integer.MAX_VALUE;
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+
+    private final Storage storage;
+    // The storage arrays as of this version; later growth replaces them in the storage but never changes what this
+    // version can see.
+    private final String[] ids;
+    private final String[] names;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] emails;
+    private final int[] removedAt;
+    private final String[] titles;
+    private final int titleCount;
+    private final int rowCount;
+    private final int size;
+    private final int version;
+    // Rows of the live employees in roster order, built on the first positional access once rows have been removed.
+    private volatile int[] liveRows;
+
+    private ColumnarRoster(Storage storage, int size) {
+        this.storage = storage;
+        this.ids = storage.ids;
+        this.names = storage.names;
+        this.salaries = storage.salaries;
+        this.ages = storage.ages;
+        this.titleCodes = storage.titleCodes;
+        this.emails = storage.emails;
+        this.removedAt = storage.removedAt;
+        this.titles = storage.titles;
+        this.titleCount = storage.titleCount;
+        this.rowCount = storage.rowCount;
+        this.size = size;
+        this.version = storage.version;
+    }
+
+    public static ColumnarRoster of(List<Employee> employees) {
+        Builder builder = new Builder(employees.size());
+        employees.forEach(builder);
+        return builder.build();
+    }
+
+    /**
+     * Builds a roster from employees as they arrive, so a roster that is read from a stream never has to be held as a
+     * {@code List<Employee>} first.
+     */
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    /**
+     * Number of employees in this version.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of rows in this version, removed ones included; rows range over {@code [0, rowCount())} and are in
+     * roster order. Scans skip the rows for which {@link #isLive(int)} is false.
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public boolean isLive(int row) {
+        return removedAt[row] > version;
+    }
+
+    public String id(int row) {
+        return ids[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public int titleCode(int row) {
+        return titleCodes[row];
+    }
+
+    public String title(int code) {
+        return titles[code];
+    }
+
+    /**
+     * Number of distinct titles ever seen by this roster; codes range over {@code [0, titleCount())}. Titles whose
+     * last employee was removed keep their code until the roster is compacted.
+     */
+    public int titleCount() {
+        return titleCount;
+    }
+
+    public Employee employee(int row) {
+        int titleCode = titleCodes[row];
+        return new Employee(ids[row], names[row], orNull(salaries[row]), orNull(ages[row]),
+                titleCode == NO_TITLE ? null : titles[titleCode], emails[row]);
+    }
+
+    /**
+     * Live row holding {@code id}, or {@code -1}.
+     */
+    public int rowOf(String id) {
+        synchronized (storage) {
+            int row = storage.find(id);
+            if (row >= 0 && row < rowCount && isLive(row)) {
+                return row;
+            }
+            if (storage.version == version) {
+                // The id table is exact for the newest version.
+                return -1;
+            }
+        }
+        for (int row = rowCount - 1; row >= 0; row--) {
+            if (isLive(row) && Objects.equals(ids[row], id)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Read-only view of the employees in roster order. Each access materializes a new {@link Employee}.
+     */
+    public List<Employee> asList() {
+        return new EmployeeList();
+    }
+
+    public OptionalInt getHighestSalary() {
+        int highest = MISSING;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) {
+                highest = Math.max(highest, salaries[row]);
+            }
+        }
+        return highest == MISSING ? OptionalInt.empty() : OptionalInt.of(highest);
+    }
+
+    public ColumnarRoster with(Employee employee) {
+        synchronized (storage) {
+            Storage target = storage.version == version ? storage : branch();
+            target.append(employee.getId(), employee.getEmployeeName(), orMissing(employee.getEmployeeSalary()),
+                    orMissing(employee.getEmployeeAge()), employee.getEmployeeTitle(), employee.getEmployeeEmail());
+            target.version = version + 1;
+            return new ColumnarRoster(target, size + 1);
+        }
+    }
+
+    /**
+     * Removes the employee in {@code row}; returns this version unchanged if that row is not live in it.
+     */
+    public ColumnarRoster withoutRow(int row) {
+        if (!isLive(row)) {
+            return this;
+        }
+        synchronized (storage) {
+            Storage target = storage.version == version ? storage : branch();
+            target.removedAt[row] = version + 1;
+            target.version = version + 1;
+            return new ColumnarRoster(target, size - 1);
+        }
+    }
+
+    /**
+     * Whether enough rows have been removed that {@link #compacted()} is worth its cost.
+     */
+    public boolean needsCompaction() {
+        return rowCount - size > Math.max(MIN_COMPACTION_THRESHOLD, size / 4);
+    }
+
+    /**
+     * Same employees without the removed rows, renumbered and with the title dictionary rebuilt. Linear in the roster
+     * size, so callers run it off the mutation path.
+     */
+    public ColumnarRoster compacted() {
+        Builder builder = new Builder(size);
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) {
+                int titleCode = titleCodes[row];
+                builder.add(ids[row], names[row], salaries[row], ages[row],
+                        titleCode == NO_TITLE ? null : titles[titleCode], emails[row]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Copy of the storage as this version sees it, for deriving from a version that is no longer the newest. Row
+     * numbers are kept, so indexes over this lineage stay valid for the branch.
+     */
+    private Storage branch() {
+        Storage copy = new Storage(Math.max(16, rowCount + rowCount / 2 + 1));
+        System.arraycopy(ids, 0, copy.ids, 0, rowCount);
+        System.arraycopy(names, 0, copy.names, 0, rowCount);
+        System.arraycopy(salaries, 0, copy.salaries, 0, rowCount);
+        System.arraycopy(ages, 0, copy.ages, 0, rowCount);
+        System.arraycopy(titleCodes, 0, copy.titleCodes, 0, rowCount);
+        System.arraycopy(emails, 0, copy.emails, 0, rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            copy.removedAt[row] = isLive(row) ? LIVE : removedAt[row];
+        }
+        for (int code = 0; code < titleCount; code++) {
+            copy.addTitle(titles[code]);
+        }
+        copy.rowCount = rowCount;
+        copy.version = version;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) {
+                copy.index(row);
+            }
+        }
+        return copy;
+    }
+
+    private int rowAt(int index) {
+        if (rowCount == size) {
+            return index;
+        }
+        int[] rows = liveRows;
+        if (rows == null) {
+            rows = new int[size];
+            int next = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (isLive(row)) {
+                    rows[next++] = row;
+                }
+            }
+            liveRows = rows;
+        }
+        return rows[index];
+    }
+
+    private static int orMissing(Integer value) {
+        return value == null ? MISSING : value;
+    }
+
+    private static Integer orNull(int value) {
+        return value == MISSING ? null : value;
+    }
+
+    /**
+     * Accumulates employees into a new roster, interning equal names. Not thread-safe, and not usable after
+     * {@link #build()}.
+     */
+    public static final class Builder implements Consumer<Employee> {
+
+        private final Storage storage;
+        private final Map<String, String> namePool = new HashMap<>();
+
+        private Builder(int expectedSize) {
+            this.storage = new Storage(Math.max(16, expectedSize));
+        }
+
+        @Override
+        public void accept(Employee employee) {
+            add(employee.getId(), employee.getEmployeeName(), orMissing(employee.getEmployeeSalary()),
+                    orMissing(employee.getEmployeeAge()), employee.getEmployeeTitle(), employee.getEmployeeEmail());
+        }
+
+        public ColumnarRoster build() {
+            return new ColumnarRoster(storage, storage.rowCount);
+        }
+
+        private void add(String id, String name, int salary, int age, String title, String email) {
+            storage.append(id, name == null ? null : namePool.computeIfAbsent(name, ignored -> name), salary, age,
+                    title, email);
+        }
+    }
+
+    /**
+     * Arrays shared by the versions of one lineage. Only the newest version writes to them, holding the monitor.
+     */
+    private static final class Storage {
+
+        private String[] ids;
+        private String[] names;
+        private int[] salaries;
+        private int[] ages;
+        private int[] titleCodes;
+        private String[] emails;
+        private int[] removedAt;
+        private String[] titles = new String[8];
+        private int titleCount;
+        private final Map<String, Integer> titleDictionary = new HashMap<>();
+        private int rowCount;
+        private int version;
+        // Open-addressing table from id to its latest row, as row + 1 so that 0 marks a free slot. Kept at most half
+        // full; entries for removed rows stay until the next compaction or branch.
+        private int[] idTable;
+
+        private Storage(int capacity) {
+            ids = new String[capacity];
+            names = new String[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            titleCodes = new int[capacity];
+            emails = new String[capacity];
+            removedAt = new int[capacity];
+            idTable = new int[Integer.highestOneBit(capacity) * 4];
+        }
+
+        private void append(String id, String name, int salary, int age, String title, String email) {
+            if (rowCount == ids.length) {
+                // Versions built before the growth keep the old arrays, which still hold every row they can see.
+                int capacity = rowCount + (rowCount >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                names = Arrays.copyOf(names, capacity);
+                salaries = Arrays.copyOf(salaries, capacity);
+                ages = Arrays.copyOf(ages, capacity);
+                titleCodes = Arrays.copyOf(titleCodes, capacity);
+                emails = Arrays.copyOf(emails, capacity);
+                removedAt = Arrays.copyOf(removedAt, capacity);
+            }
+            int row = rowCount;
+            ids[row] = id;
+            names[row] = name;
+            salaries[row] = salary;
+            ages[row] = age;
+            titleCodes[row] = title == null ? NO_TITLE : codeOf(title);
+            emails[row] = email;
+            removedAt[row] = LIVE;
+            rowCount++;
+            index(row);
+        }
+
+        private int codeOf(String title) {
+            Integer code = titleDictionary.get(title);
+            return code != null ? code : addTitle(title);
+        }
+
+        private int addTitle(String title) {
+            if (titleCount == titles.length) {
+                titles = Arrays.copyOf(titles, titleCount * 2);
+            }
+            titles[titleCount] = title;
+            titleDictionary.put(title, titleCount);
+            return titleCount++;
+        }
+
+        private int find(String id) {
+            int mask = idTable.length - 1;
+            for (int slot = mix(Objects.hashCode(id)) & mask; idTable[slot] != 0; slot = (slot + 1) & mask) {
+                if (Objects.equals(ids[idTable[slot] - 1], id)) {
+                    return idTable[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private void index(int row) {
+            if (rowCount * 2 > idTable.length) {
+                rehash();
+            }
+            int mask = idTable.length - 1;
+            int slot = mix(Objects.hashCode(ids[row])) & mask;
+            while (idTable[slot] != 0 && !Objects.equals(ids[idTable[slot] - 1], ids[row])) {
+                slot = (slot + 1) & mask;
+            }
+            idTable[slot] = row + 1;
+        }
+
+        private void rehash() {
+            int[] previous = idTable;
+            idTable = new int[previous.length * 2];
+            int mask = idTable.length - 1;
+            for (int entry : previous) {
+                if (entry != 0) {
+                    int slot = mix(Objects.hashCode(ids[entry - 1])) & mask;
+                    while (idTable[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    idTable[slot] = entry;
+                }
+            }
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    private final class EmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            Objects.checkIndex(index, size);
+            return employee(rowAt(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Employee> iterator() {
+            return new Iterator<>() {
+                private int row = nextLive(0);
+
+                @Override
+                public boolean hasNext() {
+                    return row < rowCount;
+                }
+
+                @Override
+                public Employee next() {
+                    if (row >= rowCount) {
+                        throw new NoSuchElementException();
+                    }
+                    Employee employee = employee(row);
+                    row = nextLive(row + 1);
+                    return employee;
+                }
+            };
+        }
+
+        private int nextLive(int from) {
+            int row = from;
+            while (row < rowCount && !isLive(row)) {
+                row++;
+            }
+            return row;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable view of the upstream roster, stored as a {@link ColumnarRoster}, together with the indexes derived from it.
+ * Local mutations produce a new snapshot instead of changing this one, so readers never observe a half-applied update.
+ */
+@Getter
+public final class EmployeeSnapshot {
+
+    private final Instant loadedAt;
+    private final ColumnarRoster columns;
+    private final SalaryIndex salaryIndex;
+    private final NameIndex nameIndex;
+    private final RosterAnalytics analytics;
+
+    public EmployeeSnapshot(List<Employee> employees, Instant loadedAt) {
+        this(ColumnarRoster.of(employees == null ? List.of() : employees), loadedAt);
+    }
+
+    public EmployeeSnapshot(ColumnarRoster columns, Instant loadedAt) {
+        this(loadedAt, columns, SalaryIndex.of(columns), NameIndex.of(columns), RosterAnalytics.of(columns));
+    }
+
+    private EmployeeSnapshot(Instant loadedAt, ColumnarRoster columns, SalaryIndex salaryIndex, NameIndex nameIndex,
+                             RosterAnalytics analytics) {
+        this.loadedAt = loadedAt;
+        this.columns = columns;
+        this.salaryIndex = salaryIndex;
+        this.nameIndex = nameIndex;
+        this.analytics = analytics;
+    }
+
+    /**
+     * Read-only view of the roster; employees are materialized from the columns as they are read.
+     */
+    public List<Employee> getEmployees() {
+        return columns.asList();
+    }
+
+    public List<Employee> searchByName(String query, int offset, int limit) {
+        return nameIndex.search(columns, query, offset, limit);
+    }
+
+    public EmployeeSnapshot withEmployee(Employee employee) {
+        ColumnarRoster updated = columns.with(employee);
+        return new EmployeeSnapshot(loadedAt, updated, salaryIndex.with(employee), nameIndex.with(updated),
+                analytics.with(employee));
+    }
+
+    public EmployeeSnapshot withoutEmployee(String id) {
+        int row = columns.rowOf(id);
+        if (row < 0) {
+            return this;
+        }
+        Employee employee = columns.employee(row);
+        ColumnarRoster remainingColumns = columns.withoutRow(row);
+        SalaryIndex remaining = salaryIndex.without(employee, () -> SalaryIndex.of(remainingColumns));
+        return new EmployeeSnapshot(loadedAt, remainingColumns, remaining, nameIndex,
+                analytics.without(employee, remaining));
+    }
+
+    /**
+     * Same roster and indexes, re-stamped after the upstream confirmed nothing changed.
+     */
+    public EmployeeSnapshot revalidatedAt(Instant revalidatedAt) {
+        return new EmployeeSnapshot(revalidatedAt, columns, salaryIndex, nameIndex, analytics);
+    }
+
+    /**
+     * Whether local changes have left enough removed rows or unindexed names that {@link #compacted()} is worth its
+     * cost.
+     */
+    public boolean needsCompaction() {
+        return columns.needsCompaction() || nameIndex.needsCompaction();
+    }
+
+    /**
+     * Same roster with the removed rows dropped and the name index rebuilt from scratch. Linear in the roster size, so
+     * callers run it off the mutation path.
+     */
+    public EmployeeSnapshot compacted() {
+        ColumnarRoster compactedColumns = columns.compacted();
+        return new EmployeeSnapshot(loadedAt, compactedColumns, salaryIndex, NameIndex.of(compactedColumns), analytics);
+    }
+
+    public int size() {
+        return columns.size();
+    }
+}
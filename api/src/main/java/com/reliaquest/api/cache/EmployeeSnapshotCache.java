@@ -0,0 +1,268 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.EmployeeCacheConfigs;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.integration.EmployeeIntegration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serves the roster from an in-process {@link EmployeeSnapshot} that is refreshed in the background
+ * (stale-while-revalidate). Only the very first read, or every read when the cache is disabled, goes upstream.
+ *
+ * <p>Creates and deletes made through this service are patched into the live snapshot straight away. A refresh that
+ * overlaps them replays them onto the freshly fetched roster, since that roster may predate them, so refreshes keep
+ * landing under a steady stream of writes.
+ */
+@Component
+public class EmployeeSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSnapshotCache.class);
+    private final EmployeeIntegration employeeIntegration;
+    private final EmployeeCacheConfigs employeeCacheConfigs;
+
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+    // A ReentrantLock rather than a monitor: the first load blocks on upstream I/O, and a virtual thread parked
+    // inside synchronized would pin its carrier thread. Held for every refresh, so at most one fetch is in flight.
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final Object mutationLock = new Object();
+    private final AtomicLong mutations = new AtomicLong();
+    // Roster the current snapshot was built from, and the mutation count at that point. When a conditional GET
+    // hands back the same roster object it is unchanged upstream and the indexes can be reused.
+    private volatile ColumnarRoster loadedFrom;
+    private volatile long mutationsAtLoad;
+
+    // Name index compaction runs on this executor, outside mutationLock. While it runs, mutations applied to the live
+    // snapshot are also recorded so they can be replayed onto the compacted one before it is swapped in. A refresh
+    // bumps the generation, which makes an in-flight compaction of the replaced snapshot discard its result.
+    private final Executor compactionExecutor;
+    private List<UnaryOperator<EmployeeSnapshot>> pendingMutations;
+    private long generation;
+    // Mutations applied while a refresh is fetching the roster, replayed onto it before it is swapped in.
+    private List<UnaryOperator<EmployeeSnapshot>> refreshReplay;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong replayedRefreshes = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+
+    @Autowired
+    public EmployeeSnapshotCache(EmployeeIntegration employeeIntegration, EmployeeCacheConfigs employeeCacheConfigs) {
+        this(employeeIntegration, employeeCacheConfigs,
+                task -> Thread.ofVirtual().name("employee-snapshot-compaction").start(task));
+    }
+
+    EmployeeSnapshotCache(EmployeeIntegration employeeIntegration, EmployeeCacheConfigs employeeCacheConfigs,
+                          Executor compactionExecutor) {
+        this.employeeIntegration = employeeIntegration;
+        this.employeeCacheConfigs = employeeCacheConfigs;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    public boolean isEnabled() {
+        return employeeCacheConfigs.isEnabled();
+    }
+
+    /**
+     * Roster for a plain listing. With the cache disabled this is the fetched roster as is, without building the
+     * indexes a snapshot carries.
+     */
+    public List<Employee> getEmployees() {
+        if (!employeeCacheConfigs.isEnabled()) {
+            misses.increment();
+            return employeeIntegration.getRoster().asList();
+        }
+        return getSnapshot().getEmployees();
+    }
+
+    public EmployeeSnapshot getSnapshot() {
+        if (!employeeCacheConfigs.isEnabled()) {
+            misses.increment();
+            return load();
+        }
+        EmployeeSnapshot current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+        loadLock.lock();
+        try {
+            current = snapshot.get();
+            if (current != null) {
+                hits.increment();
+                return current;
+            }
+            misses.increment();
+            logger.info("No employee snapshot available yet, loading it synchronously.");
+            return refreshSnapshot();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "#{@employeeCacheConfigs.refreshInterval.toMillis()}",
+            initialDelayString = "#{@employeeCacheConfigs.refreshInterval.toMillis()}")
+    public void refresh() {
+        if (!employeeCacheConfigs.isEnabled()) {
+            return;
+        }
+        try {
+            refreshSnapshot();
+        } catch (RuntimeException e) {
+            logger.warn("Background refresh of employee snapshot failed, serving stale data. Error : {}", e.getMessage());
+        }
+    }
+
+    public void onEmployeeCreated(Employee employee) {
+        if (employee == null) {
+            return;
+        }
+        // The refreshed roster may already hold the new employee, so the replayed create must not add it twice.
+        mutate(current -> current.withEmployee(employee),
+                fresh -> fresh.getColumns().rowOf(employee.getId()) >= 0 ? fresh : fresh.withEmployee(employee));
+    }
+
+    public void onEmployeeDeleted(String id) {
+        UnaryOperator<EmployeeSnapshot> delete = current -> current.withoutEmployee(id);
+        mutate(delete, delete);
+    }
+
+    public CacheStats getStats() {
+        EmployeeSnapshot current = snapshot.get();
+        Duration age = current == null ? Duration.ZERO : Duration.between(current.getLoadedAt(), Instant.now());
+        int size = current == null ? 0 : current.size();
+        return new CacheStats(hits.sum(), misses.sum(), refreshes.get(), replayedRefreshes.get(), refreshFailures.get(),
+                age, size);
+    }
+
+    private EmployeeSnapshot refreshSnapshot() {
+        loadLock.lock();
+        try {
+            return fetchAndSwap();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private EmployeeSnapshot fetchAndSwap() {
+        long observedMutations;
+        synchronized (mutationLock) {
+            observedMutations = mutations.get();
+            refreshReplay = new ArrayList<>();
+        }
+        ColumnarRoster roster;
+        try {
+            roster = employeeIntegration.getRoster();
+        } catch (RuntimeException e) {
+            synchronized (mutationLock) {
+                refreshReplay = null;
+            }
+            refreshFailures.incrementAndGet();
+            throw e;
+        }
+        boolean unchanged = snapshot.get() != null && roster == loadedFrom && observedMutations == mutationsAtLoad;
+        EmployeeSnapshot fetched = unchanged ? null : snapshotOf(roster);
+        EmployeeSnapshot loaded;
+        int replayed;
+        synchronized (mutationLock) {
+            List<UnaryOperator<EmployeeSnapshot>> replay = refreshReplay;
+            refreshReplay = null;
+            if (unchanged) {
+                // The live snapshot already carries any update made during the fetch.
+                replayed = 0;
+                loaded = snapshot.get().revalidatedAt(Instant.now());
+            } else {
+                replayed = replay.size();
+                loaded = fetched;
+                for (UnaryOperator<EmployeeSnapshot> mutation : replay) {
+                    loaded = mutation.apply(loaded);
+                }
+            }
+            snapshot.set(loaded);
+            generation++;
+            loadedFrom = roster;
+            mutationsAtLoad = mutations.get();
+        }
+        if (replayed > 0) {
+            replayedRefreshes.incrementAndGet();
+            logger.info("Refreshed employee snapshot with {} employees, replaying {} local updates made during the fetch.",
+                    loaded.size(), replayed);
+        } else {
+            refreshes.incrementAndGet();
+            if (unchanged) {
+                logger.info("Employee roster unchanged upstream, kept snapshot of {} employees.", loaded.size());
+            } else {
+                logger.info("Refreshed employee snapshot with {} employees.", loaded.size());
+            }
+        }
+        return loaded;
+    }
+
+    private void mutate(UnaryOperator<EmployeeSnapshot> mutation, UnaryOperator<EmployeeSnapshot> replay) {
+        EmployeeSnapshot toCompact = null;
+        long compactionGeneration;
+        synchronized (mutationLock) {
+            mutations.incrementAndGet();
+            EmployeeSnapshot updated = snapshot.updateAndGet(current -> current == null ? null : mutation.apply(current));
+            if (refreshReplay != null) {
+                refreshReplay.add(replay);
+            }
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            } else if (updated != null && updated.needsCompaction()) {
+                pendingMutations = new ArrayList<>();
+                toCompact = updated;
+            }
+            compactionGeneration = generation;
+        }
+        if (toCompact != null) {
+            EmployeeSnapshot base = toCompact;
+            compactionExecutor.execute(() -> compact(base, compactionGeneration));
+        }
+    }
+
+    private void compact(EmployeeSnapshot base, long compactionGeneration) {
+        EmployeeSnapshot compacted = null;
+        try {
+            compacted = base.compacted();
+        } catch (RuntimeException e) {
+            logger.warn("Compacting the employee snapshot failed, keeping the uncompacted one. Error : {}", e.getMessage());
+        }
+        synchronized (mutationLock) {
+            List<UnaryOperator<EmployeeSnapshot>> replay = pendingMutations;
+            pendingMutations = null;
+            if (compacted == null || generation != compactionGeneration) {
+                return;
+            }
+            for (UnaryOperator<EmployeeSnapshot> mutation : replay) {
+                compacted = mutation.apply(compacted);
+            }
+            snapshot.set(compacted);
+        }
+        logger.debug("Compacted employee snapshot of {} employees.", compacted.size());
+    }
+
+    private EmployeeSnapshot load() {
+        return snapshotOf(employeeIntegration.getRoster());
+    }
+
+    private static EmployeeSnapshot snapshotOf(ColumnarRoster roster) {
+        return new EmployeeSnapshot(roster, Instant.now());
+    }
+}
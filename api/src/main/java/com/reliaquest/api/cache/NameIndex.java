@@ -0,0 +1,209 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable trigram index over pre-normalized employee names for case-insensitive substring search.
+ *
+ * <p>The index holds no employees: it maps grams to rows of a {@link ColumnarRoster} and keeps one normalized key per
+ * row, and {@link #search(ColumnarRoster, String, int, int)} resolves matches against the roster version it is given,
+ * which also decides whether a row is still live. The posting lists cover the rows present when the index was built.
+ * Rows appended later only get a key, appended in amortized constant time to an array shared by the indexes derived
+ * from the same build, and are scanned; deletes need no update at all. The owner should rebuild via
+ * {@link #of(ColumnarRoster)} once {@link #needsCompaction()} reports the appended rows have grown. Results come back
+ * in roster order.
+ */
+public final class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+
+    private final Map<String, int[]> postings;
+    private final int baseRows;
+    private final Keys shared;
+    // The key array as of this index; later growth replaces it in the shared keys but never changes this prefix.
+    private final String[] keys;
+    private final int keyCount;
+
+    private NameIndex(Map<String, int[]> postings, int baseRows, Keys shared) {
+        this.postings = postings;
+        this.baseRows = baseRows;
+        this.shared = shared;
+        this.keys = shared.keys;
+        this.keyCount = shared.count;
+    }
+
+    public static NameIndex of(ColumnarRoster columns) {
+        Keys keys = new Keys(Math.max(16, columns.rowCount()));
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (int row = 0; row < columns.rowCount(); row++) {
+            String key = normalize(columns.name(row));
+            keys.append(key);
+            for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+                builders.computeIfAbsent(key.substring(i, i + GRAM_LENGTH), ignored -> new PostingBuilder()).add(row);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+        return new NameIndex(postings, columns.rowCount(), keys);
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Searches {@code columns}, which must be the roster version this index was last brought up to date with.
+     */
+    public List<Employee> search(ColumnarRoster columns, String query, int offset, int limit) {
+        String key = normalize(query);
+        Collector collector = new Collector(columns, offset, limit);
+        if (key.length() < GRAM_LENGTH) {
+            for (int row = 0; row < baseRows && !collector.isFull(); row++) {
+                collect(row, key, collector);
+            }
+        } else {
+            searchPostings(key, collector);
+        }
+        for (int row = baseRows; row < keyCount && !collector.isFull(); row++) {
+            collect(row, key, collector);
+        }
+        return collector.results;
+    }
+
+    /**
+     * Brings the index up to date with {@code columns}, a later version of the roster it covers, by keying the rows
+     * appended since.
+     */
+    public NameIndex with(ColumnarRoster columns) {
+        synchronized (shared) {
+            Keys target = shared.count == keyCount ? shared : Keys.copyOf(keys, keyCount);
+            for (int row = keyCount; row < columns.rowCount(); row++) {
+                target.append(normalize(columns.name(row)));
+            }
+            return new NameIndex(postings, baseRows, target);
+        }
+    }
+
+    public boolean needsCompaction() {
+        return keyCount - baseRows > Math.max(MIN_COMPACTION_THRESHOLD, baseRows / 4);
+    }
+
+    private void searchPostings(String key, Collector collector) {
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            int[] positions = postings.get(key.substring(i, i + GRAM_LENGTH));
+            if (positions == null) {
+                return;
+            }
+            lists.add(positions);
+        }
+        lists.sort(Comparator.comparingInt(positions -> positions.length));
+        int[] smallest = lists.get(0);
+        for (int i = 0; i < smallest.length && !collector.isFull(); i++) {
+            int row = smallest[i];
+            if (containedInAll(lists, row)) {
+                collect(row, key, collector);
+            }
+        }
+    }
+
+    private void collect(int row, String key, Collector collector) {
+        if (collector.columns.isLive(row) && keys[row].contains(key)) {
+            collector.accept(row);
+        }
+    }
+
+    private static boolean containedInAll(List<int[]> lists, int row) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (Arrays.binarySearch(lists.get(i), row) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append-only key array shared by the indexes derived from one build. Only the index holding every key appended
+     * so far writes to it in place, holding its monitor; extending an older index branches into a copy.
+     */
+    private static final class Keys {
+        private String[] keys;
+        private int count;
+
+        private Keys(int capacity) {
+            this.keys = new String[capacity];
+        }
+
+        private void append(String key) {
+            if (count == keys.length) {
+                // Indexes built before the growth keep the old array, which still holds every key they can see.
+                keys = Arrays.copyOf(keys, count + (count >> 1) + 1);
+            }
+            keys[count++] = key;
+        }
+
+        private static Keys copyOf(String[] prefix, int prefixCount) {
+            Keys copy = new Keys(Math.max(16, prefixCount + (prefixCount >> 1) + 1));
+            System.arraycopy(prefix, 0, copy.keys, 0, prefixCount);
+            copy.count = prefixCount;
+            return copy;
+        }
+    }
+
+    private static final class Collector {
+        private final List<Employee> results = new ArrayList<>();
+        private final ColumnarRoster columns;
+        private final int limit;
+        private int toSkip;
+
+        private Collector(ColumnarRoster columns, int offset, int limit) {
+            this.columns = columns;
+            this.toSkip = offset;
+            this.limit = limit;
+        }
+
+        private void accept(int row) {
+            if (toSkip > 0) {
+                toSkip--;
+            } else {
+                results.add(columns.employee(row));
+            }
+        }
+
+        private boolean isFull() {
+            return results.size() >= limit;
+        }
+    }
+
+    private static final class PostingBuilder {
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.dto.GroupStatistics;
+import com.reliaquest.api.dto.SalaryBucket;
+import com.reliaquest.api.dto.SalaryStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable salary and age analytics of a roster: exact counts, sums and extremes, a {@link SalarySketch} for
+ * percentiles, a fixed-width salary histogram and per-title and per-age-band groups. Everything is gathered in one
+ * pass by an {@link Accumulator}; large rosters are split into chunks that are accumulated in parallel and merged.
+ *
+ * <p>{@link #with(Employee)} and {@link #without(Employee, SalaryIndex)} do not touch the accumulated state. They
+ * append the change to a log shared by the analytics derived from the same base, in amortized constant time, and
+ * {@link #summarize()} replays the log over a copy of the base once per version. After {@link #FOLD_THRESHOLD}
+ * changes the log is folded into a new base, so neither the replay nor the log grows without bound.
+ *
+ * <p>Employees without a salary or age are counted but left out of the breakdowns that need the missing value, as are
+ * employees without a title from the per-title groups.
+ */
+public final class RosterAnalytics {
+
+    public static final int SALARY_BUCKET_WIDTH = 25_000;
+    public static final int AGE_BAND_WIDTH = 10;
+
+    static final int FOLD_THRESHOLD = 1024;
+    private static final int PARALLEL_CHUNK_SIZE = 65_536;
+    private static final Comparator<GroupStatistics> LARGEST_GROUP_FIRST =
+            Comparator.comparingLong(GroupStatistics::getCount).reversed().thenComparing(GroupStatistics::getGroup);
+
+    // Never modified once this instance exists; summaries and folds work on copies.
+    private final Accumulator base;
+    private final Changes shared;
+    // The log array as of this version; later growth replaces it in the shared log but never changes this prefix.
+    private final Change[] changes;
+    private final int changeCount;
+    private final Integer minSalary;
+    private final Integer maxSalary;
+    private volatile EmployeeAnalytics summary;
+
+    private RosterAnalytics(Accumulator base) {
+        this(base, new Changes(), base.minSalary, base.maxSalary);
+    }
+
+    private RosterAnalytics(Accumulator base, Changes shared, Integer minSalary, Integer maxSalary) {
+        this.base = base;
+        this.shared = shared;
+        this.changes = shared.changes;
+        this.changeCount = shared.count;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+
+    public static RosterAnalytics of(ColumnarRoster columns) {
+        int chunks = (columns.rowCount() + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        Accumulator merged = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> accumulate(columns, chunk * PARALLEL_CHUNK_SIZE,
+                        Math.min(columns.rowCount(), (chunk + 1) * PARALLEL_CHUNK_SIZE)))
+                .reduce(Accumulator::merge)
+                .orElseGet(Accumulator::new);
+        return new RosterAnalytics(merged);
+    }
+
+    /**
+     * Accumulator for rosters that are streamed rather than cached; call {@link Accumulator#toAnalytics()} once every
+     * employee has been accepted and do not use the accumulator afterwards.
+     */
+    public static Accumulator accumulator() {
+        return new Accumulator();
+    }
+
+    public RosterAnalytics with(Employee employee) {
+        Integer salary = employee.getEmployeeSalary();
+        return append(Change.of(employee, false),
+                salary == null || (minSalary != null && minSalary <= salary) ? minSalary : salary,
+                salary == null || (maxSalary != null && maxSalary >= salary) ? maxSalary : salary);
+    }
+
+    /**
+     * Removes {@code employee}, taking the new salary extremes from {@code remaining}, the salary index that already
+     * excludes it, since the accumulated state cannot tell what the second-lowest or second-highest salary was.
+     */
+    RosterAnalytics without(Employee employee, SalaryIndex remaining) {
+        return append(Change.of(employee, true), remaining.getLowestSalary().orElse(null),
+                remaining.getHighestSalary().orElse(null));
+    }
+
+    public EmployeeAnalytics summarize() {
+        EmployeeAnalytics current = summary;
+        if (current == null) {
+            current = replay().summarize();
+            summary = current;
+        }
+        return current;
+    }
+
+    private RosterAnalytics append(Change change, Integer updatedMin, Integer updatedMax) {
+        RosterAnalytics updated;
+        synchronized (shared) {
+            Changes target = shared.count == changeCount ? shared : Changes.copyOf(changes, changeCount);
+            target.append(change);
+            updated = new RosterAnalytics(base, target, updatedMin, updatedMax);
+        }
+        return updated.changeCount >= FOLD_THRESHOLD ? new RosterAnalytics(updated.replay()) : updated;
+    }
+
+    /**
+     * The base with this version's changes applied to a copy of it; the base itself when there are none.
+     */
+    private Accumulator replay() {
+        if (changeCount == 0) {
+            return base;
+        }
+        Accumulator state = base.copy();
+        for (int i = 0; i < changeCount; i++) {
+            Change change = changes[i];
+            if (change.removal()) {
+                state.remove(change.salary(), change.age(), change.title());
+            } else {
+                state.add(change.salary(), change.age(), change.title());
+            }
+        }
+        state.minSalary = minSalary;
+        state.maxSalary = maxSalary;
+        return state;
+    }
+
+    private static Accumulator accumulate(ColumnarRoster columns, int from, int to) {
+        Accumulator accumulator = new Accumulator();
+        for (int row = from; row < to; row++) {
+            if (!columns.isLive(row)) {
+                continue;
+            }
+            int titleCode = columns.titleCode(row);
+            accumulator.add(columns.salary(row), columns.age(row),
+                    titleCode == ColumnarRoster.NO_TITLE ? null : columns.title(titleCode));
+        }
+        return accumulator;
+    }
+
+    /**
+     * Mutable single-pass state. Not thread-safe.
+     */
+    public static final class Accumulator implements Consumer<Employee> {
+
+        private final Group overall;
+        private final SalarySketch sketch;
+        private final TreeMap<Integer, Long> histogram;
+        private final Map<String, Group> byTitle;
+        private final TreeMap<Integer, Group> byAgeBand;
+        private Integer minSalary;
+        private Integer maxSalary;
+
+        private Accumulator() {
+            this(new Group(), new SalarySketch(), new TreeMap<>(), new HashMap<>(), new TreeMap<>(), null, null);
+        }
+
+        private Accumulator(Group overall, SalarySketch sketch, TreeMap<Integer, Long> histogram,
+                            Map<String, Group> byTitle, TreeMap<Integer, Group> byAgeBand,
+                            Integer minSalary, Integer maxSalary) {
+            this.overall = overall;
+            this.sketch = sketch;
+            this.histogram = histogram;
+            this.byTitle = byTitle;
+            this.byAgeBand = byAgeBand;
+            this.minSalary = minSalary;
+            this.maxSalary = maxSalary;
+        }
+
+        @Override
+        public void accept(Employee employee) {
+            add(orMissing(employee.getEmployeeSalary()), orMissing(employee.getEmployeeAge()),
+                    employee.getEmployeeTitle());
+        }
+
+        public RosterAnalytics toAnalytics() {
+            return new RosterAnalytics(this);
+        }
+
+        private void add(int salary, int age, String title) {
+            overall.add(salary, age);
+            if (salary != ColumnarRoster.MISSING) {
+                sketch.add(salary);
+                histogram.merge(Math.floorDiv(salary, SALARY_BUCKET_WIDTH), 1L, Long::sum);
+                minSalary = minSalary == null ? salary : Math.min(minSalary, salary);
+                maxSalary = maxSalary == null ? salary : Math.max(maxSalary, salary);
+            }
+            if (title != null) {
+                byTitle.computeIfAbsent(title, ignored -> new Group()).add(salary, age);
+            }
+            if (age != ColumnarRoster.MISSING) {
+                byAgeBand.computeIfAbsent(Math.floorDiv(age, AGE_BAND_WIDTH), ignored -> new Group()).add(salary, age);
+            }
+        }
+
+        private void remove(int salary, int age, String title) {
+            overall.remove(salary, age);
+            if (salary != ColumnarRoster.MISSING) {
+                sketch.remove(salary);
+                histogram.computeIfPresent(Math.floorDiv(salary, SALARY_BUCKET_WIDTH),
+                        (bucket, count) -> count == 1 ? null : count - 1);
+            }
+            if (title != null) {
+                byTitle.computeIfPresent(title, (ignored, group) -> group.remove(salary, age));
+            }
+            if (age != ColumnarRoster.MISSING) {
+                byAgeBand.computeIfPresent(Math.floorDiv(age, AGE_BAND_WIDTH), (band, group) -> group.remove(salary, age));
+            }
+        }
+
+        private Accumulator merge(Accumulator other) {
+            overall.merge(other.overall);
+            sketch.merge(other.sketch);
+            other.histogram.forEach((bucket, count) -> histogram.merge(bucket, count, Long::sum));
+            other.byTitle.forEach((title, group) -> byTitle.merge(title, group, Group::merge));
+            other.byAgeBand.forEach((band, group) -> byAgeBand.merge(band, group, Group::merge));
+            if (other.minSalary != null) {
+                minSalary = minSalary == null ? other.minSalary : Math.min(minSalary, other.minSalary);
+                maxSalary = maxSalary == null ? other.maxSalary : Math.max(maxSalary, other.maxSalary);
+            }
+            return this;
+        }
+
+        private Accumulator copy() {
+            Map<String, Group> titles = new HashMap<>(byTitle.size() * 4 / 3 + 1);
+            byTitle.forEach((title, group) -> titles.put(title, group.copy()));
+            TreeMap<Integer, Group> bands = new TreeMap<>();
+            byAgeBand.forEach((band, group) -> bands.put(band, group.copy()));
+            return new Accumulator(overall.copy(), sketch.copy(), new TreeMap<>(histogram), titles, bands,
+                    minSalary, maxSalary);
+        }
+
+        private EmployeeAnalytics summarize() {
+            List<SalaryBucket> buckets = new ArrayList<>(histogram.size());
+            histogram.forEach((bucket, count) -> buckets.add(new SalaryBucket(bucket * SALARY_BUCKET_WIDTH,
+                    (bucket + 1) * SALARY_BUCKET_WIDTH, count)));
+            List<GroupStatistics> titles = new ArrayList<>(byTitle.size());
+            byTitle.forEach((title, group) -> titles.add(group.toStatistics(title)));
+            titles.sort(LARGEST_GROUP_FIRST);
+            List<GroupStatistics> bands = new ArrayList<>(byAgeBand.size());
+            byAgeBand.forEach((band, group) -> bands.add(group.toStatistics(
+                    band * AGE_BAND_WIDTH + "-" + (band * AGE_BAND_WIDTH + AGE_BAND_WIDTH - 1))));
+            return new EmployeeAnalytics(overall.count, salaryStatistics(), buckets, titles, bands);
+        }
+
+        private SalaryStatistics salaryStatistics() {
+            if (sketch.count() == 0) {
+                return new SalaryStatistics(0, null, null, null, null, null, null);
+            }
+            return new SalaryStatistics(sketch.count(), minSalary, maxSalary, overall.averageSalary(),
+                    percentile(0.5), percentile(0.9), percentile(0.99));
+        }
+
+        /**
+         * Sketch estimate clamped to the exact extremes, so small rosters never report a percentile outside them.
+         */
+        private Integer percentile(double q) {
+            long estimate = Math.round(sketch.quantile(q));
+            return (int) Math.max(minSalary, Math.min(maxSalary, estimate));
+        }
+
+        private static int orMissing(Integer value) {
+            return value == null ? ColumnarRoster.MISSING : value;
+        }
+    }
+
+    private record Change(int salary, int age, String title, boolean removal) {
+
+        private static Change of(Employee employee, boolean removal) {
+            return new Change(Accumulator.orMissing(employee.getEmployeeSalary()),
+                    Accumulator.orMissing(employee.getEmployeeAge()), employee.getEmployeeTitle(), removal);
+        }
+    }
+
+    /**
+     * Append-only change log shared by the analytics derived from one base. Only the version holding every change
+     * appended so far writes to it in place, holding its monitor; deriving from an older version branches into a copy.
+     */
+    private static final class Changes {
+        private Change[] changes = new Change[16];
+        private int count;
+
+        private void append(Change change) {
+            if (count == changes.length) {
+                // Versions built before the growth keep the old array, which still holds every change they can see.
+                changes = Arrays.copyOf(changes, count * 2);
+            }
+            changes[count++] = change;
+        }
+
+        private static Changes copyOf(Change[] prefix, int prefixCount) {
+            Changes copy = new Changes();
+            copy.changes = Arrays.copyOf(prefix, Math.max(16, prefixCount * 2));
+            copy.count = prefixCount;
+            return copy;
+        }
+    }
+
+    private static final class Group {
+
+        private long count;
+        private long salaryCount;
+        private long salarySum;
+        private long ageCount;
+        private long ageSum;
+
+        private void add(int salary, int age) {
+            count++;
+            if (salary != ColumnarRoster.MISSING) {
+                salaryCount++;
+                salarySum += salary;
+            }
+            if (age != ColumnarRoster.MISSING) {
+                ageCount++;
+                ageSum += age;
+            }
+        }
+
+        /**
+         * Returns {@code null} once the group is empty, so map updates drop it.
+         */
+        private Group remove(int salary, int age) {
+            count--;
+            if (salary != ColumnarRoster.MISSING) {
+                salaryCount--;
+                salarySum -= salary;
+            }
+            if (age != ColumnarRoster.MISSING) {
+                ageCount--;
+                ageSum -= age;
+            }
+            return count == 0 ? null : this;
+        }
+
+        private Group merge(Group other) {
+            count += other.count;
+            salaryCount += other.salaryCount;
+            salarySum += other.salarySum;
+            ageCount += other.ageCount;
+            ageSum += other.ageSum;
+            return this;
+        }
+
+        private Group copy() {
+            return new Group().merge(this);
+        }
+
+        private Double averageSalary() {
+            return salaryCount == 0 ? null : (double) salarySum / salaryCount;
+        }
+
+        private GroupStatistics toStatistics(String name) {
+            return new GroupStatistics(name, count, averageSalary(), ageCount == 0 ? null : (double) ageSum / ageCount);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Immutable salary extremes of the roster: the {@link #CAPACITY} highest earners and the {@link #CAPACITY} lowest known
+ * salaries, each kept as an exact prefix of the full ordering. The highest salary and the top earner names are
+ * precomputed, so reads are constant time. {@link #with(Employee)} and {@link #without(Employee, Supplier)} adjust the
+ * bounded lists in O(K); the roster is only rescanned when deletes have drained a list below
+ * {@link #TOP_EARNERS_LIMIT} members while the roster still holds more. Employees with equal salaries keep roster order.
+ */
+public final class SalaryIndex {
+
+    public static final int TOP_EARNERS_LIMIT = 10;
+    // Headroom above the ten that are served, so most deletes of a top earner drop it from the list instead of
+    // forcing a rescan.
+    static final int CAPACITY = 32;
+
+    private static final Comparator<Employee> BY_SALARY_DESC =
+            Comparator.comparing(Employee::getEmployeeSalary, Comparator.nullsLast(Comparator.reverseOrder()));
+    private static final Comparator<Employee> BY_SALARY_ASC =
+            Comparator.comparing(Employee::getEmployeeSalary, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Ranking highest;
+    private final Ranking lowest;
+    private final int size;
+    private final List<String> topEarnerNames;
+
+    private SalaryIndex(Ranking highest, Ranking lowest, int size) {
+        this.highest = highest;
+        this.lowest = lowest;
+        this.size = size;
+        List<String> names = new ArrayList<>(Math.min(TOP_EARNERS_LIMIT, highest.members.length));
+        for (int i = 0; i < highest.members.length && i < TOP_EARNERS_LIMIT; i++) {
+            names.add(highest.members[i].getEmployeeName());
+        }
+        this.topEarnerNames = Collections.unmodifiableList(names);
+    }
+
+    public static SalaryIndex of(List<Employee> employees) {
+        return of(ColumnarRoster.of(employees));
+    }
+
+    /**
+     * Selects both extremes in one pass over the salary column. Each row becomes one {@code long} key, the salary (or
+     * its inverse, for the highest earners) in the high half and the row number in the low half, so plain comparisons
+     * order by salary and then roster order, with missing salaries last, without a comparator or unboxing.
+     */
+    public static SalaryIndex of(ColumnarRoster columns) {
+        KeySelection highest = new KeySelection();
+        KeySelection lowest = new KeySelection();
+        int known = 0;
+        for (int row = 0; row < columns.rowCount(); row++) {
+            if (!columns.isLive(row)) {
+                continue;
+            }
+            int salary = columns.salary(row);
+            highest.offer(((long) ~salary << 32) | row);
+            if (salary != ColumnarRoster.MISSING) {
+                lowest.offer(((long) salary << 32) | row);
+                known++;
+            }
+        }
+        return new SalaryIndex(new Ranking(highest.resolve(columns), columns.size()),
+                new Ranking(lowest.resolve(columns), known), columns.size());
+    }
+
+    public Optional<Integer> getHighestSalary() {
+        return highest.members.length == 0 ? Optional.empty() : Optional.ofNullable(highest.members[0].getEmployeeSalary());
+    }
+
+    /**
+     * Lowest known salary; employees without a salary are not ranked here.
+     */
+    public Optional<Integer> getLowestSalary() {
+        return lowest.members.length == 0 ? Optional.empty() : Optional.of(lowest.members[0].getEmployeeSalary());
+    }
+
+    public List<String> getTopEarnerNames() {
+        return topEarnerNames;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public SalaryIndex with(Employee employee) {
+        Ranking updatedLowest = employee.getEmployeeSalary() == null ? lowest : lowest.with(employee, BY_SALARY_ASC);
+        return new SalaryIndex(highest.with(employee, BY_SALARY_DESC), updatedLowest, size + 1);
+    }
+
+    /**
+     * Removes {@code employee}. When that leaves either list too short to answer from, the index is replaced by
+     * {@code rebuild}, which must index the roster without {@code employee}.
+     */
+    public SalaryIndex without(Employee employee, Supplier<SalaryIndex> rebuild) {
+        Ranking updatedHighest = highest.without(employee, BY_SALARY_DESC);
+        Ranking updatedLowest = employee.getEmployeeSalary() == null ? lowest : lowest.without(employee, BY_SALARY_ASC);
+        if (updatedHighest == null || updatedLowest == null) {
+            return rebuild.get();
+        }
+        return new SalaryIndex(updatedHighest, updatedLowest, size - 1);
+    }
+
+    /**
+     * The first {@code members.length} employees of one salary ordering, out of {@code eligible} employees that
+     * ordering covers. Only whether the prefix is the whole ordering matters, not who the unlisted employees are.
+     */
+    private static final class Ranking {
+
+        private final Employee[] members;
+        private final int eligible;
+
+        private Ranking(Employee[] members, int eligible) {
+            this.members = members;
+            this.eligible = eligible;
+        }
+
+        private Ranking with(Employee employee, Comparator<Employee> order) {
+            int position = upperBound(employee, order);
+            boolean complete = members.length == eligible;
+            if (position == members.length && (!complete || members.length == CAPACITY)) {
+                // Ranks below every member, and an unlisted employee may rank between them.
+                return new Ranking(members, eligible + 1);
+            }
+            int length = Math.min(CAPACITY, members.length + 1);
+            Employee[] updated = new Employee[length];
+            System.arraycopy(members, 0, updated, 0, position);
+            updated[position] = employee;
+            System.arraycopy(members, position, updated, position + 1, length - position - 1);
+            return new Ranking(updated, eligible + 1);
+        }
+
+        /**
+         * Returns {@code null} when the employee was listed and the shortened prefix no longer covers the top
+         * {@link #TOP_EARNERS_LIMIT} of the remaining employees.
+         */
+        private Ranking without(Employee employee, Comparator<Employee> order) {
+            int position = indexOf(employee, order);
+            if (position < 0) {
+                return new Ranking(members, eligible - 1);
+            }
+            if (members.length - 1 < TOP_EARNERS_LIMIT && members.length - 1 < eligible - 1) {
+                return null;
+            }
+            Employee[] updated = new Employee[members.length - 1];
+            System.arraycopy(members, 0, updated, 0, position);
+            System.arraycopy(members, position + 1, updated, position, members.length - position - 1);
+            return new Ranking(updated, eligible - 1);
+        }
+
+        private int upperBound(Employee employee, Comparator<Employee> order) {
+            int low = 0;
+            int high = members.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (order.compare(members[mid], employee) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int indexOf(Employee employee, Comparator<Employee> order) {
+            for (int i = upperBound(employee, order) - 1; i >= 0 && order.compare(members[i], employee) == 0; i--) {
+                if (Objects.equals(members[i].getId(), employee.getId())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Keeps the {@link #CAPACITY} smallest keys offered, in ascending order.
+     */
+    private static final class KeySelection {
+
+        private final long[] keys = new long[CAPACITY];
+        private int size;
+
+        private void offer(long key) {
+            if (size == CAPACITY && key >= keys[CAPACITY - 1]) {
+                return;
+            }
+            int position = size == CAPACITY ? CAPACITY - 1 : size++;
+            while (position > 0 && keys[position - 1] > key) {
+                keys[position] = keys[position - 1];
+                position--;
+            }
+            keys[position] = key;
+        }
+
+        private Employee[] resolve(ColumnarRoster columns) {
+            Employee[] members = new Employee[size];
+            for (int i = 0; i < size; i++) {
+                members[i] = columns.employee((int) keys[i]);
+            }
+            return members;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.cache;
+
+import java.util.Arrays;
+
+/**
+ * Quantile sketch over salaries with a fixed relative error. Values fall into logarithmic buckets whose bounds grow by
+ * {@code (1 + a) / (1 - a)}, so any reported quantile is within {@link #RELATIVE_ACCURACY} of a value that really sits
+ * at that rank. Unlike t-digest, a bucketed sketch can forget a value again, which is what lets the roster analytics
+ * follow local deletes; two sketches merge by adding their bucket counts.
+ *
+ * <p>Salaries below one count as zero. Not thread-safe; {@link RosterAnalytics} copies before it mutates.
+ */
+final class SalarySketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int BUCKETS = bucket(Integer.MAX_VALUE) + 1;
+
+    private final int[] counts;
+    private long zeroCount;
+    private long count;
+
+    SalarySketch() {
+        this(new int[BUCKETS], 0, 0);
+    }
+
+    private SalarySketch(int[] counts, long zeroCount, long count) {
+        this.counts = counts;
+        this.zeroCount = zeroCount;
+        this.count = count;
+    }
+
+    void add(int salary) {
+        if (salary < 1) {
+            zeroCount++;
+        } else {
+            counts[bucket(salary)]++;
+        }
+        count++;
+    }
+
+    void remove(int salary) {
+        if (salary < 1) {
+            zeroCount--;
+        } else {
+            counts[bucket(salary)]--;
+        }
+        count--;
+    }
+
+    void merge(SalarySketch other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    SalarySketch copy() {
+        return new SalarySketch(Arrays.copyOf(counts, BUCKETS), zeroCount, count);
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * Approximate nearest-rank value at quantile {@code q} in {@code [0, 1]}, i.e. the value of the
+     * {@code ceil(q * count)}-th smallest salary; {@code Double.NaN} when the sketch is empty.
+     */
+    double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(0, (long) Math.ceil(q * count) - 1);
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return 2 * Math.pow(GAMMA, i) / (GAMMA + 1);
+            }
+        }
+        throw new IllegalStateException("Sketch counts do not add up to " + count);
+    }
+
+    private static int bucket(int salary) {
+        return (int) Math.ceil(Math.log(salary) / LOG_GAMMA);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "employee.cache")
+@Getter
+@Setter
+public class EmployeeCacheConfigs {
+    private boolean enabled = true;
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
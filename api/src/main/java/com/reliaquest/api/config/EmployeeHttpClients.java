@@ -0,0 +1,81 @@
+package com.reliaquest.api.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Builds the outbound {@link ClientHttpRequestFactory} used to talk to the employee server.
+ *
+ * <p>HTTP/1.1 uses a pooled Apache HttpClient with keep-alive, idle eviction and gzip negotiation. HTTP/2 uses the
+ * JDK client, which multiplexes over a single connection but does not negotiate gzip.
+ */
+public final class EmployeeHttpClients {
+
+    private EmployeeHttpClients() {
+    }
+
+    public static ClientHttpRequestFactory requestFactory(EmployeeUrlConfigs.Http http) {
+        if (http.getProtocol() == EmployeeUrlConfigs.Protocol.HTTP_2) {
+            return http2RequestFactory(http);
+        }
+        return pooledRequestFactory(http);
+    }
+
+    public static HttpComponentsClientHttpRequestFactory pooledRequestFactory(EmployeeUrlConfigs.Http http) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(http.getConnectTimeout()))
+                        .setSocketTimeout(timeout(http.getReadTimeout()))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(http.getConnectionRequestTimeout()))
+                .setResponseTimeout(timeout(http.getReadTimeout()))
+                .setConnectionKeepAlive(timeValue(http.getKeepAlive()))
+                .setContentCompressionEnabled(http.isCompression())
+                .build();
+
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(timeValue(http.getIdleEviction()));
+        if (!http.isCompression()) {
+            httpClientBuilder.disableContentCompression();
+        }
+        return new HttpComponentsClientHttpRequestFactory(httpClientBuilder.build());
+    }
+
+    public static JdkClientHttpRequestFactory http2RequestFactory(EmployeeUrlConfigs.Http http) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(http.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(http.getReadTimeout());
+        return requestFactory;
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
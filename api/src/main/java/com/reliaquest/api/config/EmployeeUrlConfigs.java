@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "employee")
 @Getter
@@ -12,4 +14,53 @@ import org.springframework.context.annotation.Configuration;
 public class EmployeeUrlConfigs {
     private String baseUrl;
     private String employeeResource;
+    // After a 405 or a 5xx from DELETE /{id}, deletes go by name until this much time has passed, then the id route is retried.
+    private Duration idDeleteReprobeInterval = Duration.ofMinutes(5);
+    private Http http = new Http();
+    private Throttle throttle = new Throttle();
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Http {
+        private Protocol protocol = Protocol.HTTP_1_1;
+        private int maxConnections = 50;
+        private int maxConnectionsPerRoute = 20;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration idleEviction = Duration.ofSeconds(30);
+        private boolean compression = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Throttle {
+        private boolean enabled = true;
+        private double initialRate = 5.0;
+        private double minRate = 0.5;
+        private double maxRate = 100.0;
+        private double additiveIncrease = 1.0;
+        private double multiplicativeDecrease = 0.5;
+        private int maxRetries = 3;
+        private Duration baseBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(2);
+        private Duration deadline = Duration.ofSeconds(3);
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        private boolean enabled = false;
+        private Duration window = Duration.ofMillis(5);
+        private int maxSize = 100;
+        // Longest a single create or delete waits for its batch, including the time queued behind earlier batches.
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    public enum Protocol {
+        HTTP_1_1,
+        HTTP_2
+    }
 }
@@ -0,0 +1,96 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.integration.AdaptiveThrottle;
+import com.reliaquest.api.integration.EmployeeIntegration;
+import com.reliaquest.api.integration.UpstreamMetrics;
+import com.reliaquest.observability.OperationTaggingObservationConvention;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer instrumentation, exported in Prometheus format at {@code /actuator/prometheus}.
+ *
+ * <p>Every controller operation is timed by Spring's {@code http.server.requests}, which the shared
+ * {@link OperationTaggingObservationConvention} tags with an {@code operation} (the handler method name); upstream
+ * exchanges are timed by {@link UpstreamMetrics}. The binder below exposes the counters the cache, single-flight,
+ * conditional-request and throttle components already keep, so scraping reads them rather than the hot path updating
+ * a second set.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public UpstreamMetrics upstreamMetrics(MeterRegistry meterRegistry) {
+        return new UpstreamMetrics(meterRegistry);
+    }
+
+    @Bean
+    public ServerRequestObservationConvention operationTaggingObservationConvention() {
+        return new OperationTaggingObservationConvention();
+    }
+
+    @Bean
+    public MeterBinder employeeMeterBinder(EmployeeSnapshotCache employeeSnapshotCache, EmployeeIntegration employeeIntegration,
+                                           AdaptiveThrottle adaptiveThrottle) {
+        return registry -> {
+            Gauge.builder("employee.roster.size", employeeSnapshotCache, cache -> cache.getStats().size())
+                    .description("Employees in the cached roster snapshot")
+                    .register(registry);
+            TimeGauge.builder("employee.cache.age", employeeSnapshotCache, TimeUnit.MILLISECONDS,
+                            cache -> cache.getStats().age().toMillis())
+                    .description("Time since the roster snapshot was loaded or revalidated")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.requests", employeeSnapshotCache, cache -> cache.getStats().hits())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.requests", employeeSnapshotCache, cache -> cache.getStats().misses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.refreshes", employeeSnapshotCache, cache -> cache.getStats().refreshes())
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.refreshes", employeeSnapshotCache, cache -> cache.getStats().replayedRefreshes())
+                    .tag("result", "replayed")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.refreshes", employeeSnapshotCache, cache -> cache.getStats().refreshFailures())
+                    .tag("result", "failure")
+                    .register(registry);
+
+            FunctionCounter.builder("employee.upstream.rate.limited", adaptiveThrottle, AdaptiveThrottle::getThrottledCount)
+                    .description("429 responses received from the employee server")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.retries", adaptiveThrottle, AdaptiveThrottle::getRetryCount)
+                    .description("Upstream calls retried after a 429")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.shed", adaptiveThrottle, AdaptiveThrottle::getShedCount)
+                    .description("Upstream calls rejected locally because the predicted wait exceeded the deadline")
+                    .register(registry);
+            Gauge.builder("employee.upstream.permitted.rate", adaptiveThrottle, AdaptiveThrottle::getCurrentRate)
+                    .description("Requests per second the throttle currently allows")
+                    .register(registry);
+
+            FunctionCounter.builder("employee.upstream.collapsed", employeeIntegration, EmployeeIntegration::getCollapsedCallCount)
+                    .description("Calls that shared an in-flight upstream fetch instead of making their own")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.conditional.requests", employeeIntegration,
+                            integration -> integration.getConditionalStats().conditionalRequests())
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.not.modified", employeeIntegration,
+                            integration -> integration.getConditionalStats().notModified())
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.bytes.saved", employeeIntegration,
+                            integration -> integration.getConditionalStats().bytesSaved())
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
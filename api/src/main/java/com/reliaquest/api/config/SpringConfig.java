@@ -1,15 +1,58 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.integration.AdaptiveThrottle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @Configuration
+@EnableScheduling
 public class SpringConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ClientHttpRequestFactory employeeRequestFactory(EmployeeUrlConfigs employeeUrlConfigs) {
+        return EmployeeHttpClients.requestFactory(employeeUrlConfigs.getHttp());
+    }
+
+    /**
+     * Built from Boot's builder so that every exchange is observed: timed as http.client.requests, traced as a
+     * client span and sent with a W3C traceparent header the server joins.
+     */
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, ClientHttpRequestFactory employeeRequestFactory) {
+        return restTemplateBuilder.requestFactory(() -> employeeRequestFactory).build();
+    }
+
+    /**
+     * Adds strong ETags to the /employee responses and answers a matching If-None-Match with 304, so downstream
+     * callers skip the body when nothing changed. The NDJSON stream opts out to stay unbuffered.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> employeeEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(false);
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/employee", "/employee/*");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<SampledAccessLogFilter> sampledAccessLogFilter(
+            @Value("${logging.access.sample-rate:0}") double sampleRate) {
+        FilterRegistrationBean<SampledAccessLogFilter> registration = new FilterRegistrationBean<>(new SampledAccessLogFilter(sampleRate));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    @Bean
+    public AdaptiveThrottle adaptiveThrottle(EmployeeUrlConfigs employeeUrlConfigs) {
+        return new AdaptiveThrottle(employeeUrlConfigs.getThrottle());
     }
 
 }
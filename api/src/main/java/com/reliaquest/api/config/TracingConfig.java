@@ -0,0 +1,46 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.observability.JsonLinesSpanExporter;
+import io.micrometer.common.KeyValue;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Tracing through Micrometer Tracing's OpenTelemetry bridge. Incoming requests, {@link
+ * com.reliaquest.api.service.impl.EmployeeService} calls ({@code @Observed}) and RestTemplate exchanges each become a
+ * span, and the W3C trace context is sent to the server so its spans join the same trace. Spans go to an OTLP
+ * collector when {@code management.otlp.tracing.endpoint} is set and to a local JSON-lines file when
+ * {@code tracing.file.enabled} is.
+ */
+@Configuration
+public class TracingConfig {
+
+    // The integration passes concrete URLs, so the RestTemplate would report one uri per employee id.
+    private static final Pattern EMPLOYEE_ID_SEGMENT = Pattern.compile("(/employee)/(?!batch$)[^/?]+");
+
+    @Bean
+    public ClientRequestObservationConvention employeeClientRequestObservationConvention() {
+        return new DefaultClientRequestObservationConvention() {
+            @Override
+            protected KeyValue uri(ClientRequestObservationContext context) {
+                KeyValue uri = super.uri(context);
+                return KeyValue.of(uri.getKey(), EMPLOYEE_ID_SEGMENT.matcher(uri.getValue()).replaceFirst("$1/{id}"));
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.file", name = "enabled", havingValue = "true")
+    public SpanExporter jsonLinesSpanExporter(@Value("${tracing.file.path}") Path path) {
+        return new JsonLinesSpanExporter(path);
+    }
+}
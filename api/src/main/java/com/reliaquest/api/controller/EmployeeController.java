@@ -1,87 +1,287 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.dto.EmployeeBatchResult;
 import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.GroupStatistics;
+import com.reliaquest.api.dto.SalaryBucket;
+import com.reliaquest.api.dto.SalaryStatistics;
+import com.reliaquest.api.integration.EmployeeQuery;
 import com.reliaquest.api.service.IEmployeeService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/employee")
 public class EmployeeController implements IEmployeeController<Employee, EmployeeInput> {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
+    private static final int STREAM_FLUSH_INTERVAL = 64;
     private final IEmployeeService employeeService;
+    private final ObjectMapper streamMapper;
+    private final ObjectWriter employeeWriter;
 
-    public EmployeeController(IEmployeeService employeeService) {
+    public EmployeeController(IEmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        // A copy of the application's mapper, so these settings stay local to the NDJSON stream: the container owns the
+        // response stream, and NdjsonEmployeeWriter decides when to flush.
+        this.streamMapper = objectMapper.copy()
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+                .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+        this.employeeWriter = streamMapper.writerFor(Employee.class);
     }
 
     @Override
     @GetMapping()
     public ResponseEntity<List<Employee>> getAllEmployees() {
-        logger.info("Fetching all employees.");
+        logger.debug("Fetching all employees.");
         List<Employee> employees = employeeService.getAllEmployees();
-        logger.info("Successfully retrieved {} employees.", employees.size());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully retrieved {} employees.", employees.size());
+        }
         return new ResponseEntity<>(employees, HttpStatus.OK);
     }
 
+    /**
+     * Opt-in streaming variant of {@link #getAllEmployees()} for clients that send {@code Accept: application/x-ndjson}.
+     * Employees are written one per line as they are produced and flushed every few dozen lines, so the roster is never buffered
+     * as a whole. Clients asking for JSON (or anything else) keep getting the default array response.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(HttpServletRequest request) {
+        logger.debug("Streaming all employees as NDJSON.");
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonEmployeeWriter writer = new NdjsonEmployeeWriter(employeeWriter,
+                    streamMapper.getFactory().createGenerator(outputStream))) {
+                int streamed = employeeService.streamAllEmployees(writer);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Successfully streamed {} employees.", streamed);
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Override
     @GetMapping("/search/{searchString}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
-        logger.info("Searching employees with name containing: '{}'.", searchString);
+        logger.debug("Searching employees with name containing: '{}'.", searchString);
         List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString);
-        logger.info("Found {} employees matching the search query: '{}'.", employees.size(), searchString);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found {} employees matching the search query: '{}'.", employees.size(), searchString);
+        }
+        return new ResponseEntity<>(employees, HttpStatus.OK);
+    }
+
+    /**
+     * An {@code offset} without a {@code limit} pages from there with the largest page size, rather than falling back to
+     * the unpaged search and silently ignoring the offset.
+     */
+    @GetMapping(value = "/search/{searchString}", params = {"offset", "!limit"})
+    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString,
+                                                                   @RequestParam int offset) {
+        return getEmployeesByNameSearch(searchString, offset, EmployeeQuery.MAX_PAGE_SIZE);
+    }
+
+    @GetMapping(value = "/search/{searchString}", params = "limit")
+    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString,
+                                                                   @RequestParam(defaultValue = "0") int offset,
+                                                                   @RequestParam int limit) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Searching employees with name containing: '{}', offset: {}, limit: {}.", searchString, offset, limit);
+        }
+        int pageSize = Math.min(limit, EmployeeQuery.MAX_PAGE_SIZE);
+        List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString, offset, pageSize);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found {} employees matching the search query: '{}'.", employees.size(), searchString);
+        }
         return new ResponseEntity<>(employees, HttpStatus.OK);
     }
 
+    /**
+     * Filtered listing answered by the server's indexes: an optional name substring, salary and age ranges (inclusive)
+     * and an exact title. Pages are ordered by id; pass the previous page's {@code next_cursor} as {@code cursor}.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<EmployeePage> findEmployees(@RequestParam(required = false) String name,
+                                                      @RequestParam(required = false) Integer minSalary,
+                                                      @RequestParam(required = false) Integer maxSalary,
+                                                      @RequestParam(required = false) Integer minAge,
+                                                      @RequestParam(required = false) Integer maxAge,
+                                                      @RequestParam(required = false) String title,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer limit) {
+        int pageSize = limit == null ? EmployeeQuery.MAX_PAGE_SIZE : Math.min(limit, EmployeeQuery.MAX_PAGE_SIZE);
+        EmployeePage page = employeeService.findEmployees(name, minSalary, maxSalary, minAge, maxAge, title, cursor,
+                pageSize);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found {} employees, next cursor: {}.", page.getEmployees().size(), page.getNextCursor());
+        }
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
-        logger.info("Fetching details for employee with ID: '{}'.", id);
+        logger.debug("Fetching details for employee with ID: '{}'.", id);
         Employee employee = employeeService.getEmployeeById(id);
-        logger.info("Successfully retrieved details for employee with ID: '{}'.", id);
+        logger.debug("Successfully retrieved details for employee with ID: '{}'.", id);
         return new ResponseEntity<>(employee, HttpStatus.OK);
     }
 
     @Override
     @GetMapping("/highestSalary")
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        logger.info("Fetching the highest salary among all employees.");
+        logger.debug("Fetching the highest salary among all employees.");
         Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
-        logger.info("Highest salary retrieved: {}", highestSalary);
+        logger.debug("Highest salary retrieved: {}", highestSalary);
         return new ResponseEntity<>(highestSalary, HttpStatus.OK);
     }
 
     @Override
     @GetMapping("/topTenHighestEarningEmployeeNames")
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        logger.info("Fetching the names of the top 10 highest-earning employees.");
+        logger.debug("Fetching the names of the top 10 highest-earning employees.");
         List<String> topEarningEmployees = employeeService.getTopTenHighestEarningEmployeeNames();
-        logger.info("Successfully retrieved top 10 highest-earning employees.");
+        logger.debug("Successfully retrieved top 10 highest-earning employees.");
         return new ResponseEntity<>(topEarningEmployees, HttpStatus.OK);
     }
 
+    /**
+     * Salary distribution, salary histogram and per-title and per-age-band breakdowns in one response, so dashboards
+     * no longer need to pull the whole roster and aggregate it themselves.
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<EmployeeAnalytics> getEmployeeAnalytics() {
+        logger.debug("Fetching employee analytics.");
+        EmployeeAnalytics analytics = employeeService.getEmployeeAnalytics();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully computed analytics over {} employees.", analytics.getEmployeeCount());
+        }
+        return new ResponseEntity<>(analytics, HttpStatus.OK);
+    }
+
+    @GetMapping("/analytics/salary")
+    public ResponseEntity<SalaryStatistics> getSalaryStatistics() {
+        logger.debug("Fetching salary statistics.");
+        return new ResponseEntity<>(employeeService.getEmployeeAnalytics().getSalary(), HttpStatus.OK);
+    }
+
+    @GetMapping("/analytics/salaryHistogram")
+    public ResponseEntity<List<SalaryBucket>> getSalaryHistogram() {
+        logger.debug("Fetching salary histogram.");
+        return new ResponseEntity<>(employeeService.getEmployeeAnalytics().getSalaryHistogram(), HttpStatus.OK);
+    }
+
+    @GetMapping("/analytics/titles")
+    public ResponseEntity<List<GroupStatistics>> getTitleStatistics() {
+        logger.debug("Fetching per-title statistics.");
+        return new ResponseEntity<>(employeeService.getEmployeeAnalytics().getByTitle(), HttpStatus.OK);
+    }
+
+    @GetMapping("/analytics/ageBands")
+    public ResponseEntity<List<GroupStatistics>> getAgeBandStatistics() {
+        logger.debug("Fetching per-age-band statistics.");
+        return new ResponseEntity<>(employeeService.getEmployeeAnalytics().getByAgeBand(), HttpStatus.OK);
+    }
+
     @Override
     @PostMapping()
     public ResponseEntity<Employee> createEmployee(@RequestBody EmployeeInput employeeInput) {
-        logger.info("Creating a new employee with name: '{}', title: '{}'.", employeeInput.getName(), employeeInput.getTitle());
+        logger.debug("Creating a new employee with name: '{}', title: '{}'.", employeeInput.getName(), employeeInput.getTitle());
         Employee employee = employeeService.createEmployee(employeeInput.getName(), employeeInput.getSalary(), employeeInput.getAge(), employeeInput.getTitle());
-        logger.info("Successfully created employee: '{}'.", employee.getEmployeeName());
+        logger.debug("Successfully created employee: '{}'.", employee.getEmployeeName());
         return new ResponseEntity<>(employee, HttpStatus.CREATED);
     }
 
     @Override
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
-        logger.info("Deleting employee with ID: '{}'.", id);
+        logger.debug("Deleting employee with ID: '{}'.", id);
         String employeeName = employeeService.deleteEmployeeById(id);
-        logger.info("Successfully deleted employee with ID: '{}', Name: '{}'.", id, employeeName);
+        logger.debug("Successfully deleted employee with ID: '{}', Name: '{}'.", id, employeeName);
         return new ResponseEntity<>(employeeName, HttpStatus.OK);
     }
+
+    /**
+     * Creates several employees in one upstream round trip. Each item gets its own result, so invalid entries are
+     * reported without failing the rest of the batch.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<EmployeeBatchResult>> createEmployees(@RequestBody List<EmployeeInput> employeeInputs) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Creating a batch of {} employees.", employeeInputs.size());
+        }
+        List<EmployeeBatchResult> results = employeeService.createEmployees(employeeInputs);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully processed batch of {} employees.", results.size());
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<EmployeeBatchResult>> deleteEmployeesById(@RequestBody List<String> ids) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Deleting a batch of {} employees.", ids.size());
+        }
+        List<EmployeeBatchResult> results = employeeService.deleteEmployeesById(ids);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully processed batch delete of {} employees.", results.size());
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    /**
+     * Writes each employee as one JSON line and flushes every few dozen lines so the first chunk reaches
+     * the client early without paying a flush per record.
+     */
+    private static final class NdjsonEmployeeWriter implements Consumer<Employee>, AutoCloseable {
+
+        private final ObjectWriter employeeWriter;
+        private final JsonGenerator generator;
+        private int pending;
+
+        private NdjsonEmployeeWriter(ObjectWriter employeeWriter, JsonGenerator generator) {
+            this.employeeWriter = employeeWriter;
+            this.generator = generator;
+        }
+
+        @Override
+        public void accept(Employee employee) {
+            try {
+                employeeWriter.writeValue(generator, employee);
+                generator.writeRaw('\n');
+                if (++pending == STREAM_FLUSH_INTERVAL) {
+                    pending = 0;
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeAnalytics {
+
+    @JsonProperty("employee_count")
+    private long employeeCount;
+
+    @JsonProperty("salary")
+    private SalaryStatistics salary;
+
+    @JsonProperty("salary_histogram")
+    private List<SalaryBucket> salaryHistogram;
+
+    @JsonProperty("by_title")
+    private List<GroupStatistics> byTitle;
+
+    @JsonProperty("by_age_band")
+    private List<GroupStatistics> byAgeBand;
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeBatchResult {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("status")
+    private Status status;
+
+    @JsonProperty("data")
+    private Employee data;
+
+    @JsonProperty("error")
+    private String error;
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a filtered listing, ordered by employee id. {@code nextCursor} is passed back as {@code cursor} to fetch
+ * the following page and is {@code null} on the last one.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeePage {
+
+    @JsonProperty("employees")
+    private List<Employee> employees;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+}
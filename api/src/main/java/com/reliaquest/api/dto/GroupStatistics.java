@@ -0,0 +1,24 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GroupStatistics {
+
+    @JsonProperty("group")
+    private String group;
+
+    @JsonProperty("count")
+    private long count;
+
+    @JsonProperty("average_salary")
+    private Double averageSalary;
+
+    @JsonProperty("average_age")
+    private Double averageAge;
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryBucket {
+
+    /** Inclusive lower bound. */
+    @JsonProperty("from")
+    private int from;
+
+    /** Exclusive upper bound. */
+    @JsonProperty("to")
+    private int to;
+
+    @JsonProperty("count")
+    private long count;
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Salary distribution of the roster. Minimum, maximum and mean are exact; the median and the upper percentiles come
+ * from a sketch and are accurate to within one percent. All fields are null when no employee has a salary.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryStatistics {
+
+    @JsonProperty("count")
+    private long count;
+
+    @JsonProperty("min")
+    private Integer min;
+
+    @JsonProperty("max")
+    private Integer max;
+
+    @JsonProperty("mean")
+    private Double mean;
+
+    @JsonProperty("median")
+    private Integer median;
+
+    @JsonProperty("p90")
+    private Integer p90;
+
+    @JsonProperty("p99")
+    private Integer p99;
+}
@@ -0,0 +1,186 @@
+package com.reliaquest.api.integration;
+
+import com.reliaquest.api.config.EmployeeUrlConfigs;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Client-side AIMD limiter for calls to the employee server.
+ *
+ * <p>Calls are paced at the current permitted rate. Each success raises the rate additively, each 429 cuts it
+ * multiplicatively and pauses the queue (honouring {@code Retry-After} when present). A throttled call is retried
+ * with jittered exponential backoff while the caller's deadline allows, and a call whose predicted queue wait
+ * already exceeds the deadline is shed immediately instead of waiting to fail.
+ */
+public class AdaptiveThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveThrottle.class);
+    private static final String RATE_LIMIT_MESSAGE = "Too many requests. Please try again later.";
+
+    private final EmployeeUrlConfigs.Throttle settings;
+    private final Ticker ticker;
+
+    private double rate;
+    private long nextSlotNanos;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    public AdaptiveThrottle(EmployeeUrlConfigs.Throttle settings) {
+        this(settings, Ticker.SYSTEM);
+    }
+
+    public AdaptiveThrottle(EmployeeUrlConfigs.Throttle settings, Ticker ticker) {
+        this.settings = settings;
+        this.ticker = ticker;
+        this.rate = settings.getInitialRate();
+        this.nextSlotNanos = ticker.nanoTime();
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!settings.isEnabled()) {
+            return call.get();
+        }
+        long deadlineNanos = ticker.nanoTime() + settings.getDeadline().toNanos();
+        int attempt = 0;
+        while (true) {
+            awaitPermit(deadlineNanos);
+            try {
+                T result = call.get();
+                onSuccess();
+                return result;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                long backoffNanos = onThrottled(retryAfterNanos(e.getResponseHeaders()), attempt);
+                if (attempt >= settings.getMaxRetries() || ticker.nanoTime() + backoffNanos > deadlineNanos) {
+                    throw e;
+                }
+                attempt++;
+                retries.increment();
+                logger.debug("Upstream throttled the request, retry {} in {} ms.", attempt, TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+                sleep(backoffNanos);
+            }
+        }
+    }
+
+    public synchronized double getCurrentRate() {
+        return rate;
+    }
+
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    public long getShedCount() {
+        return shed.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    private void awaitPermit(long deadlineNanos) {
+        long slotNanos = reserveSlot(deadlineNanos);
+        if (slotNanos < 0) {
+            shed.increment();
+            logger.warn("Shedding upstream call, predicted wait exceeds the deadline.");
+            throw new RateLimitExceededException(RATE_LIMIT_MESSAGE);
+        }
+        admitted.increment();
+        sleep(slotNanos - ticker.nanoTime());
+    }
+
+    private synchronized long reserveSlot(long deadlineNanos) {
+        long slotNanos = Math.max(ticker.nanoTime(), nextSlotNanos);
+        if (slotNanos > deadlineNanos) {
+            return -1;
+        }
+        nextSlotNanos = slotNanos + intervalNanos();
+        return slotNanos;
+    }
+
+    private synchronized void onSuccess() {
+        rate = Math.min(settings.getMaxRate(), rate + settings.getAdditiveIncrease() / rate);
+    }
+
+    private synchronized long onThrottled(long retryAfterNanos, int attempt) {
+        throttled.increment();
+        rate = Math.max(settings.getMinRate(), rate * settings.getMultiplicativeDecrease());
+        long backoffNanos = Math.max(retryAfterNanos, jitteredBackoffNanos(attempt));
+        nextSlotNanos = Math.max(nextSlotNanos, ticker.nanoTime() + backoffNanos);
+        if (logger.isInfoEnabled()) {
+            logger.info("Upstream rate limit hit, lowering permitted rate to {} requests/s.", String.format("%.2f", rate));
+        }
+        return backoffNanos;
+    }
+
+    private long intervalNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+
+    private long jitteredBackoffNanos(int attempt) {
+        long base = settings.getBaseBackoff().toNanos();
+        long cap = settings.getMaxBackoff().toNanos();
+        long exponential = Math.min(cap, base << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(exponential / 2, exponential + 1);
+    }
+
+    private static long retryAfterNanos(HttpHeaders headers) {
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException ignored) {
+            return 0;
+        }
+    }
+
+    private void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            ticker.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RateLimitExceededException(RATE_LIMIT_MESSAGE);
+        }
+    }
+
+    /**
+     * Time source for pacing and backoff, so tests can drive the throttle without waiting on the wall clock.
+     */
+    public interface Ticker {
+
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleep(long nanos) throws InterruptedException {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
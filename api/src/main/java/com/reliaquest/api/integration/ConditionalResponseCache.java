@@ -0,0 +1,122 @@
+package com.reliaquest.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the last {@code ETag} and body received per key so the next request can be sent with
+ * {@code If-None-Match} and a {@code 304 Not Modified} can be answered from memory. Entries are evicted least recently
+ * used once {@code maxEntries} is reached.
+ *
+ * <p>Bytes saved are counted from the original response's {@code Content-Length}; when that is unknown (chunked or
+ * transparently decompressed responses) the cached body's JSON size is measured once and reused.
+ */
+public class ConditionalResponseCache<K, T> {
+
+    private static final ObjectMapper SIZE_MAPPER = new ObjectMapper();
+
+    private final Map<K, Entry<T>> entries;
+    private final LongAdder conditionalRequests = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public ConditionalResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<T>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized Entry<T> get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, String etag, T body, long contentLength) {
+        if (etag == null || body == null) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new Entry<>(etag, body, contentLength));
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    public void onConditionalRequest() {
+        conditionalRequests.increment();
+    }
+
+    /**
+     * Records a {@code 304} for the entry whose ETag was sent and returns its cached body.
+     */
+    public T onNotModified(Entry<T> entry) {
+        notModified.increment();
+        bytesSaved.add(entry.bodyBytes());
+        return entry.body();
+    }
+
+    public ConditionalStats getStats() {
+        return new ConditionalStats(conditionalRequests.sum(), notModified.sum(), bytesSaved.sum());
+    }
+
+    public static final class Entry<T> {
+
+        private final String etag;
+        private final T body;
+        private volatile long bodyBytes;
+
+        private Entry(String etag, T body, long contentLength) {
+            this.etag = etag;
+            this.body = body;
+            this.bodyBytes = contentLength;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public T body() {
+            return body;
+        }
+
+        long bodyBytes() {
+            if (bodyBytes < 0) {
+                bodyBytes = measure(body);
+            }
+            return bodyBytes;
+        }
+
+        private static long measure(Object body) {
+            CountingOutputStream counter = new CountingOutputStream();
+            try {
+                SIZE_MAPPER.writeValue(counter, body);
+            } catch (IOException e) {
+                return 0;
+            }
+            return counter.count;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.integration;
+
+public record ConditionalStats(long conditionalRequests, long notModified, long bytesSaved) {
+
+    public double notModifiedRatio() {
+        return conditionalRequests == 0 ? 0.0 : (double) notModified / conditionalRequests;
+    }
+}
@@ -1,78 +1,248 @@
 package com.reliaquest.api.integration;
 
+import com.reliaquest.api.cache.ColumnarRoster;
 import com.reliaquest.api.config.EmployeeUrlConfigs;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeBatchResult;
 import com.reliaquest.api.dto.EmployeeInput;
 import com.reliaquest.api.exception.*;
+import com.reliaquest.api.integration.dto.EmployeeBatchDeleteRequestDto;
+import com.reliaquest.api.integration.dto.EmployeeBatchResponseDto;
 import com.reliaquest.api.integration.dto.EmployeeDeleteRequestDto;
 import com.reliaquest.api.integration.dto.EmployeeDeleteResponseDto;
+import com.reliaquest.api.integration.dto.EmployeePageDto;
 import com.reliaquest.api.integration.dto.EmployeeResponseDto;
-import com.reliaquest.api.integration.dto.GetAllEmployeeResponseDto;
+import com.reliaquest.api.integration.dto.GetEmployeePageResponseDto;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 public class EmployeeIntegration {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeIntegration.class);
+    private static final String ROSTER_KEY = "all";
+    private static final int MAX_CACHED_EMPLOYEE_RESPONSES = 1024;
     private final RestTemplate restTemplate;
-    private final EmployeeUrlConfigs employeeUrlConfigs;
+    private final AdaptiveThrottle adaptiveThrottle;
+    private final UpstreamMetrics upstreamMetrics;
+    // Resolved once rather than concatenated on every call.
+    private final String resourceUrl;
+    private final EmployeeRosterReader employeeRosterReader;
+    private final SingleFlight<String, ColumnarRoster> rosterFlight = new SingleFlight<>();
+    private final SingleFlight<String, EmployeeResponseDto> employeeByIdFlight = new SingleFlight<>();
+    private final ConditionalResponseCache<String, ColumnarRoster> rosterResponses = new ConditionalResponseCache<>(1);
+    private final ConditionalResponseCache<String, EmployeeResponseDto> employeeByIdResponses = new ConditionalResponseCache<>(MAX_CACHED_EMPLOYEE_RESPONSES);
+    private final MicroBatcher<EmployeeInput, EmployeeBatchResult> createBatcher;
+    private final MicroBatcher<EmployeeBatchDeleteRequestDto, EmployeeBatchResult> deleteBatcher;
+    private final long idDeleteReprobeNanos;
+    private volatile boolean idDeleteSupported = true;
+    private volatile long idDeleteReprobeAt;
 
-    @Autowired
-    public EmployeeIntegration(RestTemplate restTemplate, EmployeeUrlConfigs employeeUrlConfigs) {
+    public EmployeeIntegration(RestTemplate restTemplate, EmployeeUrlConfigs employeeUrlConfigs, AdaptiveThrottle adaptiveThrottle,
+                               UpstreamMetrics upstreamMetrics, EmployeeRosterReader employeeRosterReader) {
         this.restTemplate = restTemplate;
-        this.employeeUrlConfigs = employeeUrlConfigs;
+        this.employeeRosterReader = employeeRosterReader;
+        this.adaptiveThrottle = adaptiveThrottle;
+        this.upstreamMetrics = upstreamMetrics;
+        this.resourceUrl = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource();
+        this.idDeleteReprobeNanos = employeeUrlConfigs.getIdDeleteReprobeInterval().toNanos();
+        EmployeeUrlConfigs.Batch batch = employeeUrlConfigs.getBatch();
+        if (batch.isEnabled()) {
+            logger.info("Micro-batching single creates and deletes within {} windows of up to {} items",
+                    batch.getWindow(), batch.getMaxSize());
+            this.createBatcher = new MicroBatcher<>("employee-create", batch.getWindow(), batch.getMaxSize(),
+                    batch.getTimeout(), this::createEmployees);
+            this.deleteBatcher = new MicroBatcher<>("employee-delete", batch.getWindow(), batch.getMaxSize(),
+                    batch.getTimeout(), this::deleteEmployees);
+        } else {
+            this.createBatcher = null;
+            this.deleteBatcher = null;
+        }
+    }
+
+    /**
+     * Reads the roster straight into compact columns, without materializing the response envelope. Concurrent callers
+     * share one upstream read, and a 304 against the remembered ETag hands back the previous roster instance, so an
+     * unchanged roster can be recognized by identity.
+     */
+    public ColumnarRoster getRoster() {
+        return rosterFlight.execute(ROSTER_KEY, this::fetchRoster);
+    }
+
+    /**
+     * Hands every employee to {@code consumer}. Goes through {@link #getRoster()}, so concurrent streams share one
+     * upstream read, buffered once as columns rather than parsed per caller.
+     */
+    public int streamAllEmployees(Consumer<Employee> consumer) {
+        ColumnarRoster roster = getRoster();
+        roster.asList().forEach(consumer);
+        logger.debug("Successfully streamed {} employees.", roster.size());
+        return roster.size();
     }
 
-    public GetAllEmployeeResponseDto getAllEmployees() {
-        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource();
-        logger.info("Fetching all employees from URL: {}", url);
+    /**
+     * Fetches one page of the server's filtered, id-ordered listing, so searches and range queries are answered by
+     * the server's indexes instead of downloading the roster.
+     */
+    public EmployeePageDto getEmployeePage(EmployeeQuery query) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(resourceUrl)
+                .queryParam("limit", Math.min(query.getLimit(), EmployeeQuery.MAX_PAGE_SIZE))
+                .queryParamIfPresent("cursor", Optional.ofNullable(query.getCursor()))
+                .queryParamIfPresent("name", Optional.ofNullable(query.getName()))
+                .queryParamIfPresent("minSalary", Optional.ofNullable(query.getMinSalary()))
+                .queryParamIfPresent("maxSalary", Optional.ofNullable(query.getMaxSalary()))
+                .queryParamIfPresent("minAge", Optional.ofNullable(query.getMinAge()))
+                .queryParamIfPresent("maxAge", Optional.ofNullable(query.getMaxAge()))
+                .queryParamIfPresent("title", Optional.ofNullable(query.getTitle()))
+                .encode()
+                .build()
+                .toUri();
+        logger.debug("Fetching employee page from URL: {}", uri);
         try {
-            ResponseEntity<GetAllEmployeeResponseDto> responseEntity = restTemplate.exchange(
-                    url,
+            ResponseEntity<GetEmployeePageResponseDto> responseEntity = adaptiveThrottle.execute(() -> upstreamMetrics.record("getEmployeePage", () -> restTemplate.exchange(
+                    uri,
                     HttpMethod.GET,
                     null,
-                    GetAllEmployeeResponseDto.class);
+                    GetEmployeePageResponseDto.class)));
 
-            logger.info("Received response status: {}", responseEntity.getStatusCode());
-            if (responseEntity.getStatusCode() == HttpStatus.OK) {
-                logger.info("Successfully fetched all employees.");
-                return responseEntity.getBody();
+            logger.debug("Received response status: {}", responseEntity.getStatusCode());
+            if (responseEntity.getStatusCode() == HttpStatus.OK && responseEntity.getBody() != null
+                    && responseEntity.getBody().getData() != null) {
+                return responseEntity.getBody().getData();
             } else {
-                logger.error("Failed to fetch employees: {}", responseEntity.getStatusCode());
-                throw new EmployeeIntegrationException("Failed to fetch employees: " + responseEntity.getStatusCode(), null);
+                logger.error("Failed to fetch employee page: {}", responseEntity.getStatusCode());
+                throw new EmployeeIntegrationException("Failed to fetch employee page: " + responseEntity.getStatusCode(), null);
             }
+        } catch (HttpClientErrorException.BadRequest e) {
+            logger.warn("Employee page request rejected: {}", e.getResponseBodyAsString());
+            throw new IllegalArgumentException("Invalid employee query");
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            logger.warn("Rate limit exceeded while fetching an employee page: {}", e.getMessage());
+            throw new RateLimitExceededException("Too many requests. Please try again later.");
+        } catch (RestClientException e) {
+            logger.error("Error while fetching employee page", e);
+            throw new EmployeeIntegrationException("Error while fetching employee page", e);
+        }
+    }
+
+    public EmployeeResponseDto getEmployeeById(String id) {
+        EmployeeRequestValidation.validateInput(id, "Employee ID");
+        return employeeByIdFlight.execute(id, () -> fetchEmployeeById(id));
+    }
+
+    public long getCollapsedCallCount() {
+        return rosterFlight.getCollapsedCount() + employeeByIdFlight.getCollapsedCount();
+    }
+
+    public ConditionalStats getConditionalStats() {
+        ConditionalStats roster = rosterResponses.getStats();
+        ConditionalStats byId = employeeByIdResponses.getStats();
+        return new ConditionalStats(roster.conditionalRequests() + byId.conditionalRequests(),
+                roster.notModified() + byId.notModified(),
+                roster.bytesSaved() + byId.bytesSaved());
+    }
+
+    private ColumnarRoster fetchRoster() {
+        logger.debug("Fetching all employees from URL: {}", resourceUrl);
+        ConditionalResponseCache.Entry<ColumnarRoster> cached = rosterResponses.get(ROSTER_KEY);
+        if (cached != null) {
+            rosterResponses.onConditionalRequest();
+        }
+        try {
+            ResponseEntity<ColumnarRoster> responseEntity = adaptiveThrottle.execute(() -> upstreamMetrics.record("getRoster", () -> restTemplate.execute(
+                    resourceUrl,
+                    HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                        if (cached != null) {
+                            request.getHeaders().setIfNoneMatch(cached.etag());
+                        }
+                    },
+                    response -> readRoster(response, cached))));
+
+            logger.debug("Successfully fetched all employees.");
+            return responseEntity.getBody();
         } catch (HttpClientErrorException.TooManyRequests e) {
             logger.warn("Rate limit exceeded while fetching all employees: {}", e.getMessage());
             throw new RateLimitExceededException("Too many requests. Please try again later.");
-        } catch (Exception e) {
+        } catch (RestClientException e) {
             logger.error("Error while fetching all employees", e);
             throw new EmployeeIntegrationException("Error while fetching all employees", e);
         }
     }
 
-    public EmployeeResponseDto getEmployeeById(String id) {
-        validateInput(id, "Employee ID");
-        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource() + "/" + id;
-        logger.info("Fetching employee with ID: {} from URL: {}", id, url);
+    /**
+     * Streams a 200 into a new roster and remembers it under its ETag, or answers a 304 from the remembered roster.
+     * The status is kept on the returned entity so the exchange is timed under it.
+     */
+    private ResponseEntity<ColumnarRoster> readRoster(ClientHttpResponse response, ConditionalResponseCache.Entry<ColumnarRoster> cached)
+            throws IOException {
+        logger.debug("Received response status: {}", response.getStatusCode());
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+            logger.debug("Employee roster not modified since ETag {}.", cached.etag());
+            return new ResponseEntity<>(rosterResponses.onNotModified(cached), HttpStatus.NOT_MODIFIED);
+        }
+        if (response.getStatusCode() != HttpStatus.OK) {
+            logger.error("Failed to fetch employees: {}", response.getStatusCode());
+            throw new EmployeeIntegrationException("Failed to fetch employees: " + response.getStatusCode(), null);
+        }
+        ColumnarRoster.Builder builder = ColumnarRoster.builder();
+        CountingInputStream body = new CountingInputStream(response.getBody());
+        employeeRosterReader.read(body, builder);
+        ColumnarRoster roster = builder.build();
+        // Content-Length is what a 304 saves on the wire; without it, fall back to the decoded bytes just read.
+        long contentLength = response.getHeaders().getContentLength();
+        rosterResponses.put(ROSTER_KEY, response.getHeaders().getETag(), roster,
+                contentLength >= 0 ? contentLength : body.count);
+        return new ResponseEntity<>(roster, HttpStatus.OK);
+    }
+
+    private EmployeeResponseDto fetchEmployeeById(String id) {
+        String url = resourceUrl + "/" + id;
+        logger.debug("Fetching employee with ID: {} from URL: {}", id, url);
+        ConditionalResponseCache.Entry<EmployeeResponseDto> cached = employeeByIdResponses.get(id);
+        HttpEntity<Void> requestEntity = conditionalRequest(employeeByIdResponses, cached);
         try {
-            ResponseEntity<EmployeeResponseDto> responseEntity = restTemplate.exchange(
+            ResponseEntity<EmployeeResponseDto> responseEntity = adaptiveThrottle.execute(() -> upstreamMetrics.record("getEmployeeById", () -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
-                    null,
-                    EmployeeResponseDto.class);
+                    requestEntity,
+                    EmployeeResponseDto.class)));
 
-            logger.info("Received response status: {}", responseEntity.getStatusCode());
+            logger.debug("Received response status: {}", responseEntity.getStatusCode());
+            if (responseEntity.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+                logger.debug("Employee with ID: {} not modified since ETag {}.", id, cached.etag());
+                return employeeByIdResponses.onNotModified(cached);
+            }
             if (responseEntity.getStatusCode() == HttpStatus.OK) {
                 EmployeeResponseDto responseBody = responseEntity.getBody();
-                logger.info("Successfully fetched employee with ID: {}", id);
+                employeeByIdResponses.put(id, responseEntity.getHeaders().getETag(), responseBody,
+                        responseEntity.getHeaders().getContentLength());
+                logger.debug("Successfully fetched employee with ID: {}", id);
                 return responseBody;
             } else {
                 logger.error("Failed to fetch employee: {}", responseEntity.getStatusCode());
@@ -80,97 +250,272 @@ public class EmployeeIntegration {
             }
         } catch (HttpClientErrorException.NotFound e) {
             logger.warn("Employee not found: {}", e.getResponseBodyAsString());
+            employeeByIdResponses.evict(id);
             throw new EmployeeNotFoundException("Employee not found. Please provide valid id.");
         } catch (HttpClientErrorException.TooManyRequests e) {
             logger.warn("Rate limit exceeded while fetching an employee: {}", e.getMessage());
             throw new RateLimitExceededException("Too many requests. Please try again later.");
-        } catch (Exception e) {
+        } catch (RestClientException e) {
             logger.error("Error while fetching employee with ID: {}", id, e);
             throw new EmployeeIntegrationException("Error while fetching employee with id: " + id, e);
         }
     }
 
     public EmployeeResponseDto createEmployee(String name, int salary, int age, String title) {
-        validateEmployeeData(name, salary, age, title);
-        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource();
-        logger.info("Creating employee with name: {}, salary: {}, age: {} at URL: {}", name, salary, age, url);
+        EmployeeRequestValidation.validateEmployeeData(name, salary, age, title);
+        if (createBatcher != null) {
+            return createBatched(new EmployeeInput(name, salary, age, title));
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Creating employee with name: {}, salary: {}, age: {} at URL: {}", name, salary, age, resourceUrl);
+        }
         EmployeeInput newEmployee = new EmployeeInput(name, salary, age, title);
         HttpEntity<EmployeeInput> requestEntity = new HttpEntity<>(newEmployee, null);
         try {
-            ResponseEntity<EmployeeResponseDto> responseEntity = restTemplate.postForEntity(url, requestEntity, EmployeeResponseDto.class);
-            logger.info("Received responseEntity status for creation: {}", responseEntity.getStatusCode());
+            ResponseEntity<EmployeeResponseDto> responseEntity = adaptiveThrottle.execute(() -> upstreamMetrics.record("createEmployee",
+                    () -> restTemplate.postForEntity(resourceUrl, requestEntity, EmployeeResponseDto.class)));
+            logger.debug("Received responseEntity status for creation: {}", responseEntity.getStatusCode());
             if (responseEntity.getStatusCode() == HttpStatus.OK) {
-                logger.info("Successfully created employee.");
+                logger.debug("Successfully created employee.");
                 return responseEntity.getBody();
             } else {
                 logger.error("Failed to create employee: {}", responseEntity.getStatusCode());
-                throw new EmployeeCreationException("Failed to create employee: " + responseEntity.getStatusCode());
+                throw new EmployeeIntegrationException("Error while creating employee",
+                        new EmployeeCreationException("Failed to create employee: " + responseEntity.getStatusCode()));
             }
         } catch (HttpClientErrorException.TooManyRequests e) {
             logger.warn("Rate limit exceeded while creating an employee: {}", e.getMessage());
             throw new RateLimitExceededException("Too many requests. Please try again later.");
-        } catch (Exception e) {
+        } catch (RestClientException e) {
             logger.error("Error while creating employee", e);
             throw new EmployeeIntegrationException("Error while creating employee", e);
         }
     }
 
     public void deleteEmployee(String name) {
-        validateInput(name, "Employee name");
-        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource();
-        logger.info("Deleting employee with NAME: {} at URL: {}", name, url);
+        EmployeeRequestValidation.validateInput(name, "Employee name");
+        if (deleteBatcher != null) {
+            deleteBatched(name);
+            return;
+        }
+        logger.debug("Deleting employee with NAME: {} at URL: {}", name, resourceUrl);
 
         EmployeeDeleteRequestDto employeeDeleteRequest = new EmployeeDeleteRequestDto(name);
         HttpEntity<EmployeeDeleteRequestDto> requestEntity = new HttpEntity<>(employeeDeleteRequest);
 
         try {
-            ResponseEntity<EmployeeDeleteResponseDto> responseEntity = restTemplate.exchange(
-                    url,
+            ResponseEntity<EmployeeDeleteResponseDto> responseEntity = adaptiveThrottle.execute(() -> upstreamMetrics.record("deleteEmployee", () -> restTemplate.exchange(
+                    resourceUrl,
                     HttpMethod.DELETE,
                     requestEntity,
                     EmployeeDeleteResponseDto.class
-            );
+            )));
             if (responseEntity.getStatusCode() == HttpStatus.OK) {
                 if (responseEntity.getBody() != null && responseEntity.getBody().getData().equals(false)) {
                     logger.error("Failed to delete employee: {} with status ", responseEntity.getBody().getStatus());
-                    throw new EmployeeDeletionException("Error while deleting employee with NAME: " + name);
+                    throw deletionFailed("Error while deleting employee with NAME: " + name);
                 }
-                logger.info("Successfully deleted employee with NAME: {}, Response: {}", name, responseEntity.getBody());
+                logger.debug("Successfully deleted employee with NAME: {}, Response: {}", name, responseEntity.getBody());
             } else {
                 logger.error("Failed to delete employee with name: {} with status code: {}", name, responseEntity.getStatusCode());
-                throw new EmployeeDeletionException("Error while deleting employee with NAME: " + name);
+                throw deletionFailed("Error while deleting employee with NAME: " + name);
             }
         } catch (HttpClientErrorException.TooManyRequests e) {
             logger.warn("Rate limit exceeded while deleting an employee: {}", e.getMessage());
             throw new RateLimitExceededException("Too many requests. Please try again later.");
-        } catch (Exception e) {
+        } catch (RestClientException e) {
             logger.error("Error while deleting employee with NAME: {}", name, e);
             throw new EmployeeIntegrationException("Error while deleting employee with NAME: " + name, e);
         }
     }
 
-    private void validateInput(String value, String fieldName) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException(fieldName + " must not be null or empty");
+    /**
+     * Deletes the employee with the given id in one round trip and returns it. Servers without the id-addressed
+     * route answer 405, or, like the original mock server whose advice turns every unhandled exception into a 500, a
+     * server error; for those the employee is looked up and deleted by name, and the id route is only tried again
+     * once the configured re-probe interval has passed, so an upgraded server is picked up without a restart.
+     */
+    public Employee deleteEmployeeById(String id) {
+        EmployeeRequestValidation.validateInput(id, "Employee ID");
+        if (!idDeleteSupported && System.nanoTime() - idDeleteReprobeAt < 0) {
+            return deleteByLookup(id);
         }
+        String url = resourceUrl + "/" + id;
+        logger.debug("Deleting employee with ID: {} at URL: {}", id, url);
+        try {
+            ResponseEntity<EmployeeResponseDto> responseEntity = adaptiveThrottle.execute(() -> upstreamMetrics.record("deleteEmployeeById", () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.DELETE,
+                    null,
+                    EmployeeResponseDto.class)));
+
+            logger.debug("Received response status: {}", responseEntity.getStatusCode());
+            if (responseEntity.getStatusCode() == HttpStatus.OK && responseEntity.getBody() != null
+                    && responseEntity.getBody().getData() != null) {
+                employeeByIdResponses.evict(id);
+                idDeleteSupported = true;
+                logger.debug("Successfully deleted employee with ID: {}", id);
+                return responseEntity.getBody().getData();
+            } else {
+                logger.error("Failed to delete employee with ID: {} with status code: {}", id, responseEntity.getStatusCode());
+                throw deletionFailed("Error while deleting employee with ID: " + id);
+            }
+        } catch (HttpClientErrorException.MethodNotAllowed | HttpServerErrorException e) {
+            logger.warn("Server answered {} to deleting by id, deleting by name for the next {}.", e.getStatusCode(),
+                    Duration.ofNanos(idDeleteReprobeNanos));
+            idDeleteReprobeAt = System.nanoTime() + idDeleteReprobeNanos;
+            idDeleteSupported = false;
+            return deleteByLookup(id);
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Employee not found: {}", e.getResponseBodyAsString());
+            employeeByIdResponses.evict(id);
+            throw new EmployeeNotFoundException("Employee not found. Please provide valid id.");
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            logger.warn("Rate limit exceeded while deleting an employee: {}", e.getMessage());
+            throw new RateLimitExceededException("Too many requests. Please try again later.");
+        } catch (RestClientException e) {
+            logger.error("Error while deleting employee with ID: {}", id, e);
+            throw new EmployeeIntegrationException("Error while deleting employee with id: " + id, e);
+        }
+    }
+
+    /**
+     * Creates every employee in one request. Results line up with {@code inputs}; items the server rejects come back
+     * as {@link EmployeeBatchResult.Status#INVALID} instead of failing the whole call.
+     */
+    public List<EmployeeBatchResult> createEmployees(List<EmployeeInput> inputs) {
+        logger.debug("Creating {} employees in one batch", inputs.size());
+        return exchangeBatch(HttpMethod.POST, inputs, "creating", "createEmployees");
+    }
+
+    /**
+     * Deletes every employee, each identified by id or name, in one request. Results line up with {@code items}.
+     */
+    public List<EmployeeBatchResult> deleteEmployees(List<EmployeeBatchDeleteRequestDto> items) {
+        logger.debug("Deleting {} employees in one batch", items.size());
+        return exchangeBatch(HttpMethod.DELETE, items, "deleting", "deleteEmployees");
+    }
+
+    @PreDestroy
+    public void close() {
+        if (createBatcher != null) {
+            createBatcher.close();
+            deleteBatcher.close();
+        }
+    }
+
+    private List<EmployeeBatchResult> exchangeBatch(HttpMethod method, Object items, String action, String operation) {
+        String url = resourceUrl + "/batch";
+        HttpEntity<Object> requestEntity = new HttpEntity<>(items);
+        try {
+            ResponseEntity<EmployeeBatchResponseDto> responseEntity = adaptiveThrottle.execute(() -> upstreamMetrics.record(operation, () -> restTemplate.exchange(
+                    url,
+                    method,
+                    requestEntity,
+                    EmployeeBatchResponseDto.class)));
+
+            logger.debug("Received response status: {}", responseEntity.getStatusCode());
+            if (responseEntity.getStatusCode() == HttpStatus.OK && responseEntity.getBody() != null
+                    && responseEntity.getBody().getData() != null) {
+                return responseEntity.getBody().getData();
+            } else {
+                logger.error("Failed {} employee batch: {}", action, responseEntity.getStatusCode());
+                throw new EmployeeIntegrationException("Failed " + action + " employee batch: " + responseEntity.getStatusCode(), null);
+            }
+        } catch (HttpClientErrorException.BadRequest e) {
+            logger.warn("Employee batch rejected: {}", e.getResponseBodyAsString());
+            throw new IllegalArgumentException("Invalid employee batch");
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            logger.warn("Rate limit exceeded while {} an employee batch: {}", action, e.getMessage());
+            throw new RateLimitExceededException("Too many requests. Please try again later.");
+        } catch (RestClientException e) {
+            logger.error("Error while {} employee batch", action, e);
+            throw new EmployeeIntegrationException("Error while " + action + " employee batch", e);
+        }
+    }
+
+    private Employee deleteByLookup(String id) {
+        Employee employee = getEmployeeById(id).getData();
+        deleteEmployee(employee.getEmployeeName());
+        employeeByIdResponses.evict(id);
+        return employee;
     }
 
-    private void validateEmployeeData(String name, int salary, int age, String title) {
-        if (name == null || name.trim().isEmpty()) {
-            logger.warn("Invalid Employee name: {}", name);
-            throw new IllegalArgumentException("Employee name must not be null or empty");
+    private EmployeeResponseDto createBatched(EmployeeInput input) {
+        EmployeeBatchResult result;
+        try {
+            result = createBatcher.submit(input);
+        } catch (IllegalStateException e) {
+            logger.error("Error while creating employee in batch", e);
+            throw new EmployeeIntegrationException("Error while creating employee", e);
         }
-        if (salary <= 0) {
-            logger.warn("Invalid Employee salary: {}", salary);
-            throw new IllegalArgumentException("Employee salary must be greater than zero");
+        if (result.getStatus() != EmployeeBatchResult.Status.CREATED) {
+            logger.error("Failed to create employee in batch: {}", result.getError());
+            throw new EmployeeIntegrationException("Error while creating employee",
+                    new EmployeeCreationException("Failed to create employee: " + result.getError()));
+        }
+        return new EmployeeResponseDto(result.getStatus().name(), result.getData());
+    }
+
+    private void deleteBatched(String name) {
+        EmployeeBatchResult result;
+        try {
+            result = deleteBatcher.submit(EmployeeBatchDeleteRequestDto.byName(name));
+        } catch (IllegalStateException e) {
+            logger.error("Error while deleting employee: {} in batch", name, e);
+            throw new EmployeeIntegrationException("Error while deleting employee with NAME: " + name, e);
         }
-        if (age < 16 || age > 75) {
-            logger.warn("Invalid Employee age: {}", age);
-            throw new IllegalArgumentException("Employee age must be between 16 and 75");
+        if (result.getStatus() != EmployeeBatchResult.Status.DELETED) {
+            logger.error("Failed to delete employee: {} with batch status {}", name, result.getStatus());
+            throw deletionFailed("Error while deleting employee with NAME: " + name);
         }
-        if (title == null || title.trim().isEmpty()) {
-            logger.warn("Invalid Employee name: {}", name);
-            throw new IllegalArgumentException("Employee title must not be null or empty");
+        logger.debug("Successfully deleted employee with NAME: {} in batch", name);
+    }
+
+    /**
+     * Rejected deletes surface as an integration failure caused by the deletion error, whichever route they took.
+     */
+    private static EmployeeIntegrationException deletionFailed(String message) {
+        return new EmployeeIntegrationException(message, new EmployeeDeletionException(message));
+    }
+
+    /**
+     * Builds a conditional GET when an ETag is known. Without one the request stays header-less, as before.
+     */
+    private static HttpEntity<Void> conditionalRequest(ConditionalResponseCache<?, ?> cache, ConditionalResponseCache.Entry<?> cached) {
+        if (cached == null) {
+            return null;
+        }
+        cache.onConditionalRequest();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(cached.etag());
+        return new HttpEntity<>(headers);
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
         }
     }
 }
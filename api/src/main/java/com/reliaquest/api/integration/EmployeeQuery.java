@@ -0,0 +1,24 @@
+package com.reliaquest.api.integration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Filters and cursor for one page of the server's paged employee listing. Unset filters are not sent; pages are
+ * ordered by employee id and {@code cursor} is the previous page's {@code next_cursor}.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class EmployeeQuery {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final String name;
+    private final Integer minSalary;
+    private final Integer maxSalary;
+    private final Integer minAge;
+    private final Integer maxAge;
+    private final String title;
+    private final String cursor;
+    private final int limit;
+}
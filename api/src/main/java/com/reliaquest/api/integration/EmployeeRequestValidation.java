@@ -0,0 +1,41 @@
+package com.reliaquest.api.integration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Argument checks for the employee client, so invalid requests are rejected with a clear message before anything is
+ * sent upstream.
+ */
+final class EmployeeRequestValidation {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeRequestValidation.class);
+
+    private EmployeeRequestValidation() {
+    }
+
+    static void validateInput(String value, String fieldName) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(fieldName + " must not be null or empty");
+        }
+    }
+
+    static void validateEmployeeData(String name, int salary, int age, String title) {
+        if (name == null || name.trim().isEmpty()) {
+            logger.warn("Invalid Employee name: {}", name);
+            throw new IllegalArgumentException("Employee name must not be null or empty");
+        }
+        if (salary <= 0) {
+            logger.warn("Invalid Employee salary: {}", salary);
+            throw new IllegalArgumentException("Employee salary must be greater than zero");
+        }
+        if (age < 16 || age > 75) {
+            logger.warn("Invalid Employee age: {}", age);
+            throw new IllegalArgumentException("Employee age must be between 16 and 75");
+        }
+        if (title == null || title.trim().isEmpty()) {
+            logger.warn("Invalid Employee title: {}", title);
+            throw new IllegalArgumentException("Employee title must not be null or empty");
+        }
+    }
+}
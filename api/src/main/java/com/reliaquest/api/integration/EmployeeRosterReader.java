@@ -0,0 +1,56 @@
+package com.reliaquest.api.integration;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.dto.Employee;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads the server's {@code {"data": [...], "status": ...}} roster envelope with Jackson's token stream and hands
+ * each employee to a consumer as soon as it is parsed, so the roster is never materialized as a whole. Uses the
+ * application's {@link ObjectMapper}, tolerating properties the server adds to employees.
+ */
+@Component
+public class EmployeeRosterReader {
+
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+
+    public EmployeeRosterReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(Employee.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public int read(InputStream body, Consumer<Employee> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object with a data array");
+            }
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (DATA_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        consumer.accept(employeeReader.readValue(parser));
+                        count++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return count;
+        }
+    }
+}
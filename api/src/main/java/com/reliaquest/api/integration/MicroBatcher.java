@@ -0,0 +1,186 @@
+package com.reliaquest.api.integration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-item calls into batch calls. The first item to arrive opens a window; everything
+ * submitted before it closes, up to {@code maxBatchSize} items, is sent as one batch and each caller receives the
+ * result at its own position, or the batch's exception. Batches are sent one at a time, so items arriving while a
+ * batch is in flight queue up for the next one.
+ *
+ * <p>A caller waits at most {@code timeout} for its result. Failures of the batcher itself, such as a timeout or an
+ * item still queued when it is closed, surface as {@link IllegalStateException}.
+ */
+public class MicroBatcher<I, O> implements AutoCloseable {
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final Function<List<I>, List<O>> batchCall;
+    private final ScheduledExecutorService flusher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Pending<I, O>> pending = new ArrayList<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    private boolean flushScheduled;
+
+    public MicroBatcher(String name, Duration window, int maxBatchSize, Duration timeout,
+                        Function<List<I>, List<O>> batchCall) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.batchCall = batchCall;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public O submit(I item) {
+        Pending<I, O> entry = new Pending<>(item, new CompletableFuture<>());
+        lock.lock();
+        try {
+            if (flusher.isShutdown()) {
+                throw new IllegalStateException("Batcher is closed");
+            }
+            pending.add(entry);
+            // One immediate flush per full batch; it drains whatever has queued up by the time it runs.
+            if (pending.size() % maxBatchSize == 0) {
+                flusher.execute(this::flush);
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                flusher.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            failPending(new IllegalStateException("Batcher is closed", e));
+        } finally {
+            lock.unlock();
+        }
+        return await(entry);
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getItemCount() {
+        return items.sum();
+    }
+
+    /**
+     * Stops accepting items. Items already submitted are still sent if that finishes within the timeout; any left
+     * after it fail with an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            flusher.shutdown();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (!flusher.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.shutdownNow();
+        }
+        lock.lock();
+        try {
+            failPending(new IllegalStateException("Batcher is closed"));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush() {
+        while (true) {
+            List<Pending<I, O>> batch;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    flushScheduled = false;
+                    return;
+                }
+                int size = Math.min(pending.size(), maxBatchSize);
+                batch = new ArrayList<>(pending.subList(0, size));
+                pending.subList(0, size).clear();
+            } finally {
+                lock.unlock();
+            }
+            send(batch);
+        }
+    }
+
+    /**
+     * Completes every queued item with {@code failure}. Callers hold {@link #lock}.
+     */
+    private void failPending(RuntimeException failure) {
+        pending.forEach(entry -> entry.future().completeExceptionally(failure));
+        pending.clear();
+        flushScheduled = false;
+    }
+
+    private void send(List<Pending<I, O>> batch) {
+        batches.increment();
+        items.add(batch.size());
+        try {
+            List<O> results = batchCall.apply(batch.stream().map(Pending::item).toList());
+            if (results == null || results.size() != batch.size()) {
+                throw new IllegalStateException("Batch of " + batch.size() + " items returned "
+                        + (results == null ? 0 : results.size()) + " results");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (RuntimeException | Error e) {
+            batch.forEach(item -> item.future().completeExceptionally(e));
+        }
+    }
+
+    private O await(Pending<I, O> entry) {
+        try {
+            return entry.future().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            lock.lock();
+            try {
+                // Not sent yet, so drop it rather than send a request nobody is waiting for.
+                pending.remove(entry);
+            } finally {
+                lock.unlock();
+            }
+            throw new IllegalStateException("No batch result within " + timeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch result", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Pending<I, O>(I item, CompletableFuture<O> future) {}
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times each HTTP exchange with the employee server as {@value #REQUESTS}, tagged by operation, response status and
+ * exception type, with a percentile histogram so latency percentiles can be aggregated across instances. Exchanges
+ * are timed per attempt, so a throttled attempt that {@link AdaptiveThrottle} retries is recorded with status 429
+ * and the retry as a separate exchange. Each timer is registered once per tag combination and reused.
+ */
+public class UpstreamMetrics {
+
+    public static final String REQUESTS = "employee.upstream.requests";
+    private static final String NO_RESPONSE = "CLIENT_ERROR";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public UpstreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs and times {@code exchange}. The status is taken from a returned {@link ResponseEntity}; any other result
+     * comes from a response extractor that only accepts 200, so it is tagged as such.
+     */
+    public <T> T record(String operation, Supplier<T> exchange) {
+        long start = System.nanoTime();
+        String status = NO_RESPONSE;
+        String exception = NO_EXCEPTION;
+        try {
+            T result = exchange.get();
+            status = result instanceof ResponseEntity<?> response ? String.valueOf(response.getStatusCode().value()) : "200";
+            return result;
+        } catch (RestClientResponseException e) {
+            status = String.valueOf(e.getStatusCode().value());
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timers.computeIfAbsent(new TimerKey(operation, status, exception), this::register)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(REQUESTS)
+                .description("HTTP exchanges with the employee server")
+                .tag("operation", key.operation())
+                .tag("status", key.status())
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String operation, String status, String exception) {
+    }
+}
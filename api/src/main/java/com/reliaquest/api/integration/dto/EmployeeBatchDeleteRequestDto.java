@@ -0,0 +1,28 @@
+package com.reliaquest.api.integration.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeBatchDeleteRequestDto {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("name")
+    private String name;
+
+    public static EmployeeBatchDeleteRequestDto byId(String id) {
+        return new EmployeeBatchDeleteRequestDto(id, null);
+    }
+
+    public static EmployeeBatchDeleteRequestDto byName(String name) {
+        return new EmployeeBatchDeleteRequestDto(null, name);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.integration.dto;
+
+import com.reliaquest.api.dto.EmployeeBatchResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchResponseDto {
+
+    private String status;
+    private List<EmployeeBatchResult> data;
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.integration.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.reliaquest.api.dto.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePageDto {
+
+    @JsonProperty("employees")
+    private List<Employee> employees;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+}
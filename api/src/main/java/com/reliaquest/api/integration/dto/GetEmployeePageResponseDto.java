@@ -0,0 +1,13 @@
+package com.reliaquest.api.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetEmployeePageResponseDto {
+    private String status;
+    private EmployeePageDto data;
+}
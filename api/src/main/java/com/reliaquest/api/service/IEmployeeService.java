@@ -2,24 +2,42 @@ package com.reliaquest.api.service;
 
 
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.dto.EmployeeBatchResult;
+import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.dto.EmployeePage;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IEmployeeService {
 
     List<Employee> getAllEmployees();
 
+    int streamAllEmployees(Consumer<Employee> consumer);
+
     List<Employee> getEmployeesByNameSearch(String name);
 
+    List<Employee> getEmployeesByNameSearch(String name, int offset, int limit);
+
+    EmployeePage findEmployees(String name, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge,
+                               String title, String cursor, int limit);
+
     Employee getEmployeeById(String id);
 
     Integer getHighestSalaryOfEmployees();
 
     List<String> getTopTenHighestEarningEmployeeNames();
 
+    EmployeeAnalytics getEmployeeAnalytics();
+
     Employee createEmployee(String name, int salary, int age, String title);
 
     String deleteEmployeeById(String id);
 
+    List<EmployeeBatchResult> createEmployees(List<EmployeeInput> inputs);
+
+    List<EmployeeBatchResult> deleteEmployeesById(List<String> ids);
+
 
 }
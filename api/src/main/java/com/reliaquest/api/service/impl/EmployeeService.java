@@ -1,70 +1,135 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.RosterAnalytics;
+import com.reliaquest.api.cache.SalaryIndex;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.dto.EmployeeBatchResult;
+import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.exception.EmployeeCreationException;
 import com.reliaquest.api.exception.EmployeeIntegrationException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.EmployeeServiceException;
 import com.reliaquest.api.integration.EmployeeIntegration;
+import com.reliaquest.api.integration.EmployeeQuery;
+import com.reliaquest.api.integration.dto.EmployeeBatchDeleteRequestDto;
+import com.reliaquest.api.integration.dto.EmployeePageDto;
 import com.reliaquest.api.integration.dto.EmployeeResponseDto;
-import com.reliaquest.api.integration.dto.GetAllEmployeeResponseDto;
 import com.reliaquest.api.service.IEmployeeService;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
+@Observed(name = "employee.service")
 public class EmployeeService implements IEmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
+    private static final int MAX_BATCH_SIZE = 1000;
     private final EmployeeIntegration employeeIntegration;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
 
     @Autowired
-    public EmployeeService(EmployeeIntegration employeeIntegration) {
+    public EmployeeService(EmployeeIntegration employeeIntegration, EmployeeSnapshotCache employeeSnapshotCache) {
         this.employeeIntegration = employeeIntegration;
+        this.employeeSnapshotCache = employeeSnapshotCache;
     }
 
     @Override
     public List<Employee> getAllEmployees() {
-        logger.info("Received request to load all the employees.");
+        logger.debug("Received request to load all the employees.");
         try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            logger.info("Done loading all the employees.");
-            return getAllEmployeeResponseDto.getData();
+            List<Employee> employees = employeeSnapshotCache.getEmployees();
+            logger.debug("Done loading all the employees.");
+            return employees;
         } catch (EmployeeIntegrationException e) {
             logger.error("Error occurred while fetching all the employees. Error : {}", e.getMessage());
             throw new EmployeeServiceException("Error fetching all employees", e);
         }
     }
 
+    @Override
+    public int streamAllEmployees(Consumer<Employee> consumer) {
+        logger.debug("Received request to stream all the employees.");
+        try {
+            if (!employeeSnapshotCache.isEnabled()) {
+                return employeeIntegration.streamAllEmployees(consumer);
+            }
+            List<Employee> employees = employeeSnapshotCache.getSnapshot().getEmployees();
+            employees.forEach(consumer);
+            return employees.size();
+        } catch (EmployeeIntegrationException e) {
+            logger.error("Error occurred while streaming all the employees. Error : {}", e.getMessage());
+            throw new EmployeeServiceException("Error streaming all employees", e);
+        }
+    }
+
     @Override
     public List<Employee> getEmployeesByNameSearch(String name) {
-        logger.info("Received request to load all the employees with search string : {}.", name);
+        return getEmployeesByNameSearch(name, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Employee> getEmployeesByNameSearch(String name, int offset, int limit) {
+        logger.debug("Received request to load all the employees with search string : {}.", name);
         validateInput(name, "Search name");
+        validatePage(offset, limit);
         try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            logger.info("Done loading all the employees with search string : {}.", name);
-            return getAllEmployeeResponseDto.getData().stream()
-                    .filter(employee -> employee.getEmployeeName().toLowerCase().contains(name.toLowerCase()))
-                    .collect(Collectors.toList());
+            List<Employee> employees = employeeSnapshotCache.isEnabled()
+                    ? employeeSnapshotCache.getSnapshot().searchByName(name, offset, limit)
+                    : pushDownNameSearch(name, offset, limit);
+            logger.debug("Done loading all the employees with search string : {}.", name);
+            return employees;
         } catch (EmployeeIntegrationException e) {
             logger.error("Error occurred while searching for employee. Error : {}", e.getMessage());
             throw new EmployeeServiceException("Error searching for employees by name", e);
         }
     }
 
+    /**
+     * Answers a filtered listing with one page of the server's indexed query, whether or not the snapshot cache is
+     * enabled, so the cursor is always the server's and range filters never scan the roster here.
+     */
+    @Override
+    public EmployeePage findEmployees(String name, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge,
+                                      String title, String cursor, int limit) {
+        logger.debug("Received request to find employees, cursor: {}, limit: {}.", cursor, limit);
+        validatePage(0, limit);
+        try {
+            EmployeePageDto page = employeeIntegration.getEmployeePage(EmployeeQuery.builder()
+                    .name(name)
+                    .minSalary(minSalary)
+                    .maxSalary(maxSalary)
+                    .minAge(minAge)
+                    .maxAge(maxAge)
+                    .title(title)
+                    .cursor(cursor)
+                    .limit(Math.min(limit, EmployeeQuery.MAX_PAGE_SIZE))
+                    .build());
+            logger.debug("Done finding employees.");
+            return new EmployeePage(page.getEmployees(), page.getNextCursor());
+        } catch (EmployeeIntegrationException e) {
+            logger.error("Error occurred while finding employees. Error : {}", e.getMessage());
+            throw new EmployeeServiceException("Error finding employees", e);
+        }
+    }
+
     @Override
     public Employee getEmployeeById(String id) {
-        logger.info("Received request to load employee by id: {}.", id);
+        logger.debug("Received request to load employee by id: {}.", id);
         validateInput(id, "Employee ID");
         try {
             EmployeeResponseDto employeeResponseDto = employeeIntegration.getEmployeeById(id);
-            logger.info("Done loading employee details.");
+            logger.debug("Done loading employee details.");
             return employeeResponseDto.getData();
         } catch (EmployeeNotFoundException e) {
             logger.error("Unable to find employee with id : {}", id);
@@ -76,12 +141,11 @@ public class EmployeeService implements IEmployeeService {
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        logger.info("Received request to fetch highest salary.");
+        logger.debug("Received request to fetch highest salary.");
         try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            Optional<Integer> highestSalary = getAllEmployeeResponseDto.getData().stream()
-                    .map(Employee::getEmployeeSalary)
-                    .max(Integer::compareTo);
+            Optional<Integer> highestSalary = employeeSnapshotCache.isEnabled()
+                    ? employeeSnapshotCache.getSnapshot().getSalaryIndex().getHighestSalary()
+                    : streamAggregates().getHighestSalary();
             return highestSalary.orElseThrow(() -> new EmployeeServiceException("No employees found to determine highest salary"));
         } catch (EmployeeIntegrationException e) {
             throw new EmployeeServiceException("Error fetching highest salary of employees", e);
@@ -90,26 +154,43 @@ public class EmployeeService implements IEmployeeService {
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        logger.info("Received request to fetch Top Ten Highest Earning Employees.");
+        logger.debug("Received request to fetch Top Ten Highest Earning Employees.");
         try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            return getAllEmployeeResponseDto.getData().stream()
-                    .sorted((e1, e2) -> Integer.compare(e2.getEmployeeSalary(), e1.getEmployeeSalary()))
-                    .limit(10)
-                    .map(Employee::getEmployeeName)
-                    .collect(Collectors.toList());
+            return employeeSnapshotCache.isEnabled()
+                    ? employeeSnapshotCache.getSnapshot().getSalaryIndex().getTopEarnerNames()
+                    : streamAggregates().getTopEarnerNames();
         } catch (EmployeeIntegrationException e) {
             throw new EmployeeServiceException("Error fetching top 10 highest earning employee names", e);
         }
     }
 
+    /**
+     * Serves the analytics kept alongside the cached snapshot, which follow local creates and deletes without a
+     * rescan. With the cache disabled the roster is streamed once and accumulated on the fly.
+     */
+    @Override
+    public EmployeeAnalytics getEmployeeAnalytics() {
+        logger.debug("Received request to compute employee analytics.");
+        try {
+            if (employeeSnapshotCache.isEnabled()) {
+                return employeeSnapshotCache.getSnapshot().getAnalytics().summarize();
+            }
+            RosterAnalytics.Accumulator accumulator = RosterAnalytics.accumulator();
+            employeeIntegration.streamAllEmployees(accumulator);
+            return accumulator.toAnalytics().summarize();
+        } catch (EmployeeIntegrationException e) {
+            throw new EmployeeServiceException("Error computing employee analytics", e);
+        }
+    }
+
     @Override
     public Employee createEmployee(String name, int salary, int age, String title) {
-        logger.info("Received request to create new Employee.");
+        logger.debug("Received request to create new Employee.");
         validateEmployeeData(name, salary, age, title);
         try {
             EmployeeResponseDto employeeResponseDto = employeeIntegration.createEmployee(name, salary, age, title);
-            logger.info("Successfully created new Employee.");
+            employeeSnapshotCache.onEmployeeCreated(employeeResponseDto.getData());
+            logger.debug("Successfully created new Employee.");
             return employeeResponseDto.getData();
         } catch (EmployeeCreationException e) {
             logger.error("Unable to create employee with name : {}", name);
@@ -122,11 +203,11 @@ public class EmployeeService implements IEmployeeService {
     @Override
     public String deleteEmployeeById(String id) {
         validateInput(id, "Employee ID");
-        logger.info("Received request to delete employee with id : {}", id);
+        logger.debug("Received request to delete employee with id : {}", id);
         try {
-            Employee employee = getEmployeeById(id);
-            employeeIntegration.deleteEmployee(employee.getEmployeeName());
-            logger.info("Successfully deleted employee with id : {}", id);
+            Employee employee = employeeIntegration.deleteEmployeeById(id);
+            employeeSnapshotCache.onEmployeeDeleted(id);
+            logger.debug("Successfully deleted employee with id : {}", id);
             return employee.getEmployeeName();
         } catch (EmployeeNotFoundException e) {
             logger.error("Unable to find employee with id : {}", id);
@@ -136,12 +217,98 @@ public class EmployeeService implements IEmployeeService {
         }
     }
 
+    @Override
+    public List<EmployeeBatchResult> createEmployees(List<EmployeeInput> inputs) {
+        validateBatchSize(inputs);
+        logger.debug("Received request to create {} employees.", inputs.size());
+        try {
+            List<EmployeeBatchResult> results = employeeIntegration.createEmployees(inputs);
+            for (EmployeeBatchResult result : results) {
+                if (result.getStatus() == EmployeeBatchResult.Status.CREATED) {
+                    employeeSnapshotCache.onEmployeeCreated(result.getData());
+                }
+            }
+            logger.debug("Successfully processed batch of {} employees.", inputs.size());
+            return results;
+        } catch (EmployeeIntegrationException e) {
+            throw new EmployeeServiceException("Error creating employees", e);
+        }
+    }
+
+    @Override
+    public List<EmployeeBatchResult> deleteEmployeesById(List<String> ids) {
+        validateBatchSize(ids);
+        ids.forEach(id -> validateInput(id, "Employee ID"));
+        logger.debug("Received request to delete {} employees.", ids.size());
+        try {
+            List<EmployeeBatchResult> results = employeeIntegration.deleteEmployees(
+                    ids.stream().map(EmployeeBatchDeleteRequestDto::byId).toList());
+            for (EmployeeBatchResult result : results) {
+                if (result.getStatus() == EmployeeBatchResult.Status.DELETED) {
+                    employeeSnapshotCache.onEmployeeDeleted(ids.get(result.getIndex()));
+                }
+            }
+            logger.debug("Successfully processed batch delete of {} employees.", ids.size());
+            return results;
+        } catch (EmployeeIntegrationException e) {
+            throw new EmployeeServiceException("Error deleting employees", e);
+        }
+    }
+
+    private StreamingRosterAggregator streamAggregates() {
+        StreamingRosterAggregator aggregator = new StreamingRosterAggregator(SalaryIndex.TOP_EARNERS_LIMIT);
+        employeeIntegration.streamAllEmployees(aggregator);
+        return aggregator;
+    }
+
+    /**
+     * Pushes the name filter down to the server's paged listing and follows cursors until the requested window is
+     * filled. Results come back in the server's id order.
+     */
+    private List<Employee> pushDownNameSearch(String name, int offset, int limit) {
+        List<Employee> matches = new ArrayList<>();
+        long toSkip = offset;
+        EmployeeQuery query = EmployeeQuery.builder().name(name).limit(EmployeeQuery.MAX_PAGE_SIZE).build();
+        while (matches.size() < limit) {
+            long wanted = toSkip + limit - matches.size();
+            EmployeePageDto page = employeeIntegration.getEmployeePage(
+                    query.toBuilder().limit((int) Math.min(wanted, EmployeeQuery.MAX_PAGE_SIZE)).build());
+            for (Employee employee : page.getEmployees()) {
+                if (toSkip > 0) {
+                    toSkip--;
+                } else if (matches.size() < limit) {
+                    matches.add(employee);
+                }
+            }
+            if (page.getNextCursor() == null) {
+                break;
+            }
+            query = query.toBuilder().cursor(page.getNextCursor()).build();
+        }
+        return matches;
+    }
+
+    private void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
     private void validateInput(String value, String fieldName) {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException(fieldName + " must not be null or empty");
         }
     }
 
+    private void validatePage(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+    }
+
     private void validateEmployeeData(String name, int salary, int age, String title) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Employee name must not be null or empty");
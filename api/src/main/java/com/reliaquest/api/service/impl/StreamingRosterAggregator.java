@@ -0,0 +1,63 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Single-pass aggregation over a streamed roster. Only the highest salary and a bounded min-heap of the top earners
+ * are retained, so memory stays constant regardless of roster size. Ties keep roster order, matching
+ * {@link com.reliaquest.api.cache.SalaryIndex}.
+ */
+final class StreamingRosterAggregator implements Consumer<Employee> {
+
+    private static final Comparator<Ranked> WORST_FIRST = Comparator.comparingLong(Ranked::salary)
+            .thenComparing(Comparator.comparingLong(Ranked::sequence).reversed());
+
+    private final int limit;
+    private final PriorityQueue<Ranked> topEarners;
+    private Integer highestSalary;
+    private long sequence;
+
+    StreamingRosterAggregator(int limit) {
+        this.limit = limit;
+        this.topEarners = new PriorityQueue<>(limit + 1, WORST_FIRST);
+    }
+
+    @Override
+    public void accept(Employee employee) {
+        Integer salary = employee.getEmployeeSalary();
+        if (salary != null && (highestSalary == null || salary > highestSalary)) {
+            highestSalary = salary;
+        }
+        Ranked ranked = new Ranked(employee, salary == null ? Long.MIN_VALUE : salary, sequence++);
+        if (topEarners.size() < limit) {
+            topEarners.add(ranked);
+        } else if (WORST_FIRST.compare(ranked, topEarners.peek()) > 0) {
+            topEarners.poll();
+            topEarners.add(ranked);
+        }
+    }
+
+    Optional<Integer> getHighestSalary() {
+        return Optional.ofNullable(highestSalary);
+    }
+
+    List<String> getTopEarnerNames() {
+        List<Ranked> ranked = new ArrayList<>(topEarners);
+        ranked.sort(WORST_FIRST.reversed());
+        List<String> names = new ArrayList<>(ranked.size());
+        for (Ranked entry : ranked) {
+            names.add(entry.employee().getEmployeeName());
+        }
+        return names;
+    }
+
+    private record Ranked(Employee employee, long salary, long sequence) {
+    }
+}
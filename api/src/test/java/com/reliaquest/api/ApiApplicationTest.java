@@ -3,6 +3,7 @@ package com.reliaquest.api;
 import com.reliaquest.api.controller.EmployeeController;
 import com.reliaquest.api.integration.EmployeeIntegration;
 import com.reliaquest.api.service.impl.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,10 +22,23 @@ class ApiApplicationTest {
     @Autowired
     private EmployeeIntegration employeeIntegration;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void contextLoads() {
         assertNotNull(employeeController, "EmployeeController should be loaded in context");
         assertNotNull(employeeService, "EmployeeService should be loaded in context");
         assertNotNull(employeeIntegration, "EmployeeIntegration should be loaded in context");
     }
+
+    @Test
+    void employeeMetersAreRegistered() {
+        assertNotNull(meterRegistry.find("employee.roster.size").gauge(), "roster size gauge should be registered");
+        assertNotNull(meterRegistry.find("employee.cache.age").timeGauge(), "cache age gauge should be registered");
+        assertNotNull(meterRegistry.find("employee.upstream.rate.limited").functionCounter(),
+                "upstream 429 counter should be registered");
+        assertNotNull(meterRegistry.find("employee.upstream.retries").functionCounter(),
+                "upstream retry counter should be registered");
+    }
 }
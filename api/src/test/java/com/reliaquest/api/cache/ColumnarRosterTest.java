@@ -0,0 +1,142 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarRosterTest {
+
+    @Test
+    void testOf_EmptyRoster() {
+        ColumnarRoster columns = ColumnarRoster.of(List.of());
+
+        assertEquals(0, columns.size());
+        assertEquals(0, columns.titleCount());
+        assertTrue(columns.getHighestSalary().isEmpty());
+    }
+
+    @Test
+    void testOf_EncodesColumnsInRosterOrder() {
+        List<Employee> employees = List.of(
+                employee("Alice", 100, 30, "Engineer"),
+                employee("Bob", 300, 40, "Manager"),
+                employee("Carol", 200, 50, "Engineer"));
+
+        ColumnarRoster columns = ColumnarRoster.of(employees);
+
+        assertEquals(3, columns.size());
+        assertEquals(employees.get(1).getId(), columns.id(1));
+        assertEquals("Carol", columns.name(2));
+        assertEquals(300, columns.salary(1));
+        assertEquals(50, columns.age(2));
+        assertEquals(2, columns.titleCount());
+        assertEquals(columns.titleCode(0), columns.titleCode(2));
+        assertEquals("Manager", columns.title(columns.titleCode(1)));
+        assertEquals(300, columns.getHighestSalary().orElseThrow());
+    }
+
+    @Test
+    void testOf_MissingValuesUseSentinels() {
+        ColumnarRoster columns = ColumnarRoster.of(List.of(
+                new Employee(UUID.randomUUID().toString(), null, null, null, null, null)));
+
+        assertNull(columns.name(0));
+        assertEquals(ColumnarRoster.MISSING, columns.salary(0));
+        assertEquals(ColumnarRoster.MISSING, columns.age(0));
+        assertEquals(ColumnarRoster.NO_TITLE, columns.titleCode(0));
+        assertTrue(columns.getHighestSalary().isEmpty());
+    }
+
+    @Test
+    void testOf_InternsEqualNames() {
+        ColumnarRoster columns = ColumnarRoster.of(List.of(
+                employee(new String("John Doe"), 100, 30, "Engineer"),
+                employee(new String("John Doe"), 200, 30, "Engineer")));
+
+        assertSame(columns.name(0), columns.name(1));
+    }
+
+    @Test
+    void testWithAndWithoutRow_MatchFullRebuild() {
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        ColumnarRoster columns = ColumnarRoster.of(roster);
+
+        for (int i = 0; i < 500; i++) {
+            if (!roster.isEmpty() && random.nextInt(3) == 0) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                columns = columns.withoutRow(columns.rowOf(removed.getId()));
+            } else {
+                Employee added = employee("Employee " + i, random.nextInt(20) * 1000, 20 + random.nextInt(40),
+                        "Title " + random.nextInt(8));
+                roster.add(added);
+                columns = columns.with(added);
+            }
+            assertEquals(roster, columns.asList());
+            assertEquals(ColumnarRoster.of(roster).getHighestSalary(), columns.getHighestSalary());
+        }
+        assertEquals(roster, columns.compacted().asList());
+        assertEquals(roster.size(), columns.compacted().rowCount());
+    }
+
+    @Test
+    void testOlderVersions_AreUnchangedAndBranchOnWrite() {
+        Employee alice = employee("Alice", 100, 30, "Engineer");
+        Employee bob = employee("Bob", 300, 40, "Manager");
+        Employee carol = employee("Carol", 200, 50, "Analyst");
+        ColumnarRoster base = ColumnarRoster.of(List.of(alice, bob));
+
+        ColumnarRoster withCarol = base.with(carol);
+        ColumnarRoster withoutAlice = withCarol.withoutRow(withCarol.rowOf(alice.getId()));
+        ColumnarRoster branched = base.withoutRow(base.rowOf(bob.getId()));
+
+        assertEquals(List.of(alice, bob), base.asList());
+        assertEquals(List.of(alice, bob, carol), withCarol.asList());
+        assertEquals(List.of(bob, carol), withoutAlice.asList());
+        assertEquals(List.of(alice), branched.asList());
+        assertEquals(0, withCarol.rowOf(alice.getId()));
+        assertEquals(-1, withoutAlice.rowOf(alice.getId()));
+        assertEquals(-1, branched.rowOf(carol.getId()));
+        assertEquals("Analyst", withoutAlice.title(withoutAlice.titleCode(withoutAlice.rowOf(carol.getId()))));
+        assertEquals(2, base.titleCount());
+    }
+
+    @Test
+    void testAsList_PositionalAccessSkipsRemovedRows() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            employees.add(employee("Employee " + i, i * 1000, 30, "Engineer"));
+        }
+        ColumnarRoster columns = ColumnarRoster.of(employees);
+        for (int i = 0; i < 10; i += 3) {
+            columns = columns.withoutRow(columns.rowOf(employees.get(i).getId()));
+        }
+
+        List<Employee> view = columns.asList();
+
+        assertEquals(6, view.size());
+        assertEquals(10, columns.rowCount());
+        assertEquals(employees.get(1), view.get(0));
+        assertEquals(employees.get(8), view.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(6));
+    }
+
+    @Test
+    void testWithoutRow_RemovedRowLeavesVersionUnchanged() {
+        Employee alice = employee("Alice", 100, 30, "Engineer");
+        ColumnarRoster columns = ColumnarRoster.of(List.of(alice)).withoutRow(0);
+
+        assertSame(columns, columns.withoutRow(0));
+        assertEquals(-1, columns.rowOf("unknown"));
+    }
+
+    private static Employee employee(String name, int salary, int age, String title) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, age, title, name + "@company.com");
+    }
+}
@@ -0,0 +1,319 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.EmployeeCacheConfigs;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.EmployeeIntegrationException;
+import com.reliaquest.api.integration.EmployeeIntegration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotCacheTest {
+
+    @Mock
+    private EmployeeIntegration employeeIntegration;
+
+    private EmployeeCacheConfigs employeeCacheConfigs;
+    private EmployeeSnapshotCache employeeSnapshotCache;
+    private final List<Runnable> compactions = new ArrayList<>();
+
+    private Employee employee1;
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        employeeCacheConfigs = new EmployeeCacheConfigs();
+        employeeSnapshotCache = new EmployeeSnapshotCache(employeeIntegration, employeeCacheConfigs, compactions::add);
+
+        employee1 = new Employee(UUID.randomUUID().toString(), "John Doe", 100000, 30, "Software Engineer", "john.doe@example.com");
+        employee2 = new Employee(UUID.randomUUID().toString(), "Jane Smith", 120000, 28, "Senior Engineer", "jane.smith@example.com");
+    }
+
+    @Test
+    void testGetSnapshot_LoadsOnceAndServesFromMemory() {
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(List.of(employee1, employee2)));
+
+        EmployeeSnapshot first = employeeSnapshotCache.getSnapshot();
+        EmployeeSnapshot second = employeeSnapshotCache.getSnapshot();
+
+        assertSame(first, second);
+        assertEquals(2, second.size());
+        verify(employeeIntegration, times(1)).getRoster();
+
+        CacheStats stats = employeeSnapshotCache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.refreshes());
+        assertEquals(0.5, stats.hitRatio());
+    }
+
+    @Test
+    void testGetSnapshot_DisabledAlwaysGoesUpstream() {
+        employeeCacheConfigs.setEnabled(false);
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(List.of(employee1)));
+
+        employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.getSnapshot();
+
+        verify(employeeIntegration, times(2)).getRoster();
+        assertEquals(0, employeeSnapshotCache.getStats().hits());
+    }
+
+    @Test
+    void testGetEmployees_DisabledReturnsFetchedRosterWithoutBuildingSnapshot() {
+        employeeCacheConfigs.setEnabled(false);
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(List.of(employee1, employee2)));
+
+        assertEquals(List.of(employee1, employee2), employeeSnapshotCache.getEmployees());
+        assertEquals(List.of(employee1, employee2), employeeSnapshotCache.getEmployees());
+
+        verify(employeeIntegration, times(2)).getRoster();
+        assertEquals(0, employeeSnapshotCache.getStats().refreshes());
+        assertEquals(0, employeeSnapshotCache.getStats().size());
+    }
+
+    @Test
+    void testRefresh_FailureKeepsStaleSnapshot() {
+        when(employeeIntegration.getRoster())
+                .thenReturn(ColumnarRoster.of(List.of(employee1)))
+                .thenThrow(new EmployeeIntegrationException("Upstream down", null));
+
+        EmployeeSnapshot loaded = employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.refresh();
+
+        assertSame(loaded, employeeSnapshotCache.getSnapshot());
+        assertEquals(1, employeeSnapshotCache.getStats().refreshFailures());
+    }
+
+    @Test
+    void testRefresh_NotModifiedResponseKeepsIndexes() {
+        ColumnarRoster roster = ColumnarRoster.of(List.of(employee1, employee2));
+        when(employeeIntegration.getRoster()).thenReturn(roster);
+
+        EmployeeSnapshot loaded = employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.refresh();
+        EmployeeSnapshot revalidated = employeeSnapshotCache.getSnapshot();
+
+        assertNotSame(loaded, revalidated);
+        assertSame(loaded.getSalaryIndex(), revalidated.getSalaryIndex());
+        assertSame(loaded.getNameIndex(), revalidated.getNameIndex());
+        assertFalse(revalidated.getLoadedAt().isBefore(loaded.getLoadedAt()));
+    }
+
+    @Test
+    void testRefresh_ReplacesSnapshot() {
+        when(employeeIntegration.getRoster())
+                .thenReturn(ColumnarRoster.of(List.of(employee1)))
+                .thenReturn(ColumnarRoster.of(List.of(employee1, employee2)));
+
+        employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.refresh();
+
+        assertEquals(2, employeeSnapshotCache.getSnapshot().size());
+        assertEquals(2, employeeSnapshotCache.getStats().refreshes());
+    }
+
+    @Test
+    void testRefresh_ReplaysLocalUpdateThatRacedWithIt() {
+        when(employeeIntegration.getRoster())
+                .thenReturn(ColumnarRoster.of(List.of(employee1)))
+                .thenAnswer(invocation -> {
+                    // The create lands while the refresh is still waiting on upstream, so the roster predates it.
+                    employeeSnapshotCache.onEmployeeCreated(employee2);
+                    return ColumnarRoster.of(List.of(employee1));
+                });
+
+        EmployeeSnapshot loaded = employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.refresh();
+
+        EmployeeSnapshot current = employeeSnapshotCache.getSnapshot();
+        assertEquals(List.of(employee1, employee2), current.getEmployees());
+        assertFalse(current.getLoadedAt().isBefore(loaded.getLoadedAt()));
+        assertEquals(1, employeeSnapshotCache.getStats().refreshes());
+        assertEquals(1, employeeSnapshotCache.getStats().replayedRefreshes());
+    }
+
+    @Test
+    void testRefresh_ReplayedCreateAlreadyInRosterIsNotDuplicated() {
+        when(employeeIntegration.getRoster())
+                .thenReturn(ColumnarRoster.of(List.of(employee1)))
+                .thenAnswer(invocation -> {
+                    employeeSnapshotCache.onEmployeeCreated(employee2);
+                    return ColumnarRoster.of(List.of(employee1, employee2));
+                });
+
+        employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.refresh();
+
+        EmployeeSnapshot current = employeeSnapshotCache.getSnapshot();
+        assertEquals(List.of(employee1, employee2), current.getEmployees());
+        assertEquals(2, current.getSalaryIndex().size());
+    }
+
+    @Test
+    void testRefresh_LandsUnderSustainedWrites() {
+        Employee employee3 = new Employee(UUID.randomUUID().toString(), "Jim Beam", 90000, 40, "Engineer", "jim.beam@example.com");
+        when(employeeIntegration.getRoster())
+                .thenReturn(ColumnarRoster.of(List.of(employee1)))
+                .thenAnswer(invocation -> {
+                    employeeSnapshotCache.onEmployeeCreated(employee2);
+                    return ColumnarRoster.of(List.of(employee1, employee3));
+                })
+                .thenAnswer(invocation -> {
+                    employeeSnapshotCache.onEmployeeDeleted(employee1.getId());
+                    return ColumnarRoster.of(List.of(employee1, employee2, employee3));
+                });
+
+        employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.refresh();
+        assertEquals(List.of(employee1, employee3, employee2), employeeSnapshotCache.getSnapshot().getEmployees());
+
+        employeeSnapshotCache.refresh();
+        assertEquals(List.of(employee2, employee3), employeeSnapshotCache.getSnapshot().getEmployees());
+        assertEquals(2, employeeSnapshotCache.getStats().replayedRefreshes());
+    }
+
+    @Test
+    void testRefresh_AfterRaceAcceptsNextResult() {
+        Employee employee3 = new Employee(UUID.randomUUID().toString(), "Jim Beam", 90000, 40, "Engineer", "jim.beam@example.com");
+        when(employeeIntegration.getRoster())
+                .thenReturn(ColumnarRoster.of(List.of(employee1)))
+                .thenAnswer(invocation -> {
+                    employeeSnapshotCache.onEmployeeCreated(employee2);
+                    return ColumnarRoster.of(List.of(employee1));
+                })
+                .thenReturn(ColumnarRoster.of(List.of(employee1, employee2, employee3)));
+
+        employeeSnapshotCache.getSnapshot();
+        employeeSnapshotCache.refresh();
+        employeeSnapshotCache.refresh();
+
+        assertEquals(3, employeeSnapshotCache.getSnapshot().size());
+    }
+
+    @Test
+    void testInitialLoadFailure_Propagates() {
+        when(employeeIntegration.getRoster()).thenThrow(new EmployeeIntegrationException("Upstream down", null));
+
+        assertThrows(EmployeeIntegrationException.class, () -> employeeSnapshotCache.getSnapshot());
+        assertEquals(1, employeeSnapshotCache.getStats().refreshFailures());
+    }
+
+    @Test
+    void testLocalMutations_PatchSnapshot() {
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(List.of(employee1)));
+        EmployeeSnapshot loaded = employeeSnapshotCache.getSnapshot();
+
+        employeeSnapshotCache.onEmployeeCreated(employee2);
+        EmployeeSnapshot afterCreate = employeeSnapshotCache.getSnapshot();
+        assertEquals(2, afterCreate.size());
+        assertEquals(1, loaded.size(), "Previously handed out snapshots must not change");
+
+        employeeSnapshotCache.onEmployeeDeleted(employee1.getId());
+        EmployeeSnapshot afterDelete = employeeSnapshotCache.getSnapshot();
+        assertEquals(List.of(employee2), afterDelete.getEmployees());
+        verify(employeeIntegration, times(1)).getRoster();
+    }
+
+    @Test
+    void testLocalMutations_BeforeFirstLoadAreIgnored() {
+        employeeSnapshotCache.onEmployeeCreated(employee1);
+        employeeSnapshotCache.onEmployeeDeleted(employee1.getId());
+
+        assertEquals(0, employeeSnapshotCache.getStats().size());
+        verifyNoInteractions(employeeIntegration);
+    }
+
+    @Test
+    void testCompaction_RunsOnceOffTheMutationPathAndReplaysLaterMutations() {
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(List.of(employee1)));
+        employeeSnapshotCache.getSnapshot();
+        createEmployees(1025);
+        assertEquals(1, compactions.size());
+        assertTrue(employeeSnapshotCache.getSnapshot().needsCompaction());
+
+        employeeSnapshotCache.onEmployeeCreated(employee2);
+        employeeSnapshotCache.onEmployeeDeleted(employee1.getId());
+        assertEquals(1, compactions.size(), "Only one compaction runs at a time");
+        compactions.get(0).run();
+
+        EmployeeSnapshot compacted = employeeSnapshotCache.getSnapshot();
+        assertFalse(compacted.needsCompaction());
+        assertEquals(1026, compacted.size());
+        assertEquals(List.of(employee2), compacted.searchByName("jane", 0, Integer.MAX_VALUE));
+        assertEquals(List.of(), compacted.searchByName("john", 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testCompaction_DiscardedWhenRefreshReplacedSnapshot() {
+        when(employeeIntegration.getRoster())
+                .thenReturn(ColumnarRoster.of(List.of(employee1)))
+                .thenReturn(ColumnarRoster.of(List.of(employee1, employee2)));
+        employeeSnapshotCache.getSnapshot();
+        createEmployees(1025);
+
+        employeeSnapshotCache.refresh();
+        EmployeeSnapshot refreshed = employeeSnapshotCache.getSnapshot();
+        compactions.get(0).run();
+
+        assertSame(refreshed, employeeSnapshotCache.getSnapshot());
+        assertEquals(2, refreshed.size());
+    }
+
+    @Test
+    void testConcurrentMutations_KeepSalaryIndexConsistent() throws Exception {
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(List.of(employee1, employee2)));
+        employeeSnapshotCache.getSnapshot();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        Employee created = new Employee(UUID.randomUUID().toString(), "Employee " + offset + "-" + i,
+                                1000 * ((offset * 200 + i) % 97), 30, "Engineer", "employee@company.com");
+                        employeeSnapshotCache.onEmployeeCreated(created);
+                        if (i % 2 == 0) {
+                            employeeSnapshotCache.onEmployeeDeleted(created.getId());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getSnapshot();
+        SalaryIndex rebuilt = SalaryIndex.of(snapshot.getEmployees());
+        assertEquals(2 + 8 * 100, snapshot.size());
+        assertEquals(snapshot.size(), snapshot.getSalaryIndex().size());
+        assertEquals(rebuilt.getHighestSalary(), snapshot.getSalaryIndex().getHighestSalary());
+        assertEquals(rebuilt.getTopEarnerNames(), snapshot.getSalaryIndex().getTopEarnerNames());
+    }
+
+    private void createEmployees(int count) {
+        for (int i = 0; i < count; i++) {
+            employeeSnapshotCache.onEmployeeCreated(new Employee(UUID.randomUUID().toString(), "Employee " + i, 50000, 30,
+                    "Engineer", "employee@company.com"));
+        }
+    }
+}
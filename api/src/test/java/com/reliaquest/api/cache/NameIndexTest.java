@@ -0,0 +1,148 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private final Employee john = employee("John Doe");
+    private final Employee johnny = employee("Johnny Smith");
+    private final Employee alice = employee("Alice Johnson");
+    private final Employee bob = employee("Bob Brown");
+
+    private final ColumnarRoster columns = ColumnarRoster.of(List.of(john, johnny, alice, bob));
+    private final NameIndex nameIndex = NameIndex.of(columns);
+
+    @Test
+    void testSearch_CaseInsensitiveSubstringInRosterOrder() {
+        assertEquals(List.of(john, johnny, alice), nameIndex.search(columns, "JOHN", 0, Integer.MAX_VALUE));
+        assertEquals(List.of(alice), nameIndex.search(columns, "ce jo", 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testSearch_ShortQueriesScanKeys() {
+        assertEquals(List.of(john, johnny, alice, bob), nameIndex.search(columns, "o", 0, Integer.MAX_VALUE));
+        assertEquals(List.of(bob), nameIndex.search(columns, "br", 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testSearch_NoMatch() {
+        assertTrue(nameIndex.search(columns, "zzz", 0, Integer.MAX_VALUE).isEmpty());
+        assertTrue(nameIndex.search(columns, "john doe smith", 0, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void testSearch_OffsetAndLimit() {
+        assertEquals(List.of(john, johnny), nameIndex.search(columns, "john", 0, 2));
+        assertEquals(List.of(johnny, alice), nameIndex.search(columns, "john", 1, 2));
+        assertEquals(List.of(), nameIndex.search(columns, "john", 3, 2));
+    }
+
+    @Test
+    void testSearch_IsLocaleSafe() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            ColumnarRoster turkishColumns = ColumnarRoster.of(List.of(employee("IVAN ILLICH")));
+            NameIndex turkishDefault = NameIndex.of(turkishColumns);
+            assertEquals(1, turkishDefault.search(turkishColumns, "ivan", 0, Integer.MAX_VALUE).size());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testWithAndWithout_MatchFullRebuild() {
+        Random random = new Random(7);
+        String[] names = {"Ann Lee", "Annabel Ng", "Joanne Park", "Lee Ann Kim", "Hannah Fox", "Dan Nguyen"};
+        List<Employee> roster = new ArrayList<>();
+        ColumnarRoster rosterColumns = ColumnarRoster.of(roster);
+        NameIndex index = NameIndex.of(rosterColumns);
+
+        for (int i = 0; i < 300; i++) {
+            if (!roster.isEmpty() && random.nextInt(3) == 0) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                rosterColumns = rosterColumns.withoutRow(rosterColumns.rowOf(removed.getId()));
+            } else {
+                Employee added = employee(names[random.nextInt(names.length)] + " " + i);
+                roster.add(added);
+                rosterColumns = rosterColumns.with(added);
+                index = index.with(rosterColumns);
+            }
+            if (i % 50 == 0) {
+                rosterColumns = rosterColumns.compacted();
+                index = NameIndex.of(rosterColumns);
+            }
+            for (String query : List.of("ann", "an", "lee", "n", "nguyen")) {
+                assertEquals(linearSearch(roster, query), index.search(rosterColumns, query, 0, Integer.MAX_VALUE), query);
+            }
+        }
+    }
+
+    @Test
+    void testWith_OnOlderVersionBranchesWithoutAffectingNewer() {
+        Employee carol = employee("Carol Johns");
+        Employee dave = employee("Dave Johnston");
+        Employee erin = employee("Erin Johansson");
+        ColumnarRoster withCarol = columns.with(carol);
+        NameIndex carolIndex = nameIndex.with(withCarol);
+        ColumnarRoster withoutJohn = withCarol.withoutRow(withCarol.rowOf(john.getId()));
+
+        ColumnarRoster withDave = withCarol.with(dave);
+        NameIndex daveIndex = carolIndex.with(withDave);
+        ColumnarRoster withErin = withCarol.with(erin);
+        NameIndex erinIndex = carolIndex.with(withErin);
+
+        assertEquals(List.of(johnny, alice, carol), carolIndex.search(withoutJohn, "joh", 0, Integer.MAX_VALUE));
+        assertEquals(List.of(john, johnny, alice, carol, dave), daveIndex.search(withDave, "joh", 0, Integer.MAX_VALUE));
+        assertEquals(List.of(john, johnny, alice, carol, erin), erinIndex.search(withErin, "joh", 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testWithout_ThenWithSameIdOnlyShowsTheNewEntry() {
+        Employee renamed = new Employee(john.getId(), "Jon Doe", 50000, 30, "Engineer", "employee@company.com");
+        ColumnarRoster updated = columns.withoutRow(columns.rowOf(john.getId())).with(renamed);
+        NameIndex index = nameIndex.with(updated);
+
+        assertEquals(List.of(johnny, alice), index.search(updated, "john", 0, Integer.MAX_VALUE));
+        assertEquals(List.of(renamed), index.search(updated, "jon ", 0, Integer.MAX_VALUE));
+        ColumnarRoster withoutRenamed = updated.withoutRow(updated.rowOf(john.getId()));
+        assertEquals(List.of(), index.search(withoutRenamed, "jon ", 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testNeedsCompaction_AfterAppendedRowsOutgrowThreshold() {
+        ColumnarRoster grown = columns;
+        NameIndex index = nameIndex;
+        for (int i = 0; i < 1024; i++) {
+            grown = grown.with(employee("Employee " + i));
+            index = index.with(grown);
+        }
+        assertFalse(index.needsCompaction());
+
+        grown = grown.with(employee("Employee 1024"));
+        index = index.with(grown);
+
+        assertTrue(index.needsCompaction());
+        assertFalse(NameIndex.of(grown).needsCompaction());
+    }
+
+    private static List<Employee> linearSearch(List<Employee> roster, String query) {
+        return roster.stream()
+                .filter(employee -> employee.getEmployeeName().toLowerCase(Locale.ROOT).contains(query))
+                .collect(Collectors.toList());
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID().toString(), name, 50000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,193 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.dto.GroupStatistics;
+import com.reliaquest.api.dto.SalaryBucket;
+import com.reliaquest.api.dto.SalaryStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterAnalyticsTest {
+
+    @Test
+    void testSummarize_EmptyRoster() {
+        EmployeeAnalytics analytics = RosterAnalytics.of(ColumnarRoster.of(List.of())).summarize();
+
+        assertEquals(0, analytics.getEmployeeCount());
+        assertEquals(0, analytics.getSalary().getCount());
+        assertNull(analytics.getSalary().getMedian());
+        assertTrue(analytics.getSalaryHistogram().isEmpty());
+        assertTrue(analytics.getByTitle().isEmpty());
+        assertTrue(analytics.getByAgeBand().isEmpty());
+    }
+
+    @Test
+    void testSummarize_SmallRoster() {
+        List<Employee> employees = List.of(
+                employee(40_000, 25, "Engineer"),
+                employee(60_000, 29, "Engineer"),
+                employee(90_000, 41, "Manager"),
+                new Employee(UUID.randomUUID().toString(), "No Salary", null, null, null, null));
+
+        EmployeeAnalytics analytics = RosterAnalytics.of(ColumnarRoster.of(employees)).summarize();
+
+        SalaryStatistics salary = analytics.getSalary();
+        assertEquals(4, analytics.getEmployeeCount());
+        assertEquals(3, salary.getCount());
+        assertEquals(40_000, salary.getMin());
+        assertEquals(90_000, salary.getMax());
+        assertEquals(190_000 / 3.0, salary.getMean(), 1e-9);
+        assertEquals(60_000, salary.getMedian(), 60_000 * SalarySketch.RELATIVE_ACCURACY);
+        assertEquals(90_000, salary.getP99(), 90_000 * SalarySketch.RELATIVE_ACCURACY);
+        assertEquals(List.of(25_000, 50_000, 75_000),
+                analytics.getSalaryHistogram().stream().map(SalaryBucket::getFrom).toList());
+
+        GroupStatistics engineers = analytics.getByTitle().get(0);
+        assertEquals("Engineer", engineers.getGroup());
+        assertEquals(2, engineers.getCount());
+        assertEquals(50_000.0, engineers.getAverageSalary());
+        assertEquals(27.0, engineers.getAverageAge());
+        assertEquals(List.of("20-29", "40-49"), analytics.getByAgeBand().stream().map(GroupStatistics::getGroup).toList());
+    }
+
+    @Test
+    void testSummarize_PercentilesWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            employees.add(employee(30_000 + random.nextInt(470_000), 16 + random.nextInt(54), "Title " + random.nextInt(50)));
+        }
+        int[] sorted = employees.stream().mapToInt(Employee::getEmployeeSalary).sorted().toArray();
+
+        SalaryStatistics salary = RosterAnalytics.of(ColumnarRoster.of(employees)).summarize().getSalary();
+
+        assertWithinAccuracy(nearestRank(sorted, 0.5), salary.getMedian());
+        assertWithinAccuracy(nearestRank(sorted, 0.9), salary.getP90());
+        assertWithinAccuracy(nearestRank(sorted, 0.99), salary.getP99());
+        assertEquals(sorted[0], salary.getMin());
+        assertEquals(sorted[sorted.length - 1], salary.getMax());
+    }
+
+    @Test
+    void testParallelBuild_MatchesStreamedAccumulator() {
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 150_000; i++) {
+            employees.add(employee(random.nextInt(300_000), random.nextInt(80), "Title " + random.nextInt(20)));
+        }
+        RosterAnalytics.Accumulator accumulator = RosterAnalytics.accumulator();
+        employees.forEach(accumulator);
+
+        assertSameSummary(accumulator.toAnalytics().summarize(),
+                RosterAnalytics.of(ColumnarRoster.of(employees)).summarize());
+    }
+
+    @Test
+    void testSnapshotUpdates_MatchFullRebuild() {
+        Random random = new Random(42);
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(), null);
+
+        for (int i = 0; i < 300; i++) {
+            if (snapshot.size() > 0 && random.nextInt(3) == 0) {
+                Employee removed = snapshot.getEmployees().get(random.nextInt(snapshot.size()));
+                snapshot = snapshot.withoutEmployee(removed.getId());
+            } else {
+                snapshot = snapshot.withEmployee(employee(random.nextInt(20) * 10_000, 20 + random.nextInt(40),
+                        "Title " + random.nextInt(5)));
+            }
+            assertSameSummary(new EmployeeSnapshot(snapshot.getEmployees(), null).getAnalytics().summarize(),
+                    snapshot.getAnalytics().summarize());
+        }
+    }
+
+    @Test
+    void testSnapshotUpdates_AcrossLogFoldsMatchFullRebuild() {
+        Random random = new Random(11);
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(), null);
+
+        for (int i = 0; i < 3 * RosterAnalytics.FOLD_THRESHOLD; i++) {
+            if (snapshot.size() > 0 && random.nextInt(3) == 0) {
+                Employee removed = snapshot.getEmployees().get(random.nextInt(snapshot.size()));
+                snapshot = snapshot.withoutEmployee(removed.getId());
+            } else {
+                snapshot = snapshot.withEmployee(employee(random.nextInt(40) * 5_000, 20 + random.nextInt(45),
+                        "Title " + random.nextInt(7)));
+            }
+            if (i % 200 == 0) {
+                assertSameSummary(new EmployeeSnapshot(snapshot.getEmployees(), null).getAnalytics().summarize(),
+                        snapshot.getAnalytics().summarize());
+            }
+        }
+        assertSameSummary(new EmployeeSnapshot(snapshot.getEmployees(), null).getAnalytics().summarize(),
+                snapshot.getAnalytics().summarize());
+    }
+
+    @Test
+    void testWith_OnOlderVersionLeavesNewerSummariesIntact() {
+        RosterAnalytics base = RosterAnalytics.of(ColumnarRoster.of(List.of(employee(50_000, 30, "Engineer"))));
+        RosterAnalytics withManager = base.with(employee(90_000, 45, "Manager"));
+
+        RosterAnalytics withIntern = base.with(employee(20_000, 19, "Intern"));
+
+        assertEquals(1, base.summarize().getEmployeeCount());
+        assertEquals(90_000, withManager.summarize().getSalary().getMax());
+        assertEquals(50_000, withManager.summarize().getSalary().getMin());
+        assertEquals(List.of("Engineer", "Manager"), groupNames(withManager.summarize().getByTitle()));
+        assertEquals(20_000, withIntern.summarize().getSalary().getMin());
+        assertEquals(List.of("Engineer", "Intern"), groupNames(withIntern.summarize().getByTitle()));
+    }
+
+    private static List<String> groupNames(List<GroupStatistics> groups) {
+        return groups.stream().map(GroupStatistics::getGroup).sorted().toList();
+    }
+
+    private static int nearestRank(int[] sorted, double q) {
+        return sorted[(int) Math.ceil(q * sorted.length) - 1];
+    }
+
+    private static void assertWithinAccuracy(int expected, int actual) {
+        assertEquals(expected, actual, expected * SalarySketch.RELATIVE_ACCURACY);
+    }
+
+    private static void assertSameSummary(EmployeeAnalytics expected, EmployeeAnalytics actual) {
+        assertEquals(expected.getEmployeeCount(), actual.getEmployeeCount());
+        SalaryStatistics expectedSalary = expected.getSalary();
+        SalaryStatistics actualSalary = actual.getSalary();
+        assertEquals(expectedSalary.getCount(), actualSalary.getCount());
+        assertEquals(expectedSalary.getMin(), actualSalary.getMin());
+        assertEquals(expectedSalary.getMax(), actualSalary.getMax());
+        assertEquals(expectedSalary.getMedian(), actualSalary.getMedian());
+        assertEquals(expectedSalary.getP99(), actualSalary.getP99());
+        if (expectedSalary.getMean() != null) {
+            assertEquals(expectedSalary.getMean(), actualSalary.getMean(), 1e-6);
+        }
+        assertEquals(expected.getSalaryHistogram().size(), actual.getSalaryHistogram().size());
+        for (int i = 0; i < expected.getSalaryHistogram().size(); i++) {
+            assertEquals(expected.getSalaryHistogram().get(i).getFrom(), actual.getSalaryHistogram().get(i).getFrom());
+            assertEquals(expected.getSalaryHistogram().get(i).getCount(), actual.getSalaryHistogram().get(i).getCount());
+        }
+        assertSameGroups(expected.getByTitle(), actual.getByTitle());
+        assertSameGroups(expected.getByAgeBand(), actual.getByAgeBand());
+    }
+
+    private static void assertSameGroups(List<GroupStatistics> expected, List<GroupStatistics> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getGroup(), actual.get(i).getGroup());
+            assertEquals(expected.get(i).getCount(), actual.get(i).getCount());
+            assertEquals(expected.get(i).getAverageSalary(), actual.get(i).getAverageSalary(), 1e-6);
+            assertEquals(expected.get(i).getAverageAge(), actual.get(i).getAverageAge(), 1e-6);
+        }
+    }
+
+    private static Employee employee(int salary, int age, String title) {
+        return new Employee(UUID.randomUUID().toString(), "Employee " + salary, salary, age, title, "e@company.com");
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryIndexTest {
+
+    @Test
+    void testOf_EmptyRoster() {
+        SalaryIndex salaryIndex = SalaryIndex.of(List.of());
+
+        assertTrue(salaryIndex.getHighestSalary().isEmpty());
+        assertTrue(salaryIndex.getTopEarnerNames().isEmpty());
+    }
+
+    @Test
+    void testOf_OrdersBySalaryAndKeepsRosterOrderForTies() {
+        List<Employee> employees = List.of(
+                employee("Low", 10),
+                employee("TieFirst", 50),
+                employee("High", 90),
+                employee("TieSecond", 50));
+
+        SalaryIndex salaryIndex = SalaryIndex.of(employees);
+
+        assertEquals(90, salaryIndex.getHighestSalary().orElseThrow());
+        assertEquals(List.of("High", "TieFirst", "TieSecond", "Low"), salaryIndex.getTopEarnerNames());
+    }
+
+    @Test
+    void testOf_LimitsTopEarnersToTen() {
+        List<Employee> employees = IntStream.range(0, 25)
+                .mapToObj(i -> employee("Employee " + i, i * 1000))
+                .collect(Collectors.toList());
+
+        List<String> topEarnerNames = SalaryIndex.of(employees).getTopEarnerNames();
+
+        assertEquals(SalaryIndex.TOP_EARNERS_LIMIT, topEarnerNames.size());
+        assertEquals("Employee 24", topEarnerNames.get(0));
+        assertEquals("Employee 15", topEarnerNames.get(9));
+    }
+
+    @Test
+    void testWithAndWithout_MatchFullRebuild() {
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        SalaryIndex salaryIndex = SalaryIndex.of(roster);
+
+        for (int i = 0; i < 500; i++) {
+            if (!roster.isEmpty() && random.nextInt(3) == 0) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                salaryIndex = salaryIndex.without(removed, () -> SalaryIndex.of(roster));
+            } else {
+                Employee added = employee("Employee " + i, random.nextInt(20) * 1000);
+                roster.add(added);
+                salaryIndex = salaryIndex.with(added);
+            }
+            SalaryIndex rebuilt = SalaryIndex.of(roster);
+            assertEquals(rebuilt.getHighestSalary(), salaryIndex.getHighestSalary());
+            assertEquals(rebuilt.getTopEarnerNames(), salaryIndex.getTopEarnerNames());
+            assertEquals(rebuilt.getLowestSalary(), salaryIndex.getLowestSalary());
+            assertEquals(roster.size(), salaryIndex.size());
+        }
+    }
+
+    @Test
+    void testWithout_RescansOnlyOnceTopEarnersAreDrained() {
+        List<Employee> roster = IntStream.range(0, 100)
+                .mapToObj(i -> employee("Employee " + i, i * 1000))
+                .collect(Collectors.toCollection(ArrayList::new));
+        SalaryIndex salaryIndex = SalaryIndex.of(roster);
+        AtomicInteger rescans = new AtomicInteger();
+
+        // Deleting the highest earner each time drains the listed prefix from CAPACITY down to the ten served.
+        for (int i = 0; i < SalaryIndex.CAPACITY - SalaryIndex.TOP_EARNERS_LIMIT; i++) {
+            Employee removed = roster.remove(roster.size() - 1);
+            salaryIndex = salaryIndex.without(removed, () -> {
+                rescans.incrementAndGet();
+                return SalaryIndex.of(roster);
+            });
+        }
+        assertEquals(0, rescans.get());
+
+        Employee removed = roster.remove(roster.size() - 1);
+        salaryIndex = salaryIndex.without(removed, () -> {
+            rescans.incrementAndGet();
+            return SalaryIndex.of(roster);
+        });
+        assertEquals(1, rescans.get());
+        assertEquals(SalaryIndex.of(roster).getTopEarnerNames(), salaryIndex.getTopEarnerNames());
+    }
+
+    @Test
+    void testWithout_EmployeeOutsideExtremesKeepsLists() {
+        List<Employee> roster = IntStream.range(0, 100)
+                .mapToObj(i -> employee("Employee " + i, i * 1000))
+                .collect(Collectors.toCollection(ArrayList::new));
+        SalaryIndex salaryIndex = SalaryIndex.of(roster);
+
+        Employee removed = roster.remove(50);
+        SalaryIndex updated = salaryIndex.without(removed, () -> fail("Removing a middle earner must not rescan"));
+
+        assertEquals(salaryIndex.getTopEarnerNames(), updated.getTopEarnerNames());
+        assertEquals(Optional.of(0), updated.getLowestSalary());
+        assertEquals(99, updated.size());
+    }
+
+    @Test
+    void testOf_MatchesFullSort() {
+        List<Employee> employees = IntStream.range(0, 1000)
+                .mapToObj(i -> employee("Employee " + i, (i * 7919) % 1000))
+                .collect(Collectors.toList());
+
+        List<String> expected = employees.stream()
+                .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
+                .limit(10)
+                .map(Employee::getEmployeeName)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, SalaryIndex.of(employees).getTopEarnerNames());
+    }
+
+    @Test
+    void testOfColumns_SkipsRemovedRowsIncludingTiesAndMissingSalaries() {
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Integer salary = random.nextInt(10) == 0 ? null : random.nextInt(50) * 1000;
+            employees.add(new Employee(UUID.randomUUID().toString(), "Employee " + i, salary, 30, "Engineer", null));
+        }
+        employees.add(employee("Negative", -5));
+        ColumnarRoster columns = ColumnarRoster.of(employees);
+        List<Employee> remaining = new ArrayList<>(employees);
+
+        while (remaining.size() > 1) {
+            Employee removed = remaining.remove(random.nextInt(remaining.size()));
+            columns = columns.withoutRow(columns.rowOf(removed.getId()));
+            if (remaining.size() % 50 == 0) {
+                SalaryIndex expected = SalaryIndex.of(remaining);
+                SalaryIndex fromColumns = SalaryIndex.of(columns);
+                assertEquals(expected.getTopEarnerNames(), fromColumns.getTopEarnerNames());
+                assertEquals(expected.getHighestSalary(), fromColumns.getHighestSalary());
+                assertEquals(expected.getLowestSalary(), fromColumns.getLowestSalary());
+                assertEquals(remaining.size(), fromColumns.size());
+            }
+        }
+    }
+
+    private static Employee employee(String name, int salary) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, 30, "Engineer", name + "@company.com");
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.integration.dto.GetAllEmployeeResponseDto;
+import com.reliaquest.api.support.StubEmployeeServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the pooled client's connection reuse and gzip negotiation over real HTTP. Its latency against the default
+ * {@code SimpleClientHttpRequestFactory} is measured by {@code UpstreamClientBenchmark} in the benchmarks module.
+ */
+class EmployeeHttpClientsTest {
+
+    private StubEmployeeServer server;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubEmployeeServer.start(200);
+        url = server.getBaseUrl() + StubEmployeeServer.RESOURCE;
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testRequestFactory_DefaultsToPooledHttp1() {
+        ClientHttpRequestFactory requestFactory = EmployeeHttpClients.requestFactory(new EmployeeUrlConfigs.Http());
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, requestFactory);
+    }
+
+    @Test
+    void testRequestFactory_Http2UsesJdkClient() {
+        EmployeeUrlConfigs.Http http = new EmployeeUrlConfigs.Http();
+        http.setProtocol(EmployeeUrlConfigs.Protocol.HTTP_2);
+        assertInstanceOf(JdkClientHttpRequestFactory.class, EmployeeHttpClients.requestFactory(http));
+    }
+
+    @Test
+    void testPooledClient_ReusesConnectionAndNegotiatesGzip() throws Exception {
+        HttpComponentsClientHttpRequestFactory requestFactory = EmployeeHttpClients.pooledRequestFactory(new EmployeeUrlConfigs.Http());
+        try {
+            RestTemplate restTemplate = new RestTemplate(requestFactory);
+
+            for (int i = 0; i < 20; i++) {
+                GetAllEmployeeResponseDto response = restTemplate.getForObject(url, GetAllEmployeeResponseDto.class);
+                assertNotNull(response);
+                assertEquals(200, response.getData().size());
+            }
+        } finally {
+            requestFactory.destroy();
+        }
+
+        assertEquals(20, server.getGzipRequestCount());
+        assertEquals(1, server.getDistinctConnectionCount());
+    }
+
+    @Test
+    void testPooledClient_CompressionCanBeDisabled() throws Exception {
+        EmployeeUrlConfigs.Http http = new EmployeeUrlConfigs.Http();
+        http.setCompression(false);
+        HttpComponentsClientHttpRequestFactory requestFactory = EmployeeHttpClients.pooledRequestFactory(http);
+        try {
+            new RestTemplate(requestFactory).getForObject(url, GetAllEmployeeResponseDto.class);
+        } finally {
+            requestFactory.destroy();
+        }
+
+        assertEquals(0, server.getGzipRequestCount());
+    }
+}
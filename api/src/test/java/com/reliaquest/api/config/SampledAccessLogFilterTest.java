@@ -0,0 +1,113 @@
+package com.reliaquest.api.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampledAccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("com.reliaquest.api.access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = accessLogger.getLevel();
+        accessLogger.setLevel(Level.INFO);
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void testDoFilter_ZeroRateLogsNoSuccessfulRequests() throws Exception {
+        SampledAccessLogFilter filter = new SampledAccessLogFilter(0);
+
+        for (int i = 0; i < 100; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/employee"), new MockHttpServletResponse(),
+                    respondWith(HttpServletResponse.SC_OK));
+        }
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void testDoFilter_FullRateLogsEveryRequest() throws Exception {
+        SampledAccessLogFilter filter = new SampledAccessLogFilter(1);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/employee"), new MockHttpServletResponse(),
+                respondWith(HttpServletResponse.SC_OK));
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/employee/42"), new MockHttpServletResponse(),
+                respondWith(HttpServletResponse.SC_NOT_FOUND));
+
+        assertEquals(List.of("GET /employee 200", "DELETE /employee/42 404"), loggedRequests());
+    }
+
+    @Test
+    void testDoFilter_PartialRateLogsASampleOfRequests() throws Exception {
+        SampledAccessLogFilter filter = new SampledAccessLogFilter(0.5);
+
+        for (int i = 0; i < 1000; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/employee"), new MockHttpServletResponse(),
+                    respondWith(HttpServletResponse.SC_OK));
+        }
+
+        // Binomial(1000, 0.5): outside 350..650 is more than nine standard deviations away.
+        int logged = appender.list.size();
+        assertTrue(logged > 350 && logged < 650, "logged " + logged + " of 1000");
+    }
+
+    @Test
+    void testDoFilter_AlwaysLogsServerErrors() throws Exception {
+        SampledAccessLogFilter filter = new SampledAccessLogFilter(0);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/employee"), new MockHttpServletResponse(),
+                respondWith(HttpServletResponse.SC_BAD_GATEWAY));
+
+        assertEquals(List.of("GET /employee 502"), loggedRequests());
+        assertEquals(Level.INFO, appender.list.get(0).getLevel());
+    }
+
+    @Test
+    void testDoFilter_LogsExceptionAsServerError() {
+        SampledAccessLogFilter filter = new SampledAccessLogFilter(0);
+        FilterChain failing = (request, response) -> {
+            throw new ServletException("handler failed");
+        };
+
+        assertThrows(ServletException.class, () -> filter.doFilter(new MockHttpServletRequest("POST", "/employee"),
+                new MockHttpServletResponse(), failing));
+
+        assertEquals(List.of("POST /employee 500"), loggedRequests());
+    }
+
+    private static FilterChain respondWith(int status) {
+        return (request, response) -> ((HttpServletResponse) response).setStatus(status);
+    }
+
+    // The line ends with the duration, which varies, so only method, path and status are compared.
+    private List<String> loggedRequests() {
+        return appender.list.stream()
+                .map(event -> event.getFormattedMessage().replaceFirst(" \\d+ ms$", ""))
+                .toList();
+    }
+}
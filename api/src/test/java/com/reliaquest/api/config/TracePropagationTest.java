@@ -0,0 +1,42 @@
+package com.reliaquest.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Checks that exchanges made through the application's RestTemplate carry the W3C trace context the server joins. The
+ * local profile samples every request, so the header's flags must mark the trace as sampled.
+ */
+@SpringBootTest(properties = "employee.cache.enabled=false")
+@AutoConfigureObservability
+@ActiveProfiles("local")
+class TracePropagationTest {
+
+    private static final String SAMPLED_TRACEPARENT = "00-[0-9a-f]{32}-[0-9a-f]{16}-01";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Test
+    void testRestTemplate_SendsSampledTraceparent() {
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(header("traceparent", matchesPattern(SAMPLED_TRACEPARENT)))
+                .andRespond(withSuccess("{\"data\":[]}", MediaType.APPLICATION_JSON));
+
+        restTemplate.getForObject("http://localhost:8112/api/v1/employee", String.class);
+
+        server.verify();
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingConfigTest {
+
+    private final TracingConfig tracingConfig = new TracingConfig();
+
+    @Test
+    void testClientRequestConvention_CollapsesEmployeeIds() {
+        ClientRequestObservationConvention convention = tracingConfig.employeeClientRequestObservationConvention();
+
+        assertEquals("/api/v1/employee/{id}", uriTag(convention, "http://localhost:8112/api/v1/employee/4a3f0c1e-9b5d-4c1a-8f7e-2d6b9e0a1c3f"));
+        assertEquals("/api/v1/employee/batch", uriTag(convention, "http://localhost:8112/api/v1/employee/batch"));
+        assertEquals("/api/v1/employee", uriTag(convention, "http://localhost:8112/api/v1/employee"));
+    }
+
+    private static String uriTag(ClientRequestObservationConvention convention, String uriTemplate) {
+        ClientRequestObservationContext context = new ClientRequestObservationContext(new MockClientHttpRequest(HttpMethod.GET, URI.create(uriTemplate)));
+        context.setUriTemplate(uriTemplate);
+        return convention.getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals("uri"))
+                .findFirst()
+                .orElseThrow()
+                .getValue();
+    }
+}
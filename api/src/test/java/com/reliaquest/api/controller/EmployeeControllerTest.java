@@ -1,24 +1,43 @@
 package com.reliaquest.api.controller;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.dto.EmployeeBatchResult;
 import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.GroupStatistics;
+import com.reliaquest.api.dto.SalaryBucket;
+import com.reliaquest.api.dto.SalaryStatistics;
 import com.reliaquest.api.service.IEmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,11 +49,11 @@ class EmployeeControllerTest {
     private MockMvc mockMvc;
     @Mock
     private IEmployeeService employeeService;
-    @InjectMocks
     private EmployeeController employeeController;
 
     @BeforeEach
     void setUp() {
+        employeeController = new EmployeeController(employeeService, new ObjectMapper());
         mockMvc = MockMvcBuilders.standaloneSetup(employeeController).build();
     }
 
@@ -51,6 +70,59 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getAllEmployees();
     }
 
+    @Test
+    void testStreamAllEmployees_Ndjson() throws Exception {
+        Employee john = new Employee(employeeId, "John Doe", 50000, 30, "Engineer", "john.doe@example.com");
+        Employee jane = new Employee(UUID.randomUUID().toString(), "Jane Smith", 60000, 28, "Engineer", "jane.smith@example.com");
+        when(employeeService.streamAllEmployees(any())).thenAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(john);
+            consumer.accept(jane);
+            return 2;
+        });
+
+        MvcResult mvcResult = mockMvc.perform(get("/employee").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"employee_name\":\"John Doe\""));
+        assertTrue(lines[1].contains("\"employee_name\":\"Jane Smith\""));
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployees_JsonClientsKeepArrayResponse() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(List.of());
+
+        mockMvc.perform(get("/employee").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+        verify(employeeService, never()).streamAllEmployees(any());
+    }
+
+    @Test
+    void testGetAllEmployees_ConditionalRequestReturnsNotModified() throws Exception {
+        MockMvc etagMockMvc = MockMvcBuilders.standaloneSetup(employeeController)
+                .addFilters(new ShallowEtagHeaderFilter())
+                .build();
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(new Employee(employeeId, "John Doe", 50000, 30, "Engineer", "john.doe@example.com")));
+
+        String etag = etagMockMvc.perform(get("/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        etagMockMvc.perform(get("/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testGetEmployeesByNameSearch() throws Exception {
         List<Employee> employees = List.of(new Employee(employeeId, "John Doe", 50000, 30, "Engineer", "john.doe@example.com"));
@@ -65,6 +137,49 @@ class EmployeeControllerTest {
 
     }
 
+    @Test
+    void testGetEmployeesByNameSearch_Paged() throws Exception {
+        List<Employee> employees = List.of(new Employee(employeeId, "John Doe", 50000, 30, "Engineer", "john.doe@example.com"));
+        when(employeeService.getEmployeesByNameSearch("John", 5, 1)).thenReturn(employees);
+
+        mockMvc.perform(get("/employee/search/John").param("offset", "5").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(employeeId));
+        verify(employeeService, times(1)).getEmployeesByNameSearch("John", 5, 1);
+        verify(employeeService, never()).getEmployeesByNameSearch("John");
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch_OffsetWithoutLimitUsesMaxPage() throws Exception {
+        when(employeeService.getEmployeesByNameSearch("John", 5, 1000)).thenReturn(List.of());
+
+        mockMvc.perform(get("/employee/search/John").param("offset", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        verify(employeeService, times(1)).getEmployeesByNameSearch("John", 5, 1000);
+        verify(employeeService, never()).getEmployeesByNameSearch("John");
+    }
+
+    @Test
+    void testFindEmployees_PassesFiltersAndCapsLimit() throws Exception {
+        Employee employee = new Employee(employeeId, "John Doe", 50000, 30, "Engineer", "john.doe@example.com");
+        when(employeeService.findEmployees(null, 40000, 60000, 25, null, "Engineer", "cursor-1", 1000))
+                .thenReturn(new EmployeePage(List.of(employee), "cursor-2"));
+
+        mockMvc.perform(get("/employee/filter")
+                        .param("minSalary", "40000")
+                        .param("maxSalary", "60000")
+                        .param("minAge", "25")
+                        .param("title", "Engineer")
+                        .param("cursor", "cursor-1")
+                        .param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees.length()").value(1))
+                .andExpect(jsonPath("$.employees[0].id").value(employeeId))
+                .andExpect(jsonPath("$.next_cursor").value("cursor-2"));
+    }
+
     @Test
     void testGetEmployeeById() throws Exception {
         Employee employee = new Employee(employeeId, "John Doe", 50000, 30, "Engineer", "john.doe@example.com");
@@ -118,6 +233,41 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getHighestSalaryOfEmployees();
     }
 
+    @Test
+    void testGetEmployeeAnalytics() throws Exception {
+        when(employeeService.getEmployeeAnalytics()).thenReturn(analytics());
+
+        mockMvc.perform(get("/employee/analytics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee_count").value(2))
+                .andExpect(jsonPath("$.salary.median").value(100000))
+                .andExpect(jsonPath("$.salary.p99").value(120000))
+                .andExpect(jsonPath("$.salary_histogram[0].from").value(100000))
+                .andExpect(jsonPath("$.by_title[0].group").value("Engineer"))
+                .andExpect(jsonPath("$.by_age_band[0].average_salary").value(110000.0));
+        verify(employeeService, times(1)).getEmployeeAnalytics();
+    }
+
+    @Test
+    void testGetAnalyticsSections() throws Exception {
+        when(employeeService.getEmployeeAnalytics()).thenReturn(analytics());
+
+        mockMvc.perform(get("/employee/analytics/salary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min").value(100000))
+                .andExpect(jsonPath("$.mean").value(110000.0));
+        mockMvc.perform(get("/employee/analytics/salaryHistogram"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(2));
+        mockMvc.perform(get("/employee/analytics/titles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(2));
+        mockMvc.perform(get("/employee/analytics/ageBands"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].group").value("20-29"));
+        verify(employeeService, never()).getEmployeeById(anyString());
+    }
+
     @Test
     void testGetTopTenHighestEarningEmployeeNames() throws Exception {
         List<String> expectedNames = List.of("Alice", "Bob", "Charlie", "David", "Eve",
@@ -135,5 +285,78 @@ class EmployeeControllerTest {
 
         verify(employeeService, times(1)).getTopTenHighestEarningEmployeeNames();
     }
-}
 
+    @Test
+    void testCreateEmployees_Batch() throws Exception {
+        Employee john = new Employee(employeeId, "John Doe", 50000, 30, "Engineer", "john.doe@example.com");
+        when(employeeService.createEmployees(any())).thenReturn(List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, john, null),
+                new EmployeeBatchResult(1, EmployeeBatchResult.Status.INVALID, null, "name: must not be blank")));
+
+        mockMvc.perform(post("/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"John Doe\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"},"
+                                + "{\"name\":\"\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].data.employee_name").value("John Doe"))
+                .andExpect(jsonPath("$[1].status").value("INVALID"))
+                .andExpect(jsonPath("$[1].data").doesNotExist());
+        verify(employeeService, times(1)).createEmployees(argThat(inputs -> inputs.size() == 2));
+    }
+
+    @Test
+    void testDeleteEmployeesById_Batch() throws Exception {
+        when(employeeService.deleteEmployeesById(List.of(employeeId))).thenReturn(List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.NOT_FOUND, null, null)));
+
+        mockMvc.perform(delete("/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + employeeId + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("NOT_FOUND"));
+    }
+
+    @Test
+    void testRequestLogging_IsDebugOnly() throws Exception {
+        Logger controllerLogger = (Logger) LoggerFactory.getLogger(EmployeeController.class);
+        Level previousLevel = controllerLogger.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        controllerLogger.addAppender(appender);
+        when(employeeService.getAllEmployees()).thenReturn(List.of());
+        when(employeeService.deleteEmployeesById(List.of(employeeId))).thenReturn(List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.DELETED, null, null)));
+        try {
+            controllerLogger.setLevel(Level.DEBUG);
+            performLoggedRequests();
+            assertTrue(appender.list.size() >= 4, "expected request lines at DEBUG, got " + appender.list);
+            assertTrue(appender.list.stream().allMatch(event -> event.getLevel() == Level.DEBUG),
+                    "per-request lines must be DEBUG: " + appender.list);
+
+            appender.list.clear();
+            controllerLogger.setLevel(Level.INFO);
+            performLoggedRequests();
+            assertTrue(appender.list.isEmpty(), "nothing is logged per request at INFO: " + appender.list);
+        } finally {
+            controllerLogger.detachAppender(appender);
+            controllerLogger.setLevel(previousLevel);
+        }
+    }
+
+    private void performLoggedRequests() throws Exception {
+        mockMvc.perform(get("/employee")).andExpect(status().isOk());
+        mockMvc.perform(delete("/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + employeeId + "\"]"))
+                .andExpect(status().isOk());
+    }
+
+    private static EmployeeAnalytics analytics() {
+        return new EmployeeAnalytics(2,
+                new SalaryStatistics(2, 100000, 120000, 110000.0, 100000, 120000, 120000),
+                List.of(new SalaryBucket(100000, 125000, 2)),
+                List.of(new GroupStatistics("Engineer", 2, 110000.0, 29.0)),
+                List.of(new GroupStatistics("20-29", 2, 110000.0, 29.0)));
+    }
+}
@@ -0,0 +1,199 @@
+package com.reliaquest.api.integration;
+
+import com.reliaquest.api.config.EmployeeUrlConfigs;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the throttle with a {@link ManualTicker}, so pacing and backoff advance virtual time instead of sleeping and
+ * every assertion is deterministic.
+ */
+class AdaptiveThrottleTest {
+
+    private static final int BURST_SIZE = 100;
+
+    private final ManualTicker ticker = new ManualTicker();
+
+    @Test
+    void testExecute_SuccessRaisesRate() {
+        AdaptiveThrottle adaptiveThrottle = new AdaptiveThrottle(settings(10, 3, Duration.ofSeconds(1)), ticker);
+
+        assertEquals("ok", adaptiveThrottle.execute(() -> "ok"));
+
+        assertTrue(adaptiveThrottle.getCurrentRate() > 10);
+        assertEquals(1, adaptiveThrottle.getAdmittedCount());
+    }
+
+    @Test
+    void testExecute_PacesCallsAtPermittedRate() {
+        EmployeeUrlConfigs.Throttle settings = settings(10, 0, Duration.ofSeconds(5));
+        settings.setAdditiveIncrease(0);
+        AdaptiveThrottle adaptiveThrottle = new AdaptiveThrottle(settings, ticker);
+
+        for (int i = 0; i < 5; i++) {
+            adaptiveThrottle.execute(() -> "ok");
+        }
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(400), ticker.nanoTime());
+    }
+
+    @Test
+    void testExecute_TooManyRequestsCutsRateAndRethrowsAfterRetries() {
+        AdaptiveThrottle adaptiveThrottle = new AdaptiveThrottle(settings(100, 2, Duration.ofSeconds(2)), ticker);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> adaptiveThrottle.execute(() -> {
+            attempts.incrementAndGet();
+            throw tooManyRequests(HttpHeaders.EMPTY);
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(3, adaptiveThrottle.getThrottledCount());
+        assertEquals(2, adaptiveThrottle.getRetryCount());
+        assertEquals(12.5, adaptiveThrottle.getCurrentRate(), 0.001);
+    }
+
+    @Test
+    void testExecute_HonoursRetryAfter() {
+        AdaptiveThrottle adaptiveThrottle = new AdaptiveThrottle(settings(100, 1, Duration.ofSeconds(5)), ticker);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "2");
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = adaptiveThrottle.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw tooManyRequests(headers);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertTrue(ticker.nanoTime() >= TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void testExecute_ShedsWhenPredictedWaitExceedsDeadline() {
+        AdaptiveThrottle adaptiveThrottle = new AdaptiveThrottle(settings(1, 0, Duration.ofMillis(100)), ticker);
+
+        adaptiveThrottle.execute(() -> "first");
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> adaptiveThrottle.execute(() -> "second"));
+
+        assertEquals("Too many requests. Please try again later.", exception.getMessage());
+        assertEquals(1, adaptiveThrottle.getShedCount());
+        assertEquals(0, ticker.nanoTime(), "A shed call must not wait");
+    }
+
+    @Test
+    void testExecute_DisabledPassesThrough() {
+        EmployeeUrlConfigs.Throttle settings = settings(1, 3, Duration.ofSeconds(1));
+        settings.setEnabled(false);
+        AdaptiveThrottle adaptiveThrottle = new AdaptiveThrottle(settings, ticker);
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> adaptiveThrottle.execute(() -> {
+            throw tooManyRequests(HttpHeaders.EMPTY);
+        }));
+        assertEquals(0, adaptiveThrottle.getThrottledCount());
+    }
+
+    @Test
+    void testBurst_ThrottledCompletesMoreWithFewerRejections() {
+        EmployeeUrlConfigs.Throttle disabled = settings(20, 3, Duration.ofSeconds(2));
+        disabled.setEnabled(false);
+
+        BurstResult unthrottled = runBurst(new AdaptiveThrottle(disabled, ticker));
+        BurstResult throttled = runBurst(new AdaptiveThrottle(settings(20, 3, Duration.ofSeconds(2)), ticker));
+
+        assertEquals(BURST_SIZE, unthrottled.succeeded() + unthrottled.rejected());
+        assertEquals(BURST_SIZE, throttled.succeeded() + throttled.rejected());
+        assertTrue(throttled.succeeded() > unthrottled.succeeded(),
+                "Pacing and retries should complete more of the burst than firing it all at once");
+        assertTrue(throttled.upstream429s() < unthrottled.upstream429s(),
+                "Pacing should reduce the number of requests the server has to reject");
+    }
+
+    /**
+     * Fires the burst at an upstream that accepts at most 10 requests per 500 ms window of ticker time.
+     */
+    private BurstResult runBurst(AdaptiveThrottle adaptiveThrottle) {
+        FixedWindowUpstream upstream = new FixedWindowUpstream(10, TimeUnit.MILLISECONDS.toNanos(500));
+        int succeeded = 0;
+        int rejected = 0;
+        for (int i = 0; i < BURST_SIZE; i++) {
+            try {
+                adaptiveThrottle.execute(upstream::call);
+                succeeded++;
+            } catch (HttpClientErrorException.TooManyRequests | RateLimitExceededException e) {
+                rejected++;
+            }
+        }
+        return new BurstResult(succeeded, rejected, upstream.rejected);
+    }
+
+    private static EmployeeUrlConfigs.Throttle settings(double initialRate, int maxRetries, Duration deadline) {
+        EmployeeUrlConfigs.Throttle settings = new EmployeeUrlConfigs.Throttle();
+        settings.setInitialRate(initialRate);
+        settings.setMaxRetries(maxRetries);
+        settings.setDeadline(deadline);
+        settings.setBaseBackoff(Duration.ofMillis(10));
+        settings.setMaxBackoff(Duration.ofMillis(200));
+        return settings;
+    }
+
+    private static HttpClientErrorException tooManyRequests(HttpHeaders headers) {
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+    }
+
+    private record BurstResult(int succeeded, int rejected, int upstream429s) {
+    }
+
+    private static final class ManualTicker implements AdaptiveThrottle.Ticker {
+
+        private long nanos;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+
+        @Override
+        public void sleep(long nanos) {
+            this.nanos += nanos;
+        }
+    }
+
+    private final class FixedWindowUpstream {
+
+        private final int limit;
+        private final long windowNanos;
+        private long windowStart = ticker.nanoTime();
+        private int count;
+        private int rejected;
+
+        private FixedWindowUpstream(int limit, long windowNanos) {
+            this.limit = limit;
+            this.windowNanos = windowNanos;
+        }
+
+        String call() {
+            if (ticker.nanoTime() - windowStart >= windowNanos) {
+                windowStart = ticker.nanoTime();
+                count = 0;
+            }
+            if (++count > limit) {
+                rejected++;
+                throw tooManyRequests(HttpHeaders.EMPTY);
+            }
+            return "ok";
+        }
+    }
+}
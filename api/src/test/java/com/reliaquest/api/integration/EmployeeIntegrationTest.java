@@ -1,40 +1,72 @@
 package com.reliaquest.api.integration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.ColumnarRoster;
 import com.reliaquest.api.config.EmployeeUrlConfigs;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeBatchResult;
 import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.exception.EmployeeCreationException;
+import com.reliaquest.api.exception.EmployeeIntegrationException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.integration.dto.EmployeeBatchDeleteRequestDto;
+import com.reliaquest.api.integration.dto.EmployeeBatchResponseDto;
 import com.reliaquest.api.integration.dto.EmployeeDeleteResponseDto;
+import com.reliaquest.api.integration.dto.EmployeePageDto;
 import com.reliaquest.api.integration.dto.EmployeeResponseDto;
-import com.reliaquest.api.integration.dto.GetAllEmployeeResponseDto;
+import com.reliaquest.api.integration.dto.GetEmployeePageResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 class EmployeeIntegrationTest {
 
+    private static final String ROSTER_JSON = """
+            {"data":[{"id":"1","employee_name":"Alice","employee_salary":50000,"employee_age":30,
+             "employee_title":"Engineer","employee_email":"alice@example.com"}],"status":"ok"}""";
+
     private final String baseUrl = "http://mock-api.com/employees";
     @Mock
     private RestTemplate restTemplate;
     @Mock
     private EmployeeUrlConfigs employeeUrlConfigs;
-    @InjectMocks
+    private AdaptiveThrottle adaptiveThrottle;
     private EmployeeIntegration employeeIntegration;
 
     @BeforeEach
@@ -42,42 +74,185 @@ class EmployeeIntegrationTest {
         MockitoAnnotations.openMocks(this);
         when(employeeUrlConfigs.getBaseUrl()).thenReturn(baseUrl);
         when(employeeUrlConfigs.getEmployeeResource()).thenReturn("/employee");
+        when(employeeUrlConfigs.getBatch()).thenReturn(new EmployeeUrlConfigs.Batch());
+        when(employeeUrlConfigs.getIdDeleteReprobeInterval()).thenReturn(Duration.ofMinutes(5));
+
+        EmployeeUrlConfigs.Throttle throttle = new EmployeeUrlConfigs.Throttle();
+        throttle.setInitialRate(1000);
+        throttle.setMaxRetries(1);
+        throttle.setBaseBackoff(Duration.ofMillis(1));
+        adaptiveThrottle = new AdaptiveThrottle(throttle);
+        employeeIntegration = integration(restTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
-    void testGetAllEmployees_Success() {
-        String url = baseUrl + "/employee";
-        GetAllEmployeeResponseDto mockResponse = new GetAllEmployeeResponseDto(
-                List.of(new Employee(UUID.randomUUID().toString(), "Alice", 50000, 30, "Engineer", "alice@example.com")));
+    void testGetRoster_Success() {
+        RestTemplate streamingTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(streamingTemplate).build();
+        server.expect(requestTo(baseUrl + "/employee"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(ROSTER_JSON, MediaType.APPLICATION_JSON));
+
+        ColumnarRoster roster = integration(streamingTemplate, new UpstreamMetrics(new SimpleMeterRegistry())).getRoster();
+
+        assertEquals(1, roster.size());
+        assertEquals("Alice", roster.asList().get(0).getEmployeeName());
+        server.verify();
+    }
 
-        when(restTemplate.exchange(eq(url), eq(HttpMethod.GET), isNull(), eq(GetAllEmployeeResponseDto.class)))
-                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+    @Test
+    void testGetRoster_TooManyRequests() {
+        RestTemplate streamingTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(streamingTemplate).build();
+        server.expect(ExpectedCount.manyTimes(), requestTo(baseUrl + "/employee"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        EmployeeIntegration integration = integration(streamingTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
 
-        GetAllEmployeeResponseDto response = employeeIntegration.getAllEmployees();
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, integration::getRoster);
 
-        assertNotNull(response);
-        assertEquals(1, response.getData().size());
-        assertEquals("Alice", response.getData().get(0).getEmployeeName());
+        assertEquals("Too many requests. Please try again later.", exception.getMessage());
     }
 
     @Test
-    void testGetAllEmployees_TooManyRequests() {
-        String url = baseUrl + "/employee";
+    void testGetRoster_RetriesAfterTooManyRequests() {
+        RestTemplate streamingTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(streamingTemplate).build();
+        server.expect(requestTo(baseUrl + "/employee")).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo(baseUrl + "/employee")).andRespond(withSuccess(ROSTER_JSON, MediaType.APPLICATION_JSON));
+
+        ColumnarRoster roster = integration(streamingTemplate, new UpstreamMetrics(new SimpleMeterRegistry())).getRoster();
+
+        assertEquals(1, roster.size());
+        assertEquals(1, adaptiveThrottle.getThrottledCount());
+        assertEquals(1, adaptiveThrottle.getRetryCount());
+        server.verify();
+    }
 
-        when(restTemplate.exchange(eq(url), eq(HttpMethod.GET), isNull(), eq(GetAllEmployeeResponseDto.class)))
-                .thenThrow(HttpClientErrorException.create(
-                        HttpStatus.TOO_MANY_REQUESTS,
-                        "Too Many Requests",
-                        HttpHeaders.EMPTY,
-                        null,
-                        null
-                ));
+    @Test
+    void testGetRoster_TimesEachUpstreamAttempt() {
+        RestTemplate streamingTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(streamingTemplate).build();
+        server.expect(requestTo(baseUrl + "/employee")).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo(baseUrl + "/employee")).andRespond(withSuccess(ROSTER_JSON, MediaType.APPLICATION_JSON));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        integration(streamingTemplate, new UpstreamMetrics(meterRegistry)).getRoster();
+
+        assertEquals(1, meterRegistry.find(UpstreamMetrics.REQUESTS)
+                .tags("operation", "getRoster", "status", "429").timer().count());
+        assertEquals(1, meterRegistry.find(UpstreamMetrics.REQUESTS)
+                .tags("operation", "getRoster", "status", "200").timer().count());
+    }
+
+    @Test
+    void testGetRoster_RevalidatesWithEtag() {
+        RestTemplate streamingTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(streamingTemplate).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"boot-1\"");
+        headers.setContentLength(512);
+        server.expect(requestTo(baseUrl + "/employee"))
+                .andRespond(withSuccess(ROSTER_JSON, MediaType.APPLICATION_JSON).headers(headers));
+        server.expect(requestTo(baseUrl + "/employee"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"boot-1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeIntegration integration = integration(streamingTemplate, new UpstreamMetrics(meterRegistry));
+
+        ColumnarRoster first = integration.getRoster();
+        ColumnarRoster second = integration.getRoster();
+
+        assertSame(first, second);
+        ConditionalStats stats = integration.getConditionalStats();
+        assertEquals(1, stats.conditionalRequests());
+        assertEquals(1, stats.notModified());
+        assertEquals(512, stats.bytesSaved());
+        assertEquals(1.0, stats.notModifiedRatio());
+        assertEquals(1, meterRegistry.find(UpstreamMetrics.REQUESTS)
+                .tags("operation", "getRoster", "status", "304").timer().count());
+        server.verify();
+    }
 
-        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () -> employeeIntegration.getAllEmployees());
+    @Test
+    void testGetRoster_NotModifiedWithoutContentLengthCountsStreamedBytes() {
+        RestTemplate streamingTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(streamingTemplate).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"boot-1\"");
+        server.expect(requestTo(baseUrl + "/employee"))
+                .andRespond(withSuccess(ROSTER_JSON, MediaType.APPLICATION_JSON).headers(headers));
+        server.expect(requestTo(baseUrl + "/employee")).andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        EmployeeIntegration integration = integration(streamingTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
+
+        integration.getRoster();
+        integration.getRoster();
+
+        assertEquals(ROSTER_JSON.getBytes(StandardCharsets.UTF_8).length, integration.getConditionalStats().bytesSaved());
+    }
 
-        assertEquals("Too many requests. Please try again later.", exception.getMessage());
+    @Test
+    void testStreamAllEmployees_ReplaysTheRoster() {
+        RestTemplate streamingTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(streamingTemplate).build();
+        server.expect(requestTo(baseUrl + "/employee")).andRespond(withSuccess(ROSTER_JSON, MediaType.APPLICATION_JSON));
+        List<Employee> streamed = new ArrayList<>();
+
+        int count = integration(streamingTemplate, new UpstreamMetrics(new SimpleMeterRegistry()))
+                .streamAllEmployees(streamed::add);
+
+        assertEquals(1, count);
+        assertEquals("alice@example.com", streamed.get(0).getEmployeeEmail());
+        server.verify();
+    }
+
+    @Test
+    void testGetEmployeeById_NotModifiedWithoutContentLengthMeasuresBody() {
+        String id = UUID.randomUUID().toString();
+        String url = baseUrl + "/employee/" + id;
+        EmployeeResponseDto mockResponse = new EmployeeResponseDto("success",
+                new Employee(id, "Bob", 60000, 35, "Manager", "bob@example.com"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"boot-" + id + "\"");
+
+        when(restTemplate.exchange(eq(url), eq(HttpMethod.GET), isNull(), eq(EmployeeResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(mockResponse, headers, HttpStatus.OK));
+        when(restTemplate.exchange(eq(url), eq(HttpMethod.GET), notNull(), eq(EmployeeResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(HttpStatus.NOT_MODIFIED));
+
+        employeeIntegration.getEmployeeById(id);
+        EmployeeResponseDto revalidated = employeeIntegration.getEmployeeById(id);
+
+        assertEquals("Bob", revalidated.getData().getEmployeeName());
+        assertTrue(employeeIntegration.getConditionalStats().bytesSaved() > 0);
     }
 
+    @Test
+    void testGetEmployeePage_SendsOnlySetFilters() {
+        EmployeePageDto page = new EmployeePageDto(
+                List.of(new Employee(UUID.randomUUID().toString(), "Alice", 50000, 30, "Engineer", "alice@example.com")), "next");
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), isNull(), eq(GetEmployeePageResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new GetEmployeePageResponseDto("ok", page), HttpStatus.OK));
+
+        EmployeePageDto result = employeeIntegration.getEmployeePage(EmployeeQuery.builder()
+                .name("Al ice")
+                .minSalary(40000)
+                .cursor("abc")
+                .limit(5000)
+                .build());
+
+        assertSame(page, result);
+        verify(restTemplate).exchange(eq(URI.create(baseUrl + "/employee?limit=1000&cursor=abc&name=Al%20ice&minSalary=40000")),
+                eq(HttpMethod.GET), isNull(), eq(GetEmployeePageResponseDto.class));
+    }
+
+    @Test
+    void testGetEmployeePage_BadRequest() {
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), isNull(), eq(GetEmployeePageResponseDto.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, null, null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeIntegration.getEmployeePage(EmployeeQuery.builder().minAge(50).maxAge(20).limit(10).build()));
+    }
 
     @Test
     void testGetEmployeeById_Success() {
@@ -181,5 +356,191 @@ class EmployeeIntegrationTest {
         assertEquals("Too many requests. Please try again later.", exception.getMessage());
     }
 
+    @Test
+    void testDeleteEmployeeById_SingleRoundTrip() {
+        String id = UUID.randomUUID().toString();
+        Employee employee = new Employee(id, "David", 50000, 30, "Engineer", "david@example.com");
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + id), eq(HttpMethod.DELETE), isNull(), eq(EmployeeResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponseDto("success", employee), HttpStatus.OK));
+
+        assertEquals("David", employeeIntegration.deleteEmployeeById(id).getEmployeeName());
+        verify(restTemplate, times(0)).exchange(eq(baseUrl + "/employee/" + id), eq(HttpMethod.GET), any(), eq(EmployeeResponseDto.class));
+        verify(restTemplate, times(0)).exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(), eq(EmployeeDeleteResponseDto.class));
+    }
+
+    @Test
+    void testDeleteEmployeeById_NotFound() {
+        String id = UUID.randomUUID().toString();
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + id), eq(HttpMethod.DELETE), isNull(), eq(EmployeeResponseDto.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeIntegration.deleteEmployeeById(id));
+    }
+
+    @Test
+    void testDeleteEmployeeById_LegacyServerFallsBackToNameAndRemembers() {
+        String firstId = UUID.randomUUID().toString();
+        String secondId = UUID.randomUUID().toString();
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + firstId), eq(HttpMethod.DELETE), isNull(), eq(EmployeeResponseDto.class)))
+                .thenThrow(legacyIdDeleteError());
+        for (String id : List.of(firstId, secondId)) {
+            when(restTemplate.exchange(eq(baseUrl + "/employee/" + id), eq(HttpMethod.GET), isNull(), eq(EmployeeResponseDto.class)))
+                    .thenReturn(new ResponseEntity<>(new EmployeeResponseDto("success",
+                            new Employee(id, "Name " + id, 50000, 30, "Engineer", "employee@example.com")), HttpStatus.OK));
+        }
+        when(restTemplate.exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(), eq(EmployeeDeleteResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeDeleteResponseDto("success", true), HttpStatus.OK));
+
+        assertEquals("Name " + firstId, employeeIntegration.deleteEmployeeById(firstId).getEmployeeName());
+        assertEquals("Name " + secondId, employeeIntegration.deleteEmployeeById(secondId).getEmployeeName());
+
+        verify(restTemplate, times(0)).exchange(eq(baseUrl + "/employee/" + secondId), eq(HttpMethod.DELETE), any(), eq(EmployeeResponseDto.class));
+        verify(restTemplate, times(2)).exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(), eq(EmployeeDeleteResponseDto.class));
+    }
+
+    @Test
+    void testDeleteEmployeeById_MethodNotAllowedAlsoFallsBackToName() {
+        String id = UUID.randomUUID().toString();
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + id), eq(HttpMethod.DELETE), isNull(), eq(EmployeeResponseDto.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.METHOD_NOT_ALLOWED, "Method Not Allowed", HttpHeaders.EMPTY, null, null));
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + id), eq(HttpMethod.GET), isNull(), eq(EmployeeResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponseDto("success",
+                        new Employee(id, "Legacy", 50000, 30, "Engineer", "legacy@example.com")), HttpStatus.OK));
+        when(restTemplate.exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(), eq(EmployeeDeleteResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeDeleteResponseDto("success", true), HttpStatus.OK));
+
+        assertEquals("Legacy", employeeIntegration.deleteEmployeeById(id).getEmployeeName());
+    }
 
+    @Test
+    void testDeleteEmployeeById_ReprobesIdRouteOnceIntervalHasPassed() {
+        when(employeeUrlConfigs.getIdDeleteReprobeInterval()).thenReturn(Duration.ZERO);
+        EmployeeIntegration reprobing = integration(restTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
+        String legacyId = UUID.randomUUID().toString();
+        String upgradedId = UUID.randomUUID().toString();
+        Employee upgraded = new Employee(upgradedId, "Upgraded", 50000, 30, "Engineer", "upgraded@example.com");
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + legacyId), eq(HttpMethod.DELETE), isNull(), eq(EmployeeResponseDto.class)))
+                .thenThrow(legacyIdDeleteError());
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + legacyId), eq(HttpMethod.GET), isNull(), eq(EmployeeResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponseDto("success",
+                        new Employee(legacyId, "Legacy", 50000, 30, "Engineer", "legacy@example.com")), HttpStatus.OK));
+        when(restTemplate.exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(), eq(EmployeeDeleteResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeDeleteResponseDto("success", true), HttpStatus.OK));
+        when(restTemplate.exchange(eq(baseUrl + "/employee/" + upgradedId), eq(HttpMethod.DELETE), isNull(), eq(EmployeeResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponseDto("success", upgraded), HttpStatus.OK));
+
+        assertEquals("Legacy", reprobing.deleteEmployeeById(legacyId).getEmployeeName());
+        assertEquals("Upgraded", reprobing.deleteEmployeeById(upgradedId).getEmployeeName());
+
+        verify(restTemplate, times(1)).exchange(eq(baseUrl + "/employee/" + upgradedId), eq(HttpMethod.DELETE), isNull(), eq(EmployeeResponseDto.class));
+        verify(restTemplate, times(1)).exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(), eq(EmployeeDeleteResponseDto.class));
+    }
+
+    @Test
+    void testCreateEmployees_SendsOneBatchRequest() {
+        String url = baseUrl + "/employee/batch";
+        Employee created = new Employee(UUID.randomUUID().toString(), "Charlie", 70000, 28, "Tech Lead", "charlie@example.com");
+        EmployeeBatchResponseDto mockResponse = new EmployeeBatchResponseDto("Successfully processed request.", List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, created, null),
+                new EmployeeBatchResult(1, EmployeeBatchResult.Status.INVALID, null, "age: must be less than or equal to 75")));
+        when(restTemplate.exchange(eq(url), eq(HttpMethod.POST), any(), eq(EmployeeBatchResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+
+        List<EmployeeBatchResult> results = employeeIntegration.createEmployees(List.of(
+                new EmployeeInput("Charlie", 70000, 28, "Tech Lead"),
+                new EmployeeInput("Dora", 70000, 99, "Tech Lead")));
+
+        assertEquals(2, results.size());
+        assertEquals("Charlie", results.get(0).getData().getEmployeeName());
+        assertEquals(EmployeeBatchResult.Status.INVALID, results.get(1).getStatus());
+    }
+
+    @Test
+    void testDeleteEmployees_TooManyRequests() {
+        String url = baseUrl + "/employee/batch";
+        when(restTemplate.exchange(eq(url), eq(HttpMethod.DELETE), any(), eq(EmployeeBatchResponseDto.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                        HttpHeaders.EMPTY, null, null));
+
+        assertThrows(RateLimitExceededException.class,
+                () -> employeeIntegration.deleteEmployees(List.of(EmployeeBatchDeleteRequestDto.byName("David"))));
+    }
+
+    @Test
+    void testCreateEmployee_WithBatchingEnabled_CoalescesConcurrentCalls() throws Exception {
+        EmployeeUrlConfigs.Batch batch = new EmployeeUrlConfigs.Batch();
+        batch.setEnabled(true);
+        batch.setWindow(Duration.ofMillis(200));
+        batch.setMaxSize(8);
+        when(employeeUrlConfigs.getBatch()).thenReturn(batch);
+        EmployeeIntegration batchingIntegration = integration(restTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
+        when(restTemplate.exchange(eq(baseUrl + "/employee/batch"), eq(HttpMethod.POST), any(), eq(EmployeeBatchResponseDto.class)))
+                .thenAnswer(invocation -> {
+                    HttpEntity<List<EmployeeInput>> request = invocation.getArgument(2);
+                    List<EmployeeBatchResult> results = new ArrayList<>();
+                    for (EmployeeInput input : request.getBody()) {
+                        results.add(new EmployeeBatchResult(results.size(), EmployeeBatchResult.Status.CREATED,
+                                new Employee(UUID.randomUUID().toString(), input.getName(), input.getSalary(),
+                                        input.getAge(), input.getTitle(), "employee@example.com"), null));
+                    }
+                    return new ResponseEntity<>(new EmployeeBatchResponseDto("ok", results), HttpStatus.OK);
+                });
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<EmployeeResponseDto>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                String name = "Employee " + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return batchingIntegration.createEmployee(name, 50000, 30, "Engineer");
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < callers; i++) {
+                assertEquals("Employee " + i, futures.get(i).get().getData().getEmployeeName());
+            }
+        } finally {
+            executor.shutdownNow();
+            batchingIntegration.close();
+        }
+
+        verify(restTemplate, times(1)).exchange(eq(baseUrl + "/employee/batch"), eq(HttpMethod.POST), any(),
+                eq(EmployeeBatchResponseDto.class));
+        verify(restTemplate, times(0)).postForEntity(anyString(), any(), eq(EmployeeResponseDto.class));
+    }
+
+    @Test
+    void testCreateEmployee_WithBatchingEnabled_RejectedItemIsAnIntegrationFailure() {
+        EmployeeUrlConfigs.Batch batch = new EmployeeUrlConfigs.Batch();
+        batch.setEnabled(true);
+        batch.setMaxSize(1);
+        when(employeeUrlConfigs.getBatch()).thenReturn(batch);
+        EmployeeIntegration batchingIntegration = integration(restTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
+        when(restTemplate.exchange(eq(baseUrl + "/employee/batch"), eq(HttpMethod.POST), any(), eq(EmployeeBatchResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeBatchResponseDto("ok", List.of(new EmployeeBatchResult(0,
+                        EmployeeBatchResult.Status.INVALID, null, "age: must be less than or equal to 75"))), HttpStatus.OK));
+
+        try {
+            EmployeeIntegrationException exception = assertThrows(EmployeeIntegrationException.class,
+                    () -> batchingIntegration.createEmployee("Dora", 70000, 30, "Tech Lead"));
+            assertInstanceOf(EmployeeCreationException.class, exception.getCause());
+        } finally {
+            batchingIntegration.close();
+        }
+    }
+
+    // The original mock server has no DELETE /{id} route, and its catch-all advice answers the resulting exception with a 500.
+    private static HttpServerErrorException legacyIdDeleteError() {
+        return HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", HttpHeaders.EMPTY,
+                "{\"status\":\"Failed to process request.\",\"error\":\"Request method 'DELETE' is not supported\"}"
+                        .getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    private EmployeeIntegration integration(RestTemplate template, UpstreamMetrics upstreamMetrics) {
+        return new EmployeeIntegration(template, employeeUrlConfigs, adaptiveThrottle, upstreamMetrics,
+                new EmployeeRosterReader(new ObjectMapper()));
+    }
 }
@@ -0,0 +1,68 @@
+package com.reliaquest.api.integration;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeRosterReaderTest {
+
+    private final EmployeeRosterReader employeeRosterReader = new EmployeeRosterReader(new ObjectMapper());
+
+    @Test
+    void testRead_StreamsEachEmployee() throws IOException {
+        String body = """
+                {"data":[
+                  {"id":"1","employee_name":"Tiger Nixon","employee_salary":320800,"employee_age":61,
+                   "employee_title":"Vice Chair","employee_email":"tnixon@company.com"},
+                  {"id":"2","employee_name":"Bill Bob","employee_salary":89750,"employee_age":24,
+                   "employee_title":"Documentation Engineer","employee_email":"billBob@company.com"}
+                ],"status":"Successfully processed request."}
+                """;
+        List<Employee> employees = new ArrayList<>();
+
+        int count = employeeRosterReader.read(stream(body), employees::add);
+
+        assertEquals(2, count);
+        assertEquals("Tiger Nixon", employees.get(0).getEmployeeName());
+        assertEquals(320800, employees.get(0).getEmployeeSalary());
+        assertEquals("billBob@company.com", employees.get(1).getEmployeeEmail());
+    }
+
+    @Test
+    void testRead_SkipsFieldsBeforeDataAndUnknownProperties() throws IOException {
+        String body = """
+                {"status":"ok","meta":{"nested":[1,2,{"x":1}]},
+                 "data":[{"id":"1","employee_name":"Alice","employee_salary":1,"unexpected":{"a":1}}]}
+                """;
+        List<Employee> employees = new ArrayList<>();
+
+        assertEquals(1, employeeRosterReader.read(stream(body), employees::add));
+        assertEquals("Alice", employees.get(0).getEmployeeName());
+    }
+
+    @Test
+    void testRead_EmptyOrMissingData() throws IOException {
+        assertEquals(0, employeeRosterReader.read(stream("{\"data\":[],\"status\":\"ok\"}"), employee -> fail()));
+        assertEquals(0, employeeRosterReader.read(stream("{\"data\":null,\"status\":\"ok\"}"), employee -> fail()));
+        assertEquals(0, employeeRosterReader.read(stream("{\"status\":\"ok\"}"), employee -> fail()));
+    }
+
+    @Test
+    void testRead_RejectsNonObjectPayload() {
+        assertThrows(JsonParseException.class, () -> employeeRosterReader.read(stream("[]"), employee -> fail()));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
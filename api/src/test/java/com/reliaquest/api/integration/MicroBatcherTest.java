@@ -0,0 +1,123 @@
+package com.reliaquest.api.integration;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void testSubmit_ConcurrentItemsShareOneBatchAndGetTheirOwnResult() throws Exception {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        try (MicroBatcher<Integer, String> batcher = new MicroBatcher<>("test", Duration.ofMillis(200), 100, TIMEOUT, items -> {
+            batches.add(items);
+            return items.stream().map(item -> "result-" + item).toList();
+        })) {
+            int callers = 20;
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<String>> futures = new ArrayList<>();
+                for (int i = 0; i < callers; i++) {
+                    int item = i;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return batcher.submit(item);
+                    }));
+                }
+                start.countDown();
+                for (int i = 0; i < callers; i++) {
+                    assertEquals("result-" + i, futures.get(i).get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(1, batches.size());
+            assertEquals(callers, batches.get(0).size());
+            assertEquals(1, batcher.getBatchCount());
+            assertEquals(callers, batcher.getItemCount());
+        }
+    }
+
+    @Test
+    void testSubmit_FullBatchIsSentWithoutWaitingForTheWindow() {
+        try (MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>("test", Duration.ofMinutes(1), 1, TIMEOUT, items -> items)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertEquals(7, batcher.submit(7)));
+        }
+    }
+
+    @Test
+    void testSubmit_BatchFailureIsThrownToEveryCaller() {
+        try (MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>("test", Duration.ofMillis(1), 10, TIMEOUT, items -> {
+            throw new RateLimitExceededException("Too many requests. Please try again later.");
+        })) {
+            assertThrows(RateLimitExceededException.class, () -> batcher.submit(1));
+        }
+    }
+
+    @Test
+    void testSubmit_MismatchedResultCountFailsTheBatch() {
+        try (MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>("test", Duration.ofMillis(1), 10, TIMEOUT, items -> List.of())) {
+            assertThrows(IllegalStateException.class, () -> batcher.submit(1));
+        }
+    }
+
+    @Test
+    void testSubmit_AfterCloseIsRejected() {
+        MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>("test", Duration.ofMillis(1), 10, TIMEOUT, items -> items);
+        batcher.close();
+
+        assertThrows(IllegalStateException.class, () -> batcher.submit(1));
+    }
+
+    @Test
+    void testSubmit_GivesUpAfterTheTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>("test", Duration.ofMillis(1), 10, Duration.ofMillis(100), items -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return items;
+        });
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> assertThrows(IllegalStateException.class, () -> batcher.submit(1)));
+        } finally {
+            release.countDown();
+            batcher.close();
+        }
+    }
+
+    @Test
+    void testClose_FailsItemsStillQueuedInsteadOfLeavingThemWaiting() throws Exception {
+        MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>("test", Duration.ofMinutes(1), 10, Duration.ofMillis(100), items -> items);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> queued = executor.submit(() -> batcher.submit(1));
+            batcher.close();
+
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+            assertEquals(0, batcher.getBatchCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.api.integration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void testExecute_ConcurrentCallsShareOneExecution() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("all", () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return "roster";
+                })));
+            }
+            waitForCollapsed(CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("roster", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, singleFlight.getExecutionCount());
+        assertEquals(CALLERS - 1, singleFlight.getCollapsedCount());
+    }
+
+    @Test
+    void testExecute_WaitersReceiveSameException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("upstream failed");
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Throwable> leader = executor.submit(() -> captureFailure(() -> {
+                await(release);
+                throw failure;
+            }));
+            while (singleFlight.getExecutionCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<Throwable> follower = executor.submit(() -> captureFailure(() -> "unused"));
+            waitForCollapsed(1);
+            release.countDown();
+
+            assertSame(failure, leader.get(5, TimeUnit.SECONDS));
+            assertSame(failure, follower.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecute_SequentialCallsAreNotCollapsed() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        singleFlight.execute("all", () -> "first-" + upstreamCalls.incrementAndGet());
+        String second = singleFlight.execute("all", () -> "second-" + upstreamCalls.incrementAndGet());
+
+        assertEquals("second-2", second);
+        assertEquals(0, singleFlight.getCollapsedCount());
+    }
+
+    @Test
+    void testExecute_DifferentKeysAreIndependent() {
+        assertEquals("a", singleFlight.execute("1", () -> "a"));
+        assertEquals("b", singleFlight.execute("2", () -> "b"));
+        assertEquals(2, singleFlight.getExecutionCount());
+    }
+
+    private Throwable captureFailure(Supplier<String> call) {
+        try {
+            singleFlight.execute("all", call);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void waitForCollapsed(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCollapsedCount() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Callers were not collapsed in time");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
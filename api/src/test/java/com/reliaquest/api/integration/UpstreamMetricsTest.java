@@ -0,0 +1,71 @@
+package com.reliaquest.api.integration;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamMetrics upstreamMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamMetrics = new UpstreamMetrics(meterRegistry);
+    }
+
+    @Test
+    void testRecord_TagsResponseStatus() {
+        ResponseEntity<String> response = upstreamMetrics.record("getAllEmployees",
+                () -> new ResponseEntity<>("body", HttpStatus.NOT_MODIFIED));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(1, timer("getAllEmployees", "304", "none").count());
+    }
+
+    @Test
+    void testRecord_NonEntityResultCountsAsOk() {
+        assertEquals(42, upstreamMetrics.record("streamAllEmployees", () -> 42));
+
+        assertEquals(1, timer("streamAllEmployees", "200", "none").count());
+    }
+
+    @Test
+    void testRecord_TagsErrorStatusAndException() {
+        HttpClientErrorException throttled = HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS,
+                "Too Many Requests", null, null, null);
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class,
+                () -> upstreamMetrics.record("getEmployeeById", () -> { throw throttled; }));
+        assertThrows(ResourceAccessException.class,
+                () -> upstreamMetrics.record("getEmployeeById", () -> { throw new ResourceAccessException("refused"); }));
+
+        assertEquals(1, timer("getEmployeeById", "429", "TooManyRequests").count());
+        assertEquals(1, timer("getEmployeeById", "CLIENT_ERROR", "ResourceAccessException").count());
+    }
+
+    @Test
+    void testRecord_ReusesTimerForSameTags() {
+        upstreamMetrics.record("getEmployeeById", () -> new ResponseEntity<>("body", HttpStatus.OK));
+        upstreamMetrics.record("getEmployeeById", () -> new ResponseEntity<>("body", HttpStatus.OK));
+
+        assertEquals(2, timer("getEmployeeById", "200", "none").count());
+        assertEquals(1, meterRegistry.find(UpstreamMetrics.REQUESTS).timers().size());
+    }
+
+    private Timer timer(String operation, String status, String exception) {
+        Timer timer = meterRegistry.find(UpstreamMetrics.REQUESTS)
+                .tags("operation", operation, "status", status, "exception", exception)
+                .timer();
+        assertNotNull(timer, "no timer for " + operation + " " + status + " " + exception);
+        return timer;
+    }
+}
@@ -1,24 +1,37 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.cache.ColumnarRoster;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.config.EmployeeCacheConfigs;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.dto.EmployeeBatchResult;
+import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.GroupStatistics;
+import com.reliaquest.api.exception.EmployeeIntegrationException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.EmployeeServiceException;
 import com.reliaquest.api.integration.EmployeeIntegration;
+import com.reliaquest.api.integration.dto.EmployeePageDto;
 import com.reliaquest.api.integration.dto.EmployeeResponseDto;
-import com.reliaquest.api.integration.dto.GetAllEmployeeResponseDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +40,6 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeIntegration employeeIntegration;
 
-    @InjectMocks
     private EmployeeService employeeService;
 
     private Employee employee1;
@@ -36,6 +48,9 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        EmployeeSnapshotCache employeeSnapshotCache = new EmployeeSnapshotCache(employeeIntegration, new EmployeeCacheConfigs());
+        employeeService = new EmployeeService(employeeIntegration, employeeSnapshotCache);
+
         employee1 = new Employee(UUID.randomUUID().toString(), "John Doe", 100000, 30, "Software Engineer", "john.doe@example.com");
         employee2 = new Employee(UUID.randomUUID().toString(), "Jane Smith", 120000, 28, "Senior Engineer", "jane.smith@example.com");
 
@@ -44,22 +59,22 @@ class EmployeeServiceTest {
 
     @Test
     void testGetAllEmployees_Success() {
-        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto(employeeList);
-        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+        ColumnarRoster roster = ColumnarRoster.of(employeeList);
+        when(employeeIntegration.getRoster()).thenReturn(roster);
 
         List<Employee> result = employeeService.getAllEmployees();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
     }
 
     @Test
     void testGetAllEmployees_IntegrationFailure() {
-        when(employeeIntegration.getAllEmployees()).thenThrow(new EmployeeServiceException("Integration error"));
+        when(employeeIntegration.getRoster()).thenThrow(new EmployeeServiceException("Integration error"));
 
         assertThrows(EmployeeServiceException.class, () -> employeeService.getAllEmployees());
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
     }
 
     @Test
@@ -73,10 +88,10 @@ class EmployeeServiceTest {
                 new Employee(employeeId2, "Johnny Smith", 90000, 35, "Tech Lead", "johnny.smith@example.com")
         );
 
-        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto(employees);
+        ColumnarRoster roster = ColumnarRoster.of(employees);
 
 
-        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+        when(employeeIntegration.getRoster()).thenReturn(roster);
 
 
         List<Employee> result = employeeService.getEmployeesByNameSearch(searchName);
@@ -88,7 +103,7 @@ class EmployeeServiceTest {
         assertTrue(result.get(1).getEmployeeName().toLowerCase().contains(searchName.toLowerCase()));
 
 
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
     }
 
     @Test
@@ -99,10 +114,10 @@ class EmployeeServiceTest {
                 new Employee(UUID.randomUUID().toString(), "Alice Brown", 110000, 32, "Tech Lead", "alice.brown@example.com")
         );
 
-        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto(employees);
+        ColumnarRoster roster = ColumnarRoster.of(employees);
 
 
-        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+        when(employeeIntegration.getRoster()).thenReturn(roster);
 
 
         List<Employee> result = employeeService.getEmployeesByNameSearch(searchName);
@@ -111,7 +126,29 @@ class EmployeeServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch_Paged() {
+        List<Employee> employees = List.of(
+                new Employee(UUID.randomUUID().toString(), "John Doe", 75000, 28, "Software Engineer", "john.doe@example.com"),
+                new Employee(UUID.randomUUID().toString(), "Johnny Smith", 90000, 35, "Tech Lead", "johnny.smith@example.com"),
+                new Employee(UUID.randomUUID().toString(), "Alice Johnson", 80000, 41, "Architect", "alice.johnson@example.com")
+        );
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(employees));
+
+        List<Employee> result = employeeService.getEmployeesByNameSearch("john", 1, 1);
+
+        assertEquals(1, result.size());
+        assertEquals("Johnny Smith", result.get(0).getEmployeeName());
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch_InvalidPage() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesByNameSearch("john", -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesByNameSearch("john", 0, 0));
+        verifyNoInteractions(employeeIntegration);
     }
 
     @Test
@@ -156,44 +193,44 @@ class EmployeeServiceTest {
 
     @Test
     void testGetHighestSalaryOfEmployees_Success() {
-        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto(employeeList);
-        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+        ColumnarRoster roster = ColumnarRoster.of(employeeList);
+        when(employeeIntegration.getRoster()).thenReturn(roster);
 
         Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
 
         assertEquals(120000, highestSalary);
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
     }
 
     @Test
     void testGetHighestSalaryOfEmployees_NoEmployees() {
-        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto(List.of());
-        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+        ColumnarRoster roster = ColumnarRoster.of(List.of());
+        when(employeeIntegration.getRoster()).thenReturn(roster);
 
         assertThrows(EmployeeServiceException.class, () -> employeeService.getHighestSalaryOfEmployees());
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
     }
 
     @Test
     void testGetTopTenHighestEarningEmployeeNames_Success() {
-        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto(employeeList);
-        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+        ColumnarRoster roster = ColumnarRoster.of(employeeList);
+        when(employeeIntegration.getRoster()).thenReturn(roster);
 
         List<String> topEarningEmployees = employeeService.getTopTenHighestEarningEmployeeNames();
 
         assertNotNull(topEarningEmployees);
         assertEquals(2, topEarningEmployees.size());
         assertEquals("Jane Smith", topEarningEmployees.get(0));
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
     }
 
     @Test
     void testGetTopTenHighestEarningEmployeeNames_EmptyList() {
 
         List<Employee> employees = Collections.emptyList();
-        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto(employees);
+        ColumnarRoster roster = ColumnarRoster.of(employees);
 
-        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+        when(employeeIntegration.getRoster()).thenReturn(roster);
 
 
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
@@ -202,7 +239,7 @@ class EmployeeServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(employeeIntegration, times(1)).getRoster();
     }
 
     @Test
@@ -240,22 +277,215 @@ class EmployeeServiceTest {
     void testDeleteEmployeeById_Success() {
         String employeeId = employee1.getId();
 
-        when(employeeIntegration.getEmployeeById(employeeId)).thenReturn(new EmployeeResponseDto("", employee1));
-        doNothing().when(employeeIntegration).deleteEmployee(employee1.getEmployeeName());
+        when(employeeIntegration.deleteEmployeeById(employeeId)).thenReturn(employee1);
 
         String deletedEmployeeName = employeeService.deleteEmployeeById(employeeId);
 
         assertEquals(employee1.getEmployeeName(), deletedEmployeeName);
-        verify(employeeIntegration, times(1)).deleteEmployee(employee1.getEmployeeName());
+        verify(employeeIntegration, times(1)).deleteEmployeeById(employeeId);
+        verify(employeeIntegration, never()).getEmployeeById(anyString());
+        verify(employeeIntegration, never()).deleteEmployee(anyString());
     }
 
     @Test
     void testDeleteEmployeeById_NotFound() {
         String nonExistentId = UUID.randomUUID().toString();
 
-        when(employeeIntegration.getEmployeeById(nonExistentId)).thenThrow(new EmployeeServiceException("Employee not found"));
+        when(employeeIntegration.deleteEmployeeById(nonExistentId))
+                .thenThrow(new EmployeeNotFoundException("Employee not found. Please provide valid id."));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployeeById(nonExistentId));
+        verify(employeeIntegration, times(1)).deleteEmployeeById(nonExistentId);
+    }
+
+    @Test
+    void testDeleteEmployeeById_IntegrationFailure() {
+        String employeeId = employee1.getId();
+
+        when(employeeIntegration.deleteEmployeeById(employeeId))
+                .thenThrow(new EmployeeIntegrationException("Error while deleting employee with id: " + employeeId, null));
+
+        assertThrows(EmployeeServiceException.class, () -> employeeService.deleteEmployeeById(employeeId));
+    }
+
+    @Test
+    void testStreamAllEmployees_FromSnapshot() {
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(employeeList));
+        List<Employee> streamed = new ArrayList<>();
+
+        assertEquals(2, employeeService.streamAllEmployees(streamed::add));
+        assertEquals(employeeList, streamed);
+        verify(employeeIntegration, never()).streamAllEmployees(any());
+    }
+
+    @Test
+    void testStreamAllEmployees_WhenCacheDisabled() {
+        EmployeeService streamingService = streamingService();
+        stubStream(employeeList);
+        List<Employee> streamed = new ArrayList<>();
+
+        assertEquals(2, streamingService.streamAllEmployees(streamed::add));
+        assertEquals(employeeList, streamed);
+        verify(employeeIntegration, never()).getRoster();
+    }
+
+    @Test
+    void testStreamingAggregates_WhenCacheDisabled() {
+        EmployeeService streamingService = streamingService();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            employees.add(new Employee(UUID.randomUUID().toString(), "Employee " + i, (i % 5) * 1000 + i, 30, "Engineer", "e@example.com"));
+        }
+        stubStream(employees);
+
+        assertEquals(4024, streamingService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Employee 24", "Employee 19", "Employee 14", "Employee 9", "Employee 4",
+                        "Employee 23", "Employee 18", "Employee 13", "Employee 8", "Employee 3"),
+                streamingService.getTopTenHighestEarningEmployeeNames());
+        verify(employeeIntegration, times(2)).streamAllEmployees(any());
+        verify(employeeIntegration, never()).getRoster();
+    }
+
+    @Test
+    void testGetEmployeeAnalytics_FollowsCreatesWithoutReloading() {
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(employeeList));
+        Employee created = new Employee(UUID.randomUUID().toString(), "Alice Brown", 50000, 45, "Tech Lead", "alice.brown@example.com");
+        when(employeeIntegration.createEmployee("Alice Brown", 50000, 45, "Tech Lead"))
+                .thenReturn(new EmployeeResponseDto("success", created));
+
+        EmployeeAnalytics before = employeeService.getEmployeeAnalytics();
+        employeeService.createEmployee("Alice Brown", 50000, 45, "Tech Lead");
+        EmployeeAnalytics after = employeeService.getEmployeeAnalytics();
+
+        assertEquals(2, before.getEmployeeCount());
+        assertEquals(110000.0, before.getSalary().getMean());
+        assertEquals(3, after.getEmployeeCount());
+        assertEquals(50000, after.getSalary().getMin());
+        assertEquals(120000, after.getSalary().getMax());
+        assertEquals(List.of("20-29", "30-39", "40-49"),
+                after.getByAgeBand().stream().map(GroupStatistics::getGroup).toList());
+        verify(employeeIntegration, times(1)).getRoster();
+    }
+
+    @Test
+    void testGetEmployeeAnalytics_WhenCacheDisabledStreamsOnce() {
+        EmployeeService streamingService = streamingService();
+        stubStream(employeeList);
+
+        EmployeeAnalytics analytics = streamingService.getEmployeeAnalytics();
+
+        assertEquals(2, analytics.getEmployeeCount());
+        assertEquals(100000, analytics.getSalary().getMin());
+        assertEquals(120000, analytics.getSalary().getMax());
+        assertEquals(2, analytics.getByTitle().size());
+        verify(employeeIntegration, times(1)).streamAllEmployees(any());
+        verify(employeeIntegration, never()).getRoster();
+    }
+
+    @Test
+    void testGetEmployeeAnalytics_IntegrationFailure() {
+        when(employeeIntegration.getRoster()).thenThrow(new EmployeeIntegrationException("Integration error", null));
+
+        assertThrows(EmployeeServiceException.class, () -> employeeService.getEmployeeAnalytics());
+    }
+
+    @Test
+    void testNameSearch_WhenCacheDisabled_PushesDownAndFollowsCursor() {
+        EmployeeService streamingService = streamingService();
+        Employee johnny = new Employee(UUID.randomUUID().toString(), "Johnny Smith", 90000, 35, "Tech Lead", "johnny.smith@example.com");
+        Employee johnson = new Employee(UUID.randomUUID().toString(), "Ann Johnson", 80000, 41, "Architect", "ann.johnson@example.com");
+        when(employeeIntegration.getEmployeePage(argThat(query -> query != null && query.getCursor() == null)))
+                .thenReturn(new EmployeePageDto(List.of(employee1), "cursor-1"));
+        when(employeeIntegration.getEmployeePage(argThat(query -> query != null && "cursor-1".equals(query.getCursor()))))
+                .thenReturn(new EmployeePageDto(List.of(johnny, johnson), null));
+
+        List<Employee> result = streamingService.getEmployeesByNameSearch("JOHN", 1, 5);
+
+        assertEquals(List.of(johnny, johnson), result);
+        verify(employeeIntegration, times(2)).getEmployeePage(argThat(query -> "JOHN".equals(query.getName())));
+        verify(employeeIntegration, never()).getRoster();
+        verify(employeeIntegration, never()).streamAllEmployees(any());
+    }
+
+    @Test
+    void testFindEmployees_PushesRangeFiltersDownEvenWhenCached() {
+        when(employeeIntegration.getEmployeePage(any())).thenReturn(new EmployeePageDto(List.of(employee1), "cursor-2"));
+
+        EmployeePage page = employeeService.findEmployees(null, 40000, 60000, 25, 40, "Engineer", "cursor-1", 10);
+
+        assertEquals(List.of(employee1), page.getEmployees());
+        assertEquals("cursor-2", page.getNextCursor());
+        verify(employeeIntegration).getEmployeePage(argThat(query -> query.getMinSalary() == 40000
+                && query.getMaxSalary() == 60000 && query.getMinAge() == 25 && query.getMaxAge() == 40
+                && "Engineer".equals(query.getTitle()) && "cursor-1".equals(query.getCursor())
+                && query.getLimit() == 10));
+        verify(employeeIntegration, never()).getRoster();
+    }
+
+    @Test
+    void testFindEmployees_RejectsNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.findEmployees(null, null, null, null, null, null, null, 0));
+        verify(employeeIntegration, never()).getEmployeePage(any());
+    }
+
+    @Test
+    void testStreamingHighestSalary_NoEmployees() {
+        EmployeeService streamingService = streamingService();
+        stubStream(List.of());
+
+        assertThrows(EmployeeServiceException.class, streamingService::getHighestSalaryOfEmployees);
+    }
+
+    @Test
+    void testCreateEmployees_AddsCreatedEmployeesToSnapshot() {
+        List<EmployeeInput> inputs = List.of(new EmployeeInput("John Doe", 100000, 30, "Software Engineer"),
+                new EmployeeInput("", 100000, 30, "Software Engineer"));
+        when(employeeIntegration.getRoster()).thenReturn(ColumnarRoster.of(new ArrayList<>()));
+        when(employeeIntegration.createEmployees(inputs)).thenReturn(List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, employee1, null),
+                new EmployeeBatchResult(1, EmployeeBatchResult.Status.INVALID, null, "name: must not be blank")));
+        assertTrue(employeeService.getAllEmployees().isEmpty());
+
+        List<EmployeeBatchResult> results = employeeService.createEmployees(inputs);
+
+        assertEquals(2, results.size());
+        assertEquals(List.of(employee1), employeeService.getAllEmployees());
+        verify(employeeIntegration, times(1)).createEmployees(inputs);
+    }
+
+    @Test
+    void testDeleteEmployeesById_SendsIdsInOneBatch() {
+        when(employeeIntegration.deleteEmployees(any())).thenReturn(List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.DELETED, employee1, null),
+                new EmployeeBatchResult(1, EmployeeBatchResult.Status.NOT_FOUND, null, null)));
+
+        List<EmployeeBatchResult> results = employeeService.deleteEmployeesById(List.of(employee1.getId(), "missing"));
+
+        assertEquals(EmployeeBatchResult.Status.DELETED, results.get(0).getStatus());
+        assertEquals(EmployeeBatchResult.Status.NOT_FOUND, results.get(1).getStatus());
+        verify(employeeIntegration).deleteEmployees(argThat(items -> items.size() == 2
+                && employee1.getId().equals(items.get(0).getId()) && items.get(0).getName() == null));
+        verify(employeeIntegration, never()).deleteEmployee(anyString());
+    }
+
+    @Test
+    void testCreateEmployees_RejectsEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployees(List.of()));
+        verify(employeeIntegration, never()).createEmployees(any());
+    }
+
+    private EmployeeService streamingService() {
+        EmployeeCacheConfigs disabled = new EmployeeCacheConfigs();
+        disabled.setEnabled(false);
+        return new EmployeeService(employeeIntegration, new EmployeeSnapshotCache(employeeIntegration, disabled));
+    }
 
-        assertThrows(EmployeeServiceException.class, () -> employeeService.deleteEmployeeById(nonExistentId));
-        verify(employeeIntegration, times(1)).getEmployeeById(nonExistentId);
+    private void stubStream(List<Employee> employees) {
+        when(employeeIntegration.streamAllEmployees(any())).thenAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            employees.forEach(consumer);
+            return employees.size();
+        });
     }
 }
@@ -0,0 +1,207 @@
+package com.reliaquest.api.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.Employee;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Lightweight stand-in for the server module's mock employee API, served by the JDK HTTP server so tests can
+ * exercise real HTTP clients without booting the server application. Supports listing, lookup by id and delete by
+ * name or id.
+ */
+public class StubEmployeeServer implements AutoCloseable {
+
+    public static final String RESOURCE = "/employee";
+    private static final String CONTEXT = "/api/v1" + RESOURCE;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Employee> employees = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger gzipRequestCount = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> requestsByMethod = new ConcurrentHashMap<>();
+
+    private volatile Duration latency = Duration.ZERO;
+
+    private int requestLimit = Integer.MAX_VALUE;
+    private long limitWindowNanos;
+    private long windowStartNanos;
+    private int windowCount;
+    private final AtomicInteger rateLimitedCount = new AtomicInteger();
+
+    private StubEmployeeServer(int rosterSize) throws IOException {
+        for (int i = 0; i < rosterSize; i++) {
+            employees.add(new Employee(UUID.randomUUID().toString(), "Employee " + i, 30000 + i, 20 + i % 50,
+                    "Engineer", "employee" + i + "@company.com"));
+        }
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(CONTEXT, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static StubEmployeeServer start(int rosterSize) throws IOException {
+        return new StubEmployeeServer(rosterSize);
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/v1";
+    }
+
+    public List<Employee> getEmployees() {
+        return List.copyOf(employees);
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Mimics the server module's request limiter with a fixed window: at most {@code limit} requests are accepted
+     * per {@code window}, the rest are answered with 429.
+     */
+    public synchronized void setRequestLimit(int limit, Duration window) {
+        this.requestLimit = limit;
+        this.limitWindowNanos = window.toNanos();
+        this.windowStartNanos = System.nanoTime();
+        this.windowCount = 0;
+    }
+
+    public int getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getRequestCount(String method) {
+        AtomicInteger count = requestsByMethod.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    public int getGzipRequestCount() {
+        return gzipRequestCount.get();
+    }
+
+    public int getDistinctConnectionCount() {
+        return clientPorts.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            requestsByMethod.computeIfAbsent(exchange.getRequestMethod(), ignored -> new AtomicInteger()).incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            sleep(latency);
+            if (!tryAcquire()) {
+                rateLimitedCount.incrementAndGet();
+                exchange.sendResponseHeaders(429, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            String id = path.length() > CONTEXT.length() ? path.substring(CONTEXT.length() + 1) : null;
+            if ("GET".equals(exchange.getRequestMethod()) && id == null) {
+                respond(exchange, 200, Map.of("status", "Successfully processed request.", "data", new ArrayList<>(employees)));
+            } else if ("GET".equals(exchange.getRequestMethod())) {
+                Employee employee = findById(id);
+                if (employee == null) {
+                    respond(exchange, 404, Map.of("status", "Successfully processed request."));
+                } else {
+                    respond(exchange, 200, Map.of("status", "Successfully processed request.", "data", employee));
+                }
+            } else if ("DELETE".equals(exchange.getRequestMethod()) && id == null) {
+                String name = objectMapper.readTree(exchange.getRequestBody()).path("name").asText();
+                Employee employee = employees.stream()
+                        .filter(candidate -> candidate.getEmployeeName().equalsIgnoreCase(name))
+                        .findFirst()
+                        .orElse(null);
+                boolean deleted = employee != null && employees.remove(employee);
+                respond(exchange, 200, Map.of("status", "Successfully processed request.", "data", deleted));
+            } else if ("DELETE".equals(exchange.getRequestMethod())) {
+                Employee employee = findById(id);
+                if (employee == null || !employees.remove(employee)) {
+                    respond(exchange, 404, Map.of("status", "Successfully processed request."));
+                } else {
+                    respond(exchange, 200, Map.of("status", "Successfully processed request.", "data", employee));
+                }
+            } else {
+                // The real server's catch-all advice answers an unsupported method with a 500.
+                respond(exchange, 500, Map.of("status", "Failed to process request."));
+            }
+        }
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (requestLimit == Integer.MAX_VALUE) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - windowStartNanos >= limitWindowNanos) {
+            windowStartNanos = now;
+            windowCount = 0;
+        }
+        return ++windowCount <= requestLimit;
+    }
+
+    private Employee findById(String id) {
+        return employees.stream().filter(employee -> employee.getId().equals(id)).findFirst().orElse(null);
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            gzipRequestCount.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(payload);
+            }
+        } else {
+            exchange.sendResponseHeaders(status, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.integration.dto.GetAllEmployeeResponseDto;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson round trips of the full roster: the server writing its {@link MockEmployee} list, and the api reading and
+ * writing {@link GetAllEmployeeResponseDto}.
+ */
+@State(Scope.Benchmark)
+public class EmployeeJsonBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<MockEmployee> mockEmployees;
+    private GetAllEmployeeResponseDto response;
+    private byte[] responseJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        mockEmployees = Rosters.mockEmployees(rosterSize);
+        response = new GetAllEmployeeResponseDto(Rosters.employees(rosterSize));
+        responseJson = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeServerRoster() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mockEmployees);
+    }
+
+    @Benchmark
+    public GetAllEmployeeResponseDto deserializeRosterResponse() throws IOException {
+        return objectMapper.readValue(responseJson, GetAllEmployeeResponseDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializeRosterResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reproducible rosters shared by the benchmarks, so results at the same size compare like for like between runs.
+ */
+public final class Rosters {
+
+    public static final long SEED = 42L;
+
+    private Rosters() {}
+
+    public static List<MockEmployee> mockEmployees(int size) {
+        return new MockEmployeeGenerator(Locale.ENGLISH, SEED).generate(size);
+    }
+
+    public static List<Employee> employees(int size) {
+        return mockEmployees(size).stream().map(Rosters::toEmployee).toList();
+    }
+
+    /**
+     * A lowercase fragment of the first employee's surname, which matches a realistic handful of the roster.
+     */
+    public static String searchTerm(List<Employee> employees) {
+        final var name = employees.get(0).getEmployeeName();
+        final var surname = name.substring(name.lastIndexOf(' ') + 1).toLowerCase(Locale.ROOT);
+        return surname.substring(0, Math.min(4, surname.length()));
+    }
+
+    private static Employee toEmployee(MockEmployee mockEmployee) {
+        return new Employee(
+                mockEmployee.getId().toString(),
+                mockEmployee.getName(),
+                mockEmployee.getSalary(),
+                mockEmployee.getAge(),
+                mockEmployee.getTitle(),
+                mockEmployee.getEmail());
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.Employee;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stand-in for the server module's roster, by-id and delete endpoints on the JDK HTTP server, so client benchmarks
+ * measure the api's HTTP stack rather than the server application. The roster is serialized once, plain and gzipped,
+ * up front, and every response can be held back by a fixed latency to model a remote upstream.
+ *
+ * <p>Deletes, by id or by name, answer as the server would but leave the roster in place, so a benchmark can repeat
+ * them. With {@link #setIdDeleteSupported} off, {@code DELETE /{id}} answers 500, as the original server's catch-all
+ * advice does for the route it lacks.
+ */
+public final class UpstreamStub implements AutoCloseable {
+
+    public static final String RESOURCE = "/employee";
+    private static final String CONTEXT = "/api/v1" + RESOURCE;
+    private static final String UNSUPPORTED_DELETE = "Request method 'DELETE' is not supported";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Employee> employeesById = new ConcurrentHashMap<>();
+    private final byte[] roster;
+    private final byte[] gzippedRoster;
+    private volatile Duration latency = Duration.ZERO;
+    private volatile boolean idDeleteSupported = true;
+
+    private UpstreamStub(List<Employee> employees) throws IOException {
+        roster = OBJECT_MAPPER.writeValueAsBytes(Map.of("status", "Successfully processed request.", "data", employees));
+        gzippedRoster = gzip(roster);
+        employees.forEach(employee -> employeesById.put(employee.getId(), employee));
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(CONTEXT, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static UpstreamStub start(List<Employee> employees) {
+        try {
+            return new UpstreamStub(employees);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/v1";
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void setIdDeleteSupported(boolean idDeleteSupported) {
+        this.idDeleteSupported = idDeleteSupported;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sleep(latency);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            final var path = exchange.getRequestURI().getPath();
+            final var delete = "DELETE".equals(exchange.getRequestMethod());
+            if (path.length() > CONTEXT.length()) {
+                final var id = path.substring(CONTEXT.length() + 1);
+                if (delete && !idDeleteSupported) {
+                    respond(exchange, 500, Map.of("status", "Failed to process request.", "error", UNSUPPORTED_DELETE));
+                } else {
+                    respondById(exchange, id);
+                }
+                return;
+            }
+            if (delete) {
+                respondToDeleteByName(exchange);
+                return;
+            }
+            final var acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            final var gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            if (gzip) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            final var body = gzip ? gzippedRoster : roster;
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void respondById(HttpExchange exchange, String id) throws IOException {
+        final var employee = employeesById.get(id);
+        if (employee == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        respond(exchange, employee);
+    }
+
+    private void respondToDeleteByName(HttpExchange exchange) throws IOException {
+        final var name = OBJECT_MAPPER.readTree(exchange.getRequestBody()).path("name").asText();
+        respond(
+                exchange,
+                employeesById.values().stream()
+                        .anyMatch(employee -> employee.getEmployeeName().equalsIgnoreCase(name)));
+    }
+
+    private static void respond(HttpExchange exchange, Object data) throws IOException {
+        respond(exchange, 200, Map.of("status", "Successfully processed request.", "data", data));
+    }
+
+    private static void respond(HttpExchange exchange, int status, Map<String, Object> json) throws IOException {
+        final var body = OBJECT_MAPPER.writeValueAsBytes(json);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(Duration latency) {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        final var buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+}
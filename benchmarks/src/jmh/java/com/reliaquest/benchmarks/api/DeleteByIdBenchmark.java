@@ -0,0 +1,84 @@
+package com.reliaquest.benchmarks.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.EmployeeHttpClients;
+import com.reliaquest.api.config.EmployeeUrlConfigs;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.integration.AdaptiveThrottle;
+import com.reliaquest.api.integration.EmployeeIntegration;
+import com.reliaquest.api.integration.EmployeeRosterReader;
+import com.reliaquest.api.integration.UpstreamMetrics;
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.benchmarks.UpstreamStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link EmployeeIntegration#deleteEmployeeById} against an upstream that answers after a fixed latency and either
+ * supports {@code DELETE /{id}} (one round trip) or answers 500, like the original server, and leaves the api to look
+ * the employee up and delete it by name (two round trips).
+ */
+@State(Scope.Benchmark)
+public class DeleteByIdBenchmark {
+
+    private static final int ROSTER_SIZE = 1000;
+
+    public enum Upstream {
+        ID_ROUTE,
+        NAME_ONLY
+    }
+
+    @Param({"ID_ROUTE", "NAME_ONLY"})
+    Upstream upstream;
+
+    @Param({"0", "20"})
+    int latencyMillis;
+
+    private UpstreamStub stub;
+    private HttpComponentsClientHttpRequestFactory requestFactory;
+    private EmployeeIntegration employeeIntegration;
+    private String[] ids;
+    private int nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var roster = Rosters.employees(ROSTER_SIZE);
+        ids = roster.stream().map(Employee::getId).toArray(String[]::new);
+        stub = UpstreamStub.start(roster);
+        stub.setLatency(Duration.ofMillis(latencyMillis));
+        stub.setIdDeleteSupported(upstream == Upstream.ID_ROUTE);
+
+        final var employeeUrlConfigs = new EmployeeUrlConfigs();
+        employeeUrlConfigs.setBaseUrl(stub.getBaseUrl());
+        employeeUrlConfigs.setEmployeeResource(UpstreamStub.RESOURCE);
+        employeeUrlConfigs.getThrottle().setEnabled(false);
+        requestFactory = EmployeeHttpClients.pooledRequestFactory(employeeUrlConfigs.getHttp());
+        employeeIntegration = new EmployeeIntegration(
+                new RestTemplate(requestFactory),
+                employeeUrlConfigs,
+                new AdaptiveThrottle(employeeUrlConfigs.getThrottle()),
+                new UpstreamMetrics(new SimpleMeterRegistry()),
+                new EmployeeRosterReader(new ObjectMapper()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        requestFactory.destroy();
+        stub.close();
+    }
+
+    @Benchmark
+    public Employee deleteById() {
+        nextId = nextId + 1 == ids.length ? 0 : nextId + 1;
+        return employeeIntegration.deleteEmployeeById(ids[nextId]);
+    }
+}
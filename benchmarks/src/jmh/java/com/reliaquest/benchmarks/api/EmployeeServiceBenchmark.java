@@ -0,0 +1,83 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.config.EmployeeCacheConfigs;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeAnalytics;
+import com.reliaquest.api.service.impl.EmployeeService;
+import com.reliaquest.benchmarks.Rosters;
+import java.time.Instant;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link EmployeeService} with the snapshot cache enabled and an in-memory upstream: the read paths served from the
+ * snapshot indexes, a by-id lookup, a create followed by a delete (each deriving a new snapshot), and a full snapshot
+ * rebuild as done on every refresh.
+ */
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int rosterSize;
+
+    private List<Employee> roster;
+    private EmployeeService employeeService;
+    private String searchTerm;
+    private String[] ids;
+    private int nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = Rosters.employees(rosterSize);
+        final var integration = new InMemoryEmployeeIntegration(roster);
+        employeeService =
+                new EmployeeService(integration, new EmployeeSnapshotCache(integration, new EmployeeCacheConfigs()));
+        employeeService.getAllEmployees();
+        searchTerm = Rosters.searchTerm(roster);
+        ids = roster.stream().map(Employee::getId).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.getEmployeesByNameSearch(searchTerm, 0, 50);
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> topTenNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public Employee getById() {
+        nextId = nextId + 1 == ids.length ? 0 : nextId + 1;
+        return employeeService.getEmployeeById(ids[nextId]);
+    }
+
+    @Benchmark
+    public String createThenDelete() {
+        final var created = employeeService.createEmployee("Bench Mark", 100_000, 30, "Engineer");
+        return employeeService.deleteEmployeeById(created.getId());
+    }
+
+    @Benchmark
+    public EmployeeAnalytics analytics() {
+        return employeeService.getEmployeeAnalytics();
+    }
+
+    @Benchmark
+    public EmployeeSnapshot rebuildSnapshot() {
+        return new EmployeeSnapshot(roster, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.benchmarks.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.ColumnarRoster;
+import com.reliaquest.api.config.EmployeeUrlConfigs;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.integration.AdaptiveThrottle;
+import com.reliaquest.api.integration.EmployeeIntegration;
+import com.reliaquest.api.integration.EmployeeRosterReader;
+import com.reliaquest.api.integration.UpstreamMetrics;
+import com.reliaquest.api.integration.dto.EmployeeResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Answers the calls {@code EmployeeService} makes from memory, so the benchmarks measure the service, snapshot and
+ * index code rather than HTTP.
+ */
+final class InMemoryEmployeeIntegration extends EmployeeIntegration {
+
+    private static final EmployeeUrlConfigs URL_CONFIGS = new EmployeeUrlConfigs();
+
+    private final Map<String, Employee> employees = new LinkedHashMap<>();
+
+    InMemoryEmployeeIntegration(List<Employee> roster) {
+        super(
+                new RestTemplate(),
+                URL_CONFIGS,
+                new AdaptiveThrottle(URL_CONFIGS.getThrottle()),
+                new UpstreamMetrics(new SimpleMeterRegistry()),
+                new EmployeeRosterReader(new ObjectMapper()));
+        roster.forEach(employee -> employees.put(employee.getId(), employee));
+    }
+
+    @Override
+    public ColumnarRoster getRoster() {
+        return ColumnarRoster.of(new ArrayList<>(employees.values()));
+    }
+
+    @Override
+    public int streamAllEmployees(Consumer<Employee> consumer) {
+        employees.values().forEach(consumer);
+        return employees.size();
+    }
+
+    @Override
+    public EmployeeResponseDto getEmployeeById(String id) {
+        final var employee = employees.get(id);
+        if (employee == null) {
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        return new EmployeeResponseDto("Successfully processed request.", employee);
+    }
+
+    @Override
+    public EmployeeResponseDto createEmployee(String name, int salary, int age, String title) {
+        final var employee =
+                new Employee(UUID.randomUUID().toString(), name, salary, age, title, "benchmark@company.com");
+        employees.put(employee.getId(), employee);
+        return new EmployeeResponseDto("Successfully processed request.", employee);
+    }
+
+    @Override
+    public Employee deleteEmployeeById(String id) {
+        final var employee = employees.remove(id);
+        if (employee == null) {
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        return employee;
+    }
+}
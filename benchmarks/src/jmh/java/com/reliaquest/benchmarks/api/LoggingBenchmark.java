@@ -0,0 +1,138 @@
+package com.reliaquest.benchmarks.api;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.config.EmployeeCacheConfigs;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.service.impl.EmployeeService;
+import com.reliaquest.benchmarks.Rosters;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Request throughput of the controller and service read paths under each logging setup, writing to a real file with
+ * Spring Boot's console pattern. {@code DEBUG} with a {@code SYNC} appender is what every request used to pay, with
+ * its INFO lines written on the request thread; {@code INFO} with an {@code ASYNC} appender is the current default,
+ * where those lines are at DEBUG and anything still logged is written by a background thread. Runs on four threads so
+ * contention on the appender shows up.
+ *
+ * <p>The asynchronous appender is configured as in {@code logback-spring.xml} and drops events once its queue is full,
+ * so at {@code DEBUG} part of its gain comes from lines that were never written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{36} : %m%n";
+
+    public enum Writer {
+        SYNC,
+        ASYNC
+    }
+
+    @Param({"DEBUG", "INFO"})
+    String level;
+
+    @Param({"SYNC", "ASYNC"})
+    Writer writer;
+
+    private EmployeeController employeeController;
+    private String[] ids;
+    private Path logFile;
+    private ch.qos.logback.classic.Logger applicationLogger;
+    private Appender<ILoggingEvent> appender;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final List<Employee> roster = Rosters.employees(10_000);
+        final var integration = new InMemoryEmployeeIntegration(roster);
+        final var employeeService =
+                new EmployeeService(integration, new EmployeeSnapshotCache(integration, new EmployeeCacheConfigs()));
+        employeeService.getAllEmployees();
+        employeeController = new EmployeeController(employeeService, new ObjectMapper());
+        ids = roster.stream().map(Employee::getId).toArray(String[]::new);
+
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        final var context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        appender = writer == Writer.ASYNC ? async(context, file(context, logFile)) : file(context, logFile);
+        applicationLogger = context.getLogger("com.reliaquest");
+        applicationLogger.setLevel(ch.qos.logback.classic.Level.toLevel(level));
+        applicationLogger.setAdditive(false);
+        applicationLogger.addAppender(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        applicationLogger.detachAppender(appender);
+        applicationLogger.setAdditive(true);
+        applicationLogger.setLevel(null);
+        appender.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public ResponseEntity<Employee> getById() {
+        return employeeController.getEmployeeById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public ResponseEntity<Integer> highestSalary() {
+        return employeeController.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<String>> topTenNames() {
+        return employeeController.getTopTenHighestEarningEmployeeNames();
+    }
+
+    private static FileAppender<ILoggingEvent> file(LoggerContext context, Path path) {
+        final var encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        final var file = new FileAppender<ILoggingEvent>();
+        file.setContext(context);
+        file.setFile(path.toString());
+        file.setEncoder(encoder);
+        file.start();
+        return file;
+    }
+
+    private static AsyncAppender async(LoggerContext context, Appender<ILoggingEvent> delegate) {
+        final var async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(delegate);
+        async.start();
+        return async;
+    }
+}
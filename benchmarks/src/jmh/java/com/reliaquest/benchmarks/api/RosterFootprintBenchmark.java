@@ -0,0 +1,72 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.cache.ColumnarRoster;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.benchmarks.Rosters;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Heap cost of holding the roster, read from the gc profiler's {@code gc.alloc.rate.norm} (bytes per operation).
+ * {@link #rows()} and {@link #columns()} build the same roster as one {@link Employee} per row and as
+ * {@link ColumnarRoster} columns; both reuse the parsed strings, so the difference is the per-row object and boxing
+ * overhead the columns avoid. {@link #snapshot()} adds the indexes, and {@link #iterateViews()} shows the cost of
+ * materializing employees from the columns on each full read.
+ */
+@State(Scope.Benchmark)
+public class RosterFootprintBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rosterSize;
+
+    private List<Employee> parsed;
+    private EmployeeSnapshot loaded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parsed = Rosters.employees(rosterSize);
+        loaded = new EmployeeSnapshot(parsed, Instant.EPOCH);
+    }
+
+    @Benchmark
+    public List<Employee> rows() {
+        final var rows = new ArrayList<Employee>(parsed.size());
+        for (final var employee : parsed) {
+            rows.add(new Employee(
+                    employee.getId(),
+                    employee.getEmployeeName(),
+                    Integer.valueOf(employee.getEmployeeSalary()),
+                    Integer.valueOf(employee.getEmployeeAge()),
+                    employee.getEmployeeTitle(),
+                    employee.getEmployeeEmail()));
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public ColumnarRoster columns() {
+        return ColumnarRoster.of(parsed);
+    }
+
+    @Benchmark
+    public EmployeeSnapshot snapshot() {
+        return new EmployeeSnapshot(parsed, Instant.EPOCH);
+    }
+
+    @Benchmark
+    public long iterateViews() {
+        long total = 0;
+        for (final var employee : loaded.getEmployees()) {
+            total += employee.getEmployeeSalary();
+        }
+        return total;
+    }
+}
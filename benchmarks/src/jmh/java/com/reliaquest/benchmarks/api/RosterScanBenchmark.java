@@ -0,0 +1,60 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.cache.ColumnarRoster;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.benchmarks.Rosters;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Full-roster aggregate scans over {@code List<Employee>} with boxed fields versus the {@link ColumnarRoster} columns.
+ */
+@State(Scope.Benchmark)
+public class RosterScanBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rosterSize;
+
+    private List<Employee> rows;
+    private ColumnarRoster columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = Rosters.employees(rosterSize);
+        columns = ColumnarRoster.of(rows);
+    }
+
+    @Benchmark
+    public Optional<Integer> highestSalaryRows() {
+        return rows.stream().map(Employee::getEmployeeSalary).max(Integer::compareTo);
+    }
+
+    @Benchmark
+    public OptionalInt highestSalaryColumns() {
+        return columns.getHighestSalary();
+    }
+
+    @Benchmark
+    public OptionalDouble averageAgeRows() {
+        return rows.stream().mapToInt(Employee::getEmployeeAge).average();
+    }
+
+    @Benchmark
+    public double averageAgeColumns() {
+        long total = 0;
+        for (int row = 0; row < columns.rowCount(); row++) {
+            if (columns.isLive(row)) {
+                total += columns.age(row);
+            }
+        }
+        return (double) total / columns.size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.config.EmployeeHttpClients;
+import com.reliaquest.api.config.EmployeeUrlConfigs;
+import com.reliaquest.api.integration.dto.GetAllEmployeeResponseDto;
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.benchmarks.UpstreamStub;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * One roster fetch over loopback HTTP with the JDK's {@link SimpleClientHttpRequestFactory}, which opens a connection
+ * per request unless the JVM's own keep-alive cache happens to hold one, versus the pooled keep-alive client with gzip
+ * from {@link EmployeeHttpClients}.
+ */
+@State(Scope.Benchmark)
+public class UpstreamClientBenchmark {
+
+    public enum Client {
+        SIMPLE,
+        POOLED
+    }
+
+    @Param({"SIMPLE", "POOLED"})
+    Client client;
+
+    @Param({"200", "10000"})
+    int rosterSize;
+
+    private UpstreamStub upstream;
+    private ClientHttpRequestFactory requestFactory;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        upstream = UpstreamStub.start(Rosters.employees(rosterSize));
+        url = upstream.getBaseUrl() + UpstreamStub.RESOURCE;
+        requestFactory = client == Client.POOLED
+                ? EmployeeHttpClients.pooledRequestFactory(new EmployeeUrlConfigs.Http())
+                : new SimpleClientHttpRequestFactory();
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (requestFactory instanceof HttpComponentsClientHttpRequestFactory pooled) {
+            pooled.destroy();
+        }
+        upstream.close();
+    }
+
+    @Benchmark
+    public GetAllEmployeeResponseDto getRoster() {
+        return restTemplate.getForObject(url, GetAllEmployeeResponseDto.class);
+    }
+}
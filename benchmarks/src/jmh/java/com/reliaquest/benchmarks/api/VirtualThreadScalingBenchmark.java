@@ -0,0 +1,104 @@
+package com.reliaquest.benchmarks.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.EmployeeHttpClients;
+import com.reliaquest.api.config.EmployeeUrlConfigs;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.integration.AdaptiveThrottle;
+import com.reliaquest.api.integration.EmployeeIntegration;
+import com.reliaquest.api.integration.EmployeeRosterReader;
+import com.reliaquest.api.integration.UpstreamMetrics;
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.benchmarks.UpstreamStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * One burst of {@code concurrency} by-id lookups through the blocking {@link EmployeeIntegration}, against an upstream
+ * that answers after 50 ms, run on Tomcat's default 200 platform threads versus one virtual thread per request. The
+ * score is the time to complete the whole burst.
+ */
+@State(Scope.Benchmark)
+public class VirtualThreadScalingBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(50);
+
+    public enum Threads {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    Threads threads;
+
+    @Param({"1000", "10000"})
+    int concurrency;
+
+    private UpstreamStub upstream;
+    private HttpComponentsClientHttpRequestFactory requestFactory;
+    private EmployeeIntegration employeeIntegration;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var roster = Rosters.employees(concurrency);
+        ids = roster.stream().map(Employee::getId).toArray(String[]::new);
+        upstream = UpstreamStub.start(roster);
+        upstream.setLatency(UPSTREAM_LATENCY);
+
+        final var employeeUrlConfigs = new EmployeeUrlConfigs();
+        employeeUrlConfigs.setBaseUrl(upstream.getBaseUrl());
+        employeeUrlConfigs.setEmployeeResource(UpstreamStub.RESOURCE);
+        employeeUrlConfigs.getThrottle().setEnabled(false);
+        employeeUrlConfigs.getHttp().setMaxConnections(concurrency);
+        employeeUrlConfigs.getHttp().setMaxConnectionsPerRoute(concurrency);
+        employeeUrlConfigs.getHttp().setConnectionRequestTimeout(Duration.ofSeconds(30));
+        requestFactory = EmployeeHttpClients.pooledRequestFactory(employeeUrlConfigs.getHttp());
+        employeeIntegration = new EmployeeIntegration(
+                new RestTemplate(requestFactory),
+                employeeUrlConfigs,
+                new AdaptiveThrottle(employeeUrlConfigs.getThrottle()),
+                new UpstreamMetrics(new SimpleMeterRegistry()),
+                new EmployeeRosterReader(new ObjectMapper()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        requestFactory.destroy();
+        upstream.close();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        final ExecutorService executor = threads == Threads.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        try (executor) {
+            final var futures = new ArrayList<Future<Employee>>(ids.length);
+            for (final var id : ids) {
+                futures.add(executor.submit(() -> employeeIntegration.getEmployeeById(id).getData()));
+            }
+            int fetched = 0;
+            for (final var future : futures) {
+                if (future.get() != null) {
+                    fetched++;
+                }
+            }
+            return fetched;
+        }
+    }
+}
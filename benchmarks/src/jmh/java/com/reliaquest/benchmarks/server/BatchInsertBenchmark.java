@@ -0,0 +1,83 @@
+package com.reliaquest.benchmarks.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.SerializedRosterCache;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Inserts {@value #INSERTS} employees into an empty store through {@link MockEmployeeController}, one create per
+ * employee or in batches of {@code batchSize}. The score is per inserted employee. Batches validate every item, which
+ * the single path leaves to Spring MVC, so the comparison does not flatter batching.
+ */
+@State(Scope.Benchmark)
+public class BatchInsertBenchmark {
+
+    private static final int INSERTS = 10_000;
+
+    @Param({"1", "100", "1000"})
+    int batchSize;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final Faker faker = new Faker(Locale.ENGLISH);
+    private List<List<CreateMockEmployeeInput>> batches;
+    private MockEmployeeController controller;
+
+    @Setup(Level.Trial)
+    public void setUpInputs() {
+        batches = new ArrayList<>();
+        for (int from = 0; from < INSERTS; from += batchSize) {
+            final var batch = new ArrayList<CreateMockEmployeeInput>(batchSize);
+            for (int i = from; i < Math.min(from + batchSize, INSERTS); i++) {
+                batch.add(input(i));
+            }
+            batches.add(batch);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpStore() {
+        final var store = new EmployeeStore(List.of());
+        controller = new MockEmployeeController(
+                new MockEmployeeService(faker, store), new SerializedRosterCache(store, new ObjectMapper()), validator);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERTS)
+    public int insert() {
+        int inserted = 0;
+        for (final var batch : batches) {
+            if (batchSize == 1) {
+                controller.createEmployee(batch.get(0));
+                inserted++;
+            } else {
+                inserted += controller.createEmployees(batch).data().size();
+            }
+        }
+        return inserted;
+    }
+
+    private static CreateMockEmployeeInput input(int i) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName("Employee " + i);
+        input.setSalary(50_000 + i);
+        input.setAge(20 + i % 50);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
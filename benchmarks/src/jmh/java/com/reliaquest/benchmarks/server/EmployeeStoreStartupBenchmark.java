@@ -0,0 +1,38 @@
+package com.reliaquest.benchmarks.server;
+
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Server startup cost after the roster is generated or restored: building an {@link EmployeeStore}, with its id, name
+ * and query indexes, from {@code rosterSize} employees.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeStoreStartupBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rosterSize;
+
+    private List<MockEmployee> roster;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = Rosters.mockEmployees(rosterSize);
+    }
+
+    @Benchmark
+    public EmployeeStore build() {
+        return new EmployeeStore(roster);
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.benchmarks.server;
+
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeQuery;
+import com.reliaquest.server.store.EmployeeStore;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link MockEmployeeService} over an {@link EmployeeStore}: id lookups, the name-filtered and unfiltered page
+ * queries behind the listing endpoint, and a create followed by a delete by id.
+ */
+@State(Scope.Benchmark)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int rosterSize;
+
+    private MockEmployeeService mockEmployeeService;
+    private UUID[] ids;
+    private int nextId;
+    private EmployeeQuery nameQuery;
+    private EmployeeQuery pageQuery;
+    private CreateMockEmployeeInput createInput;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var roster = Rosters.mockEmployees(rosterSize);
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.ENGLISH), new EmployeeStore(roster));
+        ids = roster.stream().map(MockEmployee::getId).toArray(UUID[]::new);
+        final var surname = roster.get(0).getName().substring(roster.get(0).getName().lastIndexOf(' ') + 1);
+        nameQuery = EmployeeQuery.builder().name(surname).limit(50).build();
+        pageQuery = EmployeeQuery.builder().limit(100).build();
+        createInput = new CreateMockEmployeeInput();
+        createInput.setName("Bench Mark");
+        createInput.setSalary(100_000);
+        createInput.setAge(30);
+        createInput.setTitle("Engineer");
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        nextId = nextId + 1 == ids.length ? 0 : nextId + 1;
+        return mockEmployeeService.findById(ids[nextId]);
+    }
+
+    @Benchmark
+    public EmployeePage findByName() {
+        return mockEmployeeService.find(nameQuery);
+    }
+
+    @Benchmark
+    public EmployeePage firstPage() {
+        return mockEmployeeService.find(pageQuery);
+    }
+
+    @Benchmark
+    public List<MockEmployee> allEmployees() {
+        return mockEmployeeService.getMockEmployees();
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> createThenDelete() {
+        final var created = mockEmployeeService.create(createInput);
+        return mockEmployeeService.deleteById(created.getId());
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load: request {@code i} is due at {@code start + i / rps} regardless of how earlier requests fared, and is
+ * sent from its own virtual thread. Latency is taken from the due time, so a stalled api shows up as the queueing delay
+ * its clients would really see instead of silently lowering the offered rate. A request that finds
+ * {@code maxInFlight} requests already outstanding waits for a slot, and is dropped only once its timeout has passed; a
+ * dropped request still records its latency from the due time. Requests due during the warm-up are sent but not
+ * recorded.
+ */
+final class LoadGenerator {
+
+    private final LoadTestOptions options;
+    private final Workload workload;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] schedule;
+
+    LoadGenerator(LoadTestOptions options, Workload workload) {
+        this.options = options;
+        this.workload = workload;
+        this.schedule = expand(options.mix());
+        options.mix().keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+    }
+
+    /**
+     * Runs the warm-up and the measured phase and returns the per-operation outcomes of the measured phase.
+     */
+    Map<Operation, OperationStats> run() throws InterruptedException {
+        final var random = new SplittableRandom();
+        final var inFlight = new Semaphore(options.maxInFlight());
+        final var intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rps());
+        try (var client = HttpClient.newBuilder()
+                        .connectTimeout(options.timeout())
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .build();
+                var senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var start = System.nanoTime();
+            final var measureFrom = start + options.warmup().toNanos();
+            final var end = measureFrom + options.duration().toNanos();
+            for (long i = 0; ; i++) {
+                final var scheduled = start + i * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                parkUntil(scheduled);
+                final var operation = schedule[random.nextInt(schedule.length)];
+                final var operationStats = scheduled >= measureFrom ? stats.get(operation) : null;
+                senders.execute(() -> {
+                    if (!acquire(inFlight, scheduled)) {
+                        if (operationStats != null) {
+                            operationStats.recordDropped(scheduled, System.nanoTime());
+                        }
+                        return;
+                    }
+                    try {
+                        send(client, operation, scheduled, operationStats);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private void send(HttpClient client, Operation operation, long scheduled, OperationStats operationStats) {
+        final var request = operation.request(workload);
+        final var sent = System.nanoTime();
+        try {
+            final var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            final var completed = System.nanoTime();
+            if (operation == Operation.CREATE && response.statusCode() / 100 == 2) {
+                workload.recordCreated(response.body());
+            }
+            if (operationStats != null) {
+                operationStats.recordResponse(response.statusCode(), scheduled, sent, completed);
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (operationStats != null) {
+                operationStats.recordFailure(e, scheduled, sent, System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * Waits for an in-flight slot until the request's timeout, counted from when it was due, runs out.
+     */
+    private boolean acquire(Semaphore inFlight, long scheduled) {
+        try {
+            return inFlight.tryAcquire(
+                    scheduled + options.timeout().toNanos() - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Repeats each operation by its weight, so a uniform pick from the result follows the mix.
+     */
+    private static Operation[] expand(Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Operation[]::new);
+    }
+
+    private static void parkUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Open-loop load test of the employee api. Unless {@code --boot=false} is given, the server and api are started from
+ * the boot jars named by the {@code loadtest.serverJar} and {@code loadtest.apiJar} system properties (the
+ * {@code loadTest} Gradle task sets both) and stopped afterwards; see {@link LoadTestOptions} for the other options.
+ *
+ * <p>Prints, per operation and in total, the achieved throughput, response-time percentiles measured from each
+ * request's scheduled send time (corrected for coordinated omission) next to the service time measured from the
+ * actual send, the share of {@code 429 Too Many Requests} answers and a breakdown of the other failures.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        final var options = LoadTestOptions.parse(args);
+        final var serverJar = System.getProperty("loadtest.serverJar");
+        final var apiJar = System.getProperty("loadtest.apiJar");
+        if (options.boot() && (serverJar == null || apiJar == null)) {
+            throw new IllegalStateException(
+                    "Booting needs -Dloadtest.serverJar and -Dloadtest.apiJar; pass --boot=false to use running services");
+        }
+        try (var services = options.boot()
+                ? LocalServices.start(Path.of(serverJar), Path.of(apiJar), options.rosterSize())
+                : null) {
+            final var workload = Workload.fromRoster(options.apiUri(), fetchRoster(options));
+            System.out.printf(
+                    "Offering %.1f requests/s for %ds after a %ds warm-up, mix %s%n",
+                    options.rps(), options.duration().toSeconds(), options.warmup().toSeconds(), options.mix());
+            final var stats = new LoadGenerator(options, workload).run();
+            print(stats, options.duration().toNanos() / 1e9);
+        }
+    }
+
+    private static String fetchRoster(LoadTestOptions options) throws Exception {
+        try (var client = HttpClient.newHttpClient()) {
+            final var response = client.send(
+                    HttpRequest.newBuilder(options.apiUri()).timeout(options.timeout()).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + options.apiUri() + " answered " + response.statusCode());
+            }
+            return response.body();
+        }
+    }
+
+    private static void print(Map<Operation, OperationStats> stats, double seconds) {
+        final var total = new OperationStats();
+        System.out.printf(
+                "%n%-14s %8s %8s %7s %8s  %-44s  %-44s%n",
+                "operation",
+                "requests",
+                "req/s",
+                "429s",
+                "errors",
+                "response time ms p50/p90/p99/p99.9/max",
+                "service time ms p50/p90/p99/p99.9/max");
+        stats.forEach((operation, operationStats) -> {
+            printRow(operation.key(), operationStats, seconds);
+            operationStats.addTo(total);
+        });
+        printRow("total", total, seconds);
+        if (total.errorCount() > 0) {
+            System.out.printf("%nErrors:%n");
+            total.errors().forEach((kind, count) -> System.out.printf("  %-40s %d%n", kind, count));
+        }
+    }
+
+    private static void printRow(String name, OperationStats stats, double seconds) {
+        final var requests = stats.total();
+        System.out.printf(
+                "%-14s %8d %8.1f %6.2f%% %8d  %-44s  %-44s%n",
+                name,
+                requests,
+                requests / seconds,
+                requests == 0 ? 0.0 : 100.0 * stats.rateLimited() / requests,
+                stats.errorCount(),
+                percentiles(stats.responseTime()),
+                percentiles(stats.serviceTime()));
+    }
+
+    private static String percentiles(Histogram micros) {
+        if (micros.getTotalCount() == 0) {
+            return "-";
+        }
+        return String.format(
+                "%.2f / %.2f / %.2f / %.2f / %.2f",
+                micros.getValueAtPercentile(50) / 1000.0,
+                micros.getValueAtPercentile(90) / 1000.0,
+                micros.getValueAtPercentile(99) / 1000.0,
+                micros.getValueAtPercentile(99.9) / 1000.0,
+                micros.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Command line options, given as {@code --name=value}.
+ */
+record LoadTestOptions(
+        URI apiUri,
+        double rps,
+        Duration duration,
+        Duration warmup,
+        Duration timeout,
+        int maxInFlight,
+        Map<Operation, Integer> mix,
+        boolean boot,
+        Integer rosterSize) {
+
+    static final String DEFAULT_MIX = "getAll:5,search:15,getById:30,highestSalary:15,topTen:15,create:10,delete:10";
+
+    private static final Pattern DURATION = Pattern.compile("(\\d+)(ms|s|m)");
+
+    static LoadTestOptions parse(String[] args) {
+        var apiUri = URI.create("http://localhost:8111/api/v1/employee");
+        var rps = 50.0;
+        var duration = Duration.ofSeconds(60);
+        var warmup = Duration.ofSeconds(10);
+        var timeout = Duration.ofSeconds(10);
+        var maxInFlight = 10_000;
+        var mix = parseMix(DEFAULT_MIX);
+        var boot = true;
+        Integer rosterSize = null;
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            final var separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            final var value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "api-url" -> apiUri = URI.create(value);
+                case "rps" -> rps = Double.parseDouble(value);
+                case "duration" -> duration = parseDuration(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "timeout" -> timeout = parseDuration(value);
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "mix" -> mix = parseMix(value);
+                case "boot" -> boot = Boolean.parseBoolean(value);
+                case "roster" -> rosterSize = Integer.valueOf(value);
+                default -> throw new IllegalArgumentException("Unknown option '" + arg + "'");
+            }
+        }
+        if (rps <= 0) {
+            throw new IllegalArgumentException("--rps must be positive");
+        }
+        return new LoadTestOptions(apiUri, rps, duration, warmup, timeout, maxInFlight, mix, boot, rosterSize);
+    }
+
+    /**
+     * Parses {@code key:weight} pairs, e.g. {@code getById:60,create:20,delete:20}; unlisted operations are not run.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        final var mix = new EnumMap<Operation, Integer>(Operation.class);
+        for (String entry : value.split(",")) {
+            final var parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight but got '" + entry + "'");
+            }
+            final var weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + parts[0] + " must not be negative");
+            }
+            if (weight > 0) {
+                mix.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix must give at least one operation a positive weight");
+        }
+        return mix;
+    }
+
+    static Duration parseDuration(String value) {
+        final var matcher = DURATION.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Expected a duration like 500ms, 30s or 2m but got '" + value + "'");
+        }
+        final var amount = Long.parseLong(matcher.group(1));
+        return switch (matcher.group(2)) {
+            case "ms" -> Duration.ofMillis(amount);
+            case "s" -> Duration.ofSeconds(amount);
+            default -> Duration.ofMinutes(amount);
+        };
+    }
+}
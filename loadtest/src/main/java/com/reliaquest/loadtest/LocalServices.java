@@ -0,0 +1,101 @@
+package com.reliaquest.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mock server and the api started from their boot jars as child processes on their default ports, with logging
+ * turned down to WARN so that log output does not dominate the measurement. Each process writes to its own log file in
+ * the working directory.
+ */
+final class LocalServices implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final URI SERVER_PROBE = URI.create("http://localhost:8112/api/v1/employee");
+    private static final URI API_PROBE = URI.create("http://localhost:8111/api/v1/employee/highestSalary");
+
+    private final List<Process> processes = new ArrayList<>();
+
+    static LocalServices start(Path serverJar, Path apiJar, Integer rosterSize) throws IOException, InterruptedException {
+        final var services = new LocalServices();
+        try {
+            final var serverArgs = new ArrayList<>(List.of("--server.port=8112", "--logging.level.com.reliaquest=WARN"));
+            if (rosterSize != null) {
+                serverArgs.add("--mock.employees.max=" + rosterSize);
+            }
+            services.launch(serverJar, serverArgs, "server.log");
+            awaitHttp(SERVER_PROBE);
+            services.launch(
+                    apiJar,
+                    List.of(
+                            "--server.port=8111",
+                            "--employee.base-url=http://localhost:8112/api/v1",
+                            "--logging.level.com.reliaquest=WARN"),
+                    "api.log");
+            awaitHttp(API_PROBE);
+            return services;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            services.close();
+            throw e;
+        }
+    }
+
+    private void launch(Path jar, List<String> args, String logFile) throws IOException {
+        final var command = new ArrayList<String>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(args);
+        final var log = new File(logFile);
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start());
+        System.out.printf("Started %s (pid %d), logging to %s%n", jar.getFileName(), processes.getLast().pid(), log);
+    }
+
+    /**
+     * Waits until {@code uri} answers with any HTTP status, i.e. until the application accepts requests.
+     */
+    private static void awaitHttp(URI uri) throws InterruptedException {
+        final var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        try (var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build()) {
+            final var request =
+                    HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+            while (true) {
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    return;
+                } catch (IOException e) {
+                    if (System.nanoTime() > deadline) {
+                        throw new IllegalStateException(uri + " did not come up within " + STARTUP_TIMEOUT, e);
+                    }
+                    Thread.sleep(500);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the processes in reverse start order, so the api goes before the server it depends on.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        for (Process process : processes.reversed()) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+}
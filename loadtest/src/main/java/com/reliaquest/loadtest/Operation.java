@@ -0,0 +1,86 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The seven {@code IEmployeeController} operations, keyed by the names used in {@code --mix}.
+ */
+enum Operation {
+    GET_ALL("getAll") {
+        @Override
+        HttpRequest request(Workload workload) {
+            return get(workload.baseUri());
+        }
+    },
+    SEARCH("search") {
+        @Override
+        HttpRequest request(Workload workload) {
+            return get(workload.resolve(
+                    "/search/" + URLEncoder.encode(workload.randomSearchTerm(), StandardCharsets.UTF_8)
+                            .replace("+", "%20")));
+        }
+    },
+    GET_BY_ID("getById") {
+        @Override
+        HttpRequest request(Workload workload) {
+            return get(workload.resolve("/" + workload.randomKnownId()));
+        }
+    },
+    HIGHEST_SALARY("highestSalary") {
+        @Override
+        HttpRequest request(Workload workload) {
+            return get(workload.resolve("/highestSalary"));
+        }
+    },
+    TOP_TEN("topTen") {
+        @Override
+        HttpRequest request(Workload workload) {
+            return get(workload.resolve("/topTenHighestEarningEmployeeNames"));
+        }
+    },
+    CREATE("create") {
+        @Override
+        HttpRequest request(Workload workload) {
+            return HttpRequest.newBuilder(workload.baseUri())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(workload.newEmployeeJson()))
+                    .build();
+        }
+    },
+    DELETE("delete") {
+        @Override
+        HttpRequest request(Workload workload) {
+            return HttpRequest.newBuilder(workload.resolve("/" + workload.takeCreatedId()))
+                    .DELETE()
+                    .build();
+        }
+    };
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract HttpRequest request(Workload workload);
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcomes of one operation. {@code responseTime} is measured from when the request was scheduled to be sent, so time
+ * spent queued behind a slow system counts (the coordinated-omission-corrected view); {@code serviceTime} is measured
+ * from when it was actually sent. Latencies are recorded in microseconds.
+ */
+final class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void recordResponse(int status, long scheduledNanos, long sentNanos, long completedNanos) {
+        record(scheduledNanos, sentNanos, completedNanos);
+        if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else if (status == 429) {
+            rateLimited.increment();
+        } else {
+            recordError("HTTP " + status);
+        }
+    }
+
+    void recordFailure(Throwable failure, long scheduledNanos, long sentNanos, long completedNanos) {
+        record(scheduledNanos, sentNanos, completedNanos);
+        recordError(failure.getClass().getSimpleName());
+    }
+
+    /**
+     * A request that was never sent because too many were already in flight for its whole timeout. It has no service
+     * time, but the wait from when it was due counts towards the response time its caller would have seen.
+     */
+    void recordDropped(long scheduledNanos, long droppedNanos) {
+        responseTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, toMicros(droppedNanos - scheduledNanos)));
+        recordError("dropped (max in flight)");
+    }
+
+    void addTo(OperationStats total) {
+        total.responseTime.add(responseTime);
+        total.serviceTime.add(serviceTime);
+        total.succeeded.add(succeeded.sum());
+        total.rateLimited.add(rateLimited.sum());
+        errors.forEach((kind, count) ->
+                total.errors.computeIfAbsent(kind, ignored -> new LongAdder()).add(count.sum()));
+    }
+
+    Histogram responseTime() {
+        return responseTime;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    long rateLimited() {
+        return rateLimited.sum();
+    }
+
+    long total() {
+        return succeeded() + rateLimited() + errorCount();
+    }
+
+    long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    Map<String, Long> errors() {
+        final var snapshot = new TreeMap<String, Long>();
+        errors.forEach((kind, count) -> snapshot.put(kind, count.sum()));
+        return snapshot;
+    }
+
+    private void record(long scheduledNanos, long sentNanos, long completedNanos) {
+        responseTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, toMicros(completedNanos - scheduledNanos)));
+        serviceTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, toMicros(completedNanos - sentNanos)));
+    }
+
+    private void recordError(String kind) {
+        errors.computeIfAbsent(kind, ignored -> new LongAdder()).increment();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
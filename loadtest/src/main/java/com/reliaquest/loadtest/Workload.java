@@ -0,0 +1,100 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request inputs shared by all in-flight operations: ids and name fragments sampled from the roster at start-up, and
+ * the ids of employees created during the run, which deletes consume so the seeded roster is not drained.
+ */
+final class Workload {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final URI baseUri;
+    private final List<String> knownIds;
+    private final List<String> searchTerms;
+    private final ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    private Workload(URI baseUri, List<String> knownIds, List<String> searchTerms) {
+        this.baseUri = baseUri;
+        this.knownIds = knownIds;
+        this.searchTerms = searchTerms;
+    }
+
+    /**
+     * Builds the workload from a {@code GET} of the whole roster.
+     */
+    static Workload fromRoster(URI baseUri, String rosterJson) throws IOException {
+        final var ids = new ArrayList<String>();
+        final var terms = new ArrayList<String>();
+        for (JsonNode employee : OBJECT_MAPPER.readTree(rosterJson)) {
+            ids.add(employee.path("id").asText());
+            final var name = employee.path("employee_name").asText("");
+            final var surname = name.substring(name.lastIndexOf(' ') + 1).toLowerCase(Locale.ROOT);
+            if (surname.length() >= 3) {
+                terms.add(surname.substring(0, 3));
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("The api returned an empty roster; nothing to look up");
+        }
+        if (terms.isEmpty()) {
+            terms.add("a");
+        }
+        return new Workload(baseUri, List.copyOf(ids), List.copyOf(terms));
+    }
+
+    URI baseUri() {
+        return baseUri;
+    }
+
+    URI resolve(String path) {
+        return URI.create(baseUri + path);
+    }
+
+    String randomKnownId() {
+        return knownIds.get(ThreadLocalRandom.current().nextInt(knownIds.size()));
+    }
+
+    String randomSearchTerm() {
+        return searchTerms.get(ThreadLocalRandom.current().nextInt(searchTerms.size()));
+    }
+
+    String newEmployeeJson() {
+        final var random = ThreadLocalRandom.current();
+        return "{\"name\":\"Load Test " + random.nextInt(1_000_000) + "\",\"salary\":"
+                + random.nextInt(30_000, 500_000) + ",\"age\":" + random.nextInt(16, 70)
+                + ",\"title\":\"Load Tester\"}";
+    }
+
+    /**
+     * Remembers the id of an employee created by a {@link Operation#CREATE} response body.
+     */
+    void recordCreated(String responseBody) {
+        try {
+            final var id = OBJECT_MAPPER.readTree(responseBody).path("id").asText(null);
+            if (id != null) {
+                createdIds.add(id);
+            }
+        } catch (IOException e) {
+            // Not an employee; the response status is already counted.
+        }
+    }
+
+    /**
+     * An id created earlier in the run, or a random unknown one (answered with 404) while none is left.
+     */
+    String takeCreatedId() {
+        final var id = createdIds.poll();
+        return id != null ? id : UUID.randomUUID().toString();
+    }
+}
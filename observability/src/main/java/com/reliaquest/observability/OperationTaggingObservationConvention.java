@@ -0,0 +1,31 @@
+package com.reliaquest.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Adds an {@value #OPERATION} tag naming the handler method to Spring's {@code http.server.requests} observations, so
+ * timers can be told apart per endpoint even where two endpoints share a URI template. Requests that no handler
+ * method matched (static resources, 404s) are tagged {@value #NO_OPERATION}.
+ */
+public class OperationTaggingObservationConvention extends DefaultServerRequestObservationConvention {
+
+    public static final String OPERATION = "operation";
+    public static final String NO_OPERATION = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of(OPERATION, operation(context)));
+    }
+
+    private static String operation(ServerRequestObservationContext context) {
+        return context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                        instanceof HandlerMethod handler
+                ? handler.getMethod().getName()
+                : NO_OPERATION;
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonLinesSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void export_writesOneLinePerSpanLinkedToItsParent(@TempDir Path directory) throws IOException {
+        final var file = directory.resolve("traces/spans.jsonl");
+        final String parentSpanId;
+        try (final var tracerProvider = SdkTracerProvider.builder()
+                .setResource(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), "employee-api")))
+                .addSpanProcessor(SimpleSpanProcessor.create(new JsonLinesSpanExporter(file)))
+                .build()) {
+            final var tracer = tracerProvider.get("test");
+            final var parent = tracer.spanBuilder("delete employee").startSpan();
+            parentSpanId = parent.getSpanContext().getSpanId();
+            try (final var ignored = parent.makeCurrent()) {
+                tracer.spanBuilder("http delete")
+                        .setAttribute("http.status_code", 200L)
+                        .startSpan()
+                        .end();
+            }
+            parent.end();
+        }
+
+        final var spans = Files.readAllLines(file).stream().map(this::parse).toList();
+
+        assertEquals(2, spans.size());
+        final var child = spans.get(0);
+        final var parent = spans.get(1);
+        assertEquals("http delete", child.get("name").asText());
+        assertEquals("employee-api", child.get("service").asText());
+        assertEquals(parent.get("trace_id").asText(), child.get("trace_id").asText());
+        assertEquals(parentSpanId, child.get("parent_span_id").asText());
+        assertTrue(parent.get("parent_span_id").isNull());
+        assertEquals(200, child.get("attributes").get("http.status_code").asInt());
+    }
+
+    @Test
+    void export_appendsAcrossCalls(@TempDir Path directory) throws IOException {
+        final var file = directory.resolve("spans.jsonl");
+        for (int i = 0; i < 2; i++) {
+            try (final var tracerProvider = SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(new JsonLinesSpanExporter(file)))
+                    .build()) {
+                tracerProvider.get("test").spanBuilder("span " + i).startSpan().end();
+            }
+        }
+
+        final var names =
+                Files.readAllLines(file).stream().map(line -> parse(line).get("name").asText()).toList();
+
+        assertEquals(List.of("span 0", "span 1"), names);
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException("not JSON: " + line, e);
+        }
+    }
+}
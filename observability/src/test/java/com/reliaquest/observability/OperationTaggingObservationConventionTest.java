@@ -0,0 +1,48 @@
+package com.reliaquest.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class OperationTaggingObservationConventionTest {
+
+    private final OperationTaggingObservationConvention convention = new OperationTaggingObservationConvention();
+
+    @Test
+    void getLowCardinalityKeyValues_tagsHandlerMethodName() throws NoSuchMethodException {
+        final var request = new MockHttpServletRequest("GET", "/employee/1");
+        request.setAttribute(
+                HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Handler(), Handler.class.getMethod("getEmployeeById")));
+
+        assertEquals("getEmployeeById", operationTag(request));
+    }
+
+    @Test
+    void getLowCardinalityKeyValues_unmatchedRequestIsTaggedNone() {
+        assertEquals(
+                OperationTaggingObservationConvention.NO_OPERATION,
+                operationTag(new MockHttpServletRequest("GET", "/missing")));
+    }
+
+    private String operationTag(MockHttpServletRequest request) {
+        return convention
+                .getLowCardinalityKeyValues(new ServerRequestObservationContext(request, new MockHttpServletResponse()))
+                .stream()
+                .filter(keyValue -> keyValue.getKey().equals(OperationTaggingObservationConvention.OPERATION))
+                .map(KeyValue::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public static class Handler {
+
+        public void getEmployeeById() {}
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.observability.OperationTaggingObservationConvention;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Micrometer instrumentation, exported in Prometheus format at {@code /actuator/prometheus}. Spring's
+ * {@code http.server.requests} timers get an {@code operation} tag naming the handler method; the roster size and the
+ * 429s handed out by the random request limit are read from the store and the interceptor when scraped.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public ServerRequestObservationConvention operationTaggingObservationConvention() {
+        return new OperationTaggingObservationConvention();
+    }
+
+    @Bean
+    public MeterBinder employeeStoreMeterBinder(
+            EmployeeStore employeeStore, RandomRequestLimitInterceptor randomRequestLimitInterceptor) {
+        return registry -> {
+            Gauge.builder("mock.employees.size", employeeStore, EmployeeStore::size)
+                    .description("Employees in the store")
+                    .register(registry);
+            FunctionCounter.builder("mock.employees.mutations", employeeStore, EmployeeStore::getVersion)
+                    .description("Creates and deletes applied to the store")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "mock.requests.rate.limited",
+                            randomRequestLimitInterceptor,
+                            RandomRequestLimitInterceptor::getRejectedCount)
+                    .description("Requests answered with 429 by the random request limit")
+                    .register(registry);
+        };
+    }
+}
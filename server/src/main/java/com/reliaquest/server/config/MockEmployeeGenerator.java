@@ -0,0 +1,110 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.datafaker.Faker;
+
+/**
+ * Builds large synthetic rosters quickly and reproducibly. Datafaker is only used up front to sample pools of first
+ * names, last names and job titles; employees are then constructed directly, in parallel chunks that each draw from
+ * their own random stream derived from the seed. The same seed and size always produce the same roster, however the
+ * chunks are scheduled.
+ */
+public class MockEmployeeGenerator {
+
+    static final int MIN_SALARY = 30000;
+    static final int MAX_SALARY = 500000;
+    static final int MIN_AGE = 16;
+    static final int MAX_AGE = 70;
+
+    private static final int NAME_POOL_SIZE = 1024;
+    private static final int TITLE_POOL_SIZE = 256;
+    private static final int CHUNK_SIZE = 16_384;
+    private static final long CHUNK_SEED_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final String EMAIL_DOMAIN = ServerConfiguration.EMAIL_TEMPLATE.formatted("");
+    private static final String FALLBACK_HANDLE = "employee";
+    private static final Pattern NON_ASCII_LETTER = Pattern.compile("[^a-z]");
+
+    private final long seed;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] firstHandles;
+    private final String[] lastHandles;
+    private final String[] titles;
+
+    public MockEmployeeGenerator(Locale locale, long seed) {
+        this.seed = seed;
+        final var faker = new Faker(locale, new Random(seed));
+        this.firstNames = sample(NAME_POOL_SIZE, () -> faker.name().firstName());
+        this.lastNames = sample(NAME_POOL_SIZE, () -> faker.name().lastName());
+        this.titles = sample(TITLE_POOL_SIZE, () -> faker.job().title());
+        this.firstHandles = handles(firstNames);
+        this.lastHandles = handles(lastNames);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var employees = new MockEmployee[count];
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> fill(employees, chunk));
+        return Arrays.asList(employees);
+    }
+
+    private void fill(MockEmployee[] employees, int chunk) {
+        final var random = new SplittableRandom(seed ^ (chunk * CHUNK_SEED_GAMMA));
+        final var end = Math.min(employees.length, (chunk + 1) * CHUNK_SIZE);
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+            final var first = random.nextInt(firstNames.length);
+            final var last = random.nextInt(lastNames.length);
+            employees[i] = new MockEmployee(
+                    randomUuid(random),
+                    firstNames[first] + " " + lastNames[last],
+                    random.nextInt(MIN_SALARY, MAX_SALARY),
+                    random.nextInt(MIN_AGE, MAX_AGE),
+                    titles[random.nextInt(titles.length)],
+                    firstHandles[first] + "." + lastHandles[last] + i + EMAIL_DOMAIN);
+        }
+    }
+
+    /**
+     * A version 4 UUID built from the chunk's stream rather than {@link UUID#randomUUID()}, which is neither seeded
+     * nor cheap under contention.
+     */
+    private static UUID randomUuid(SplittableRandom random) {
+        final var mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static String[] sample(int size, Supplier<String> source) {
+        return Stream.generate(source).limit(size).toArray(String[]::new);
+    }
+
+    private static String[] handles(String[] names) {
+        return Arrays.stream(names).map(MockEmployeeGenerator::handle).toArray(String[]::new);
+    }
+
+    /**
+     * The ASCII letters of {@code name} with accents folded away, or {@value #FALLBACK_HANDLE} for names written
+     * entirely in other scripts, so every email keeps a non-empty local part.
+     */
+    static String handle(String name) {
+        final var handle = NON_ASCII_LETTER
+                .matcher(Normalizer.normalize(name, Normalizer.Form.NFD).toLowerCase(Locale.ROOT))
+                .replaceAll("");
+        return handle.isEmpty() ? FALLBACK_HANDLE : handle;
+    }
+}
@@ -1,19 +1,19 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.store.EmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -25,35 +25,71 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    /*
+     * Names, titles and the email handles derived from them come from mock.employees.locale, English unless set, so
+     * the same seed produces the same roster on any machine.
+     */
     @Bean
-    public Faker faker() {
-        return new Faker(Locale.getDefault());
+    public Faker faker(@Value("${mock.employees.locale:en}") Locale locale) {
+        return new Faker(locale);
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. Set mock.employees.seed to reproduce a roster; without it
+     * a random seed is chosen and logged. With mock.persistence.enabled the roster is restored from, and journaled
+     * to, mock.persistence.directory, and only generated when that directory is empty.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public EmployeeStore employeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.locale:en}") Locale locale,
+            ObjectProvider<EmployeePersistence> employeePersistence) {
+        final var persistence = employeePersistence.getIfAvailable();
+        if (persistence != null) {
+            return persistence.open(() -> generateRoster(maxEmployees, seed, locale));
+        }
+        final var employees = generateRoster(maxEmployees, seed, locale);
+        final var start = System.nanoTime();
+        final var store = new EmployeeStore(employees);
+        log.info(
+                "Indexed {} employees in {} ms",
+                employees.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return store;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public EmployeePersistence employeePersistence(
+            @Value("${mock.persistence.directory:data/employees}") Path directory,
+            @Value("${mock.persistence.fsync:false}") boolean fsync,
+            @Value("${mock.persistence.compact-every:100000}") long compactEvery) {
+        return new EmployeePersistence(directory, fsync, compactEvery);
+    }
+
+    private static List<MockEmployee> generateRoster(int maxEmployees, Long seed, Locale locale) {
+        final var generator =
+                new MockEmployeeGenerator(locale, seed != null ? seed : RandomGenerator.getDefault().nextLong());
+        final var start = System.nanoTime();
+        final var employees = generator.generate(maxEmployees);
+        final var elapsed = System.nanoTime() - start;
+        log.info(
+                "Generated {} employees with seed {} in {} ms ({} employees/s)",
+                maxEmployees,
+                generator.getSeed(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                maxEmployees * 1_000_000_000L / Math.max(elapsed, 1));
+        return employees;
+    }
+
+    @Bean
+    public RandomRequestLimitInterceptor randomRequestLimitInterceptor() {
+        return new RandomRequestLimitInterceptor();
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(randomRequestLimitInterceptor()).excludePathPatterns("/actuator/**");
     }
 }
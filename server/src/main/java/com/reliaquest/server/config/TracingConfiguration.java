@@ -0,0 +1,25 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.observability.JsonLinesSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tracing through Micrometer Tracing's OpenTelemetry bridge. Incoming requests and {@code @Observed}
+ * {@link com.reliaquest.server.service.MockEmployeeService} calls become spans; a request from the api carries a W3C
+ * {@code traceparent} header and joins the api's trace. Spans go to an OTLP collector when
+ * {@code management.otlp.tracing.endpoint} is set and to a local JSON-lines file when {@code tracing.file.enabled} is.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.file", name = "enabled", havingValue = "true")
+    public SpanExporter jsonLinesSpanExporter(@Value("${tracing.file.path}") Path path) {
+        return new JsonLinesSpanExporter(path);
+    }
+}
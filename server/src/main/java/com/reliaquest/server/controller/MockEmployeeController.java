@@ -1,41 +1,103 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeePage;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeQuery;
+import com.reliaquest.server.store.SerializedRosterCache;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final MockEmployeeService mockEmployeeService;
+    private final SerializedRosterCache serializedRosterCache;
+    private final Validator validator;
 
+    /**
+     * Serves the pre-serialized roster. Spring answers 304 for a matching {@code If-None-Match} because the response
+     * carries an ETag, and Tomcat leaves the body alone when it is already gzip-encoded. Clients that refuse gzip with
+     * {@code q=0} get the plain body.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        final var roster = serializedRosterCache.current();
+        final var gzipped = acceptsGzip(acceptEncoding);
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(roster.etag(gzipped))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(roster.body(gzipped));
+    }
+
+    /**
+     * Cursor-paged, filtered listing, selected by the presence of {@code limit}. Pages are ordered by id; pass the
+     * previous page's {@code next_cursor} as {@code cursor} to continue.
+     */
+    @GetMapping(params = "limit")
+    public Response<EmployeePage> getEmployeePage(
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "cursor", required = false) UUID cursor,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "minSalary", required = false) Integer minSalary,
+            @RequestParam(value = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @RequestParam(value = "title", required = false) String title) {
+        return Response.handledWith(mockEmployeeService.find(EmployeeQuery.builder()
+                .name(name)
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .title(title)
+                .after(cursor)
+                .limit(Math.min(limit, EmployeeQuery.MAX_PAGE_SIZE))
+                .build()));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
                 .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(serializedRosterCache.etag(employee))
+                        .body(Response.handledWith(employee)))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
@@ -48,4 +110,135 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Deletes exactly the addressed employee and returns it, so clients need neither a prior lookup nor a name that
+     * might match someone else.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /**
+     * Creates up to {@value #MAX_BATCH_SIZE} employees in one request. Each item is validated on its own: invalid
+     * items are reported and skipped while the valid ones are applied together in a single store write.
+     */
+    @PostMapping("/batch")
+    public Response<List<BatchItemResult<MockEmployee>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs);
+        final var results = new ArrayList<BatchItemResult<MockEmployee>>(Collections.nCopies(inputs.size(), null));
+        final var validIndexes = new ArrayList<Integer>();
+        final var validInputs = new ArrayList<CreateMockEmployeeInput>();
+        for (int i = 0; i < inputs.size(); i++) {
+            final var error = validate(inputs.get(i));
+            if (error != null) {
+                results.set(i, BatchItemResult.invalid(i, error));
+            } else {
+                validIndexes.add(i);
+                validInputs.add(inputs.get(i));
+            }
+        }
+        final var created = mockEmployeeService.createAll(validInputs);
+        for (int i = 0; i < created.size(); i++) {
+            final int index = validIndexes.get(i);
+            results.set(index, BatchItemResult.created(index, created.get(i)));
+        }
+        return Response.handledWith(results);
+    }
+
+    /**
+     * Deletes up to {@value #MAX_BATCH_SIZE} employees, each identified by id or by name, in a single store write.
+     */
+    @DeleteMapping("/batch")
+    public Response<List<BatchItemResult<MockEmployee>>> deleteEmployees(
+            @RequestBody List<BatchDeleteMockEmployeeInput> inputs) {
+        checkBatchSize(inputs);
+        final var results = new ArrayList<BatchItemResult<MockEmployee>>(Collections.nCopies(inputs.size(), null));
+        final var validIndexes = new ArrayList<Integer>();
+        final var validInputs = new ArrayList<BatchDeleteMockEmployeeInput>();
+        for (int i = 0; i < inputs.size(); i++) {
+            final var input = inputs.get(i);
+            final var hasId = input != null && input.getId() != null;
+            final var hasName = input != null && input.getName() != null && !input.getName().isBlank();
+            if (hasId == hasName) {
+                results.set(i, BatchItemResult.invalid(i, "exactly one of id or name is required"));
+            } else {
+                validIndexes.add(i);
+                validInputs.add(input);
+            }
+        }
+        final var removed = mockEmployeeService.deleteAll(validInputs);
+        for (int i = 0; i < removed.size(); i++) {
+            final int index = validIndexes.get(i);
+            results.set(
+                    index,
+                    removed.get(i)
+                            .map(employee -> BatchItemResult.deleted(index, employee))
+                            .orElseGet(() -> BatchItemResult.notFound(index)));
+        }
+        return Response.handledWith(results);
+    }
+
+    private static void checkBatchSize(List<?> inputs) {
+        if (inputs.isEmpty() || inputs.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Batch must contain between 1 and %d items".formatted(MAX_BATCH_SIZE));
+        }
+    }
+
+    private String validate(CreateMockEmployeeInput input) {
+        if (input == null) {
+            return "item must not be null";
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} admits gzip, named directly or through {@code *}, with a non-zero qvalue. An
+     * explicit gzip entry takes precedence over the wildcard.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parts = coding.split(";");
+            final var name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = qvalue(parts);
+            } else if (name.equals("*")) {
+                wildcard = qvalue(parts);
+            }
+        }
+        final var weight = gzip != null ? gzip : wildcard != null ? wildcard : 0.0;
+        return weight > 0;
+    }
+
+    private static double qvalue(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final var parameter = parameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 }
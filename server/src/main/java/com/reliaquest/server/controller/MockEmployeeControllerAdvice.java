@@ -1,15 +1,34 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.InvalidQueryException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    /**
+     * Query parameters that do not parse, or that parse but describe no page, are the client's fault. Any other
+     * {@link IllegalArgumentException} is a server bug and falls through to {@link #handleException(Throwable)}.
+     */
+    @ExceptionHandler({InvalidQueryException.class, MethodArgumentTypeMismatchException.class})
+    protected ResponseEntity<?> handleInvalidQuery(Exception ex) {
+        log.debug("Rejected query: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleResponseStatus(ResponseStatusException ex) {
+        log.debug("Rejected web request: {}", ex.getReason());
+        return ResponseEntity.status(ex.getStatusCode()).body(Response.error(ex.getReason()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import java.util.UUID;
+import lombok.Data;
+
+/**
+ * One item of a batch delete. Exactly one of {@code id} or {@code name} must be set; a name removes the
+ * earliest-added employee with that name, as the single delete does.
+ */
+@Data
+public class BatchDeleteMockEmployeeInput {
+
+    private UUID id;
+
+    private String name;
+}
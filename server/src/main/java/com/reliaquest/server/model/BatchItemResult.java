@@ -0,0 +1,34 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request. {@code index} is the item's position in the request body, so clients can
+ * match results without relying on response order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(int index, Status status, T data, String error) {
+
+    public static <T> BatchItemResult<T> created(int index, T data) {
+        return new BatchItemResult<>(index, Status.CREATED, data, null);
+    }
+
+    public static <T> BatchItemResult<T> deleted(int index, T data) {
+        return new BatchItemResult<>(index, Status.DELETED, data, null);
+    }
+
+    public static <T> BatchItemResult<T> notFound(int index) {
+        return new BatchItemResult<>(index, Status.NOT_FOUND, null, null);
+    }
+
+    public static <T> BatchItemResult<T> invalid(int index, String error) {
+        return new BatchItemResult<>(index, Status.INVALID, null, error);
+    }
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A slice of the roster ordered by id. {@code nextCursor} is the id to pass as {@code cursor} for the following
+ * page, or {@code null} on the last page.
+ */
+public record EmployeePage(List<MockEmployee> employees, @JsonProperty("next_cursor") UUID nextCursor) {}
@@ -0,0 +1,273 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the roster on disk as numbered generations of a {@link RosterSnapshotFile} plus the {@link MutationLog} of
+ * everything applied after it ({@code snapshot-N.bin}, {@code mutations-N.log}).
+ *
+ * <p>On startup the newest snapshot is loaded and the logs from its generation onwards are replayed, dropping any
+ * torn tail. Once {@code compactEvery} mutations have been logged, a background compaction rotates to a new log
+ * generation under the store's write lock, writes the matching snapshot outside it and then deletes the older files.
+ * A crash at any point leaves either the old or the new generation complete.
+ */
+@Slf4j
+public class EmployeePersistence implements EmployeeStore.Journal, Closeable {
+
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final Pattern LOG_FILE = Pattern.compile("mutations-(\\d+)\\.log");
+
+    private final Path directory;
+    private final boolean fsync;
+    private final long compactEvery;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "roster-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by the store's write lock once the store exists.
+    private EmployeeStore store;
+    private MutationLog mutationLog;
+    private long generation;
+    private long mutationsSinceSnapshot;
+    private boolean compactionScheduled;
+
+    public EmployeePersistence(@NonNull Path directory, boolean fsync, long compactEvery) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Restores the persisted roster, or persists {@code initialRoster} as generation 1 when the directory holds none,
+     * and returns a store that journals every later mutation here.
+     */
+    public EmployeeStore open(@NonNull Supplier<Collection<MockEmployee>> initialRoster) {
+        try {
+            Files.createDirectories(directory);
+            final var snapshots = generations(SNAPSHOT_FILE);
+            final var logs = generations(LOG_FILE);
+            if (snapshots.isEmpty() && logs.isEmpty()) {
+                return create(initialRoster.get());
+            }
+            return restore(snapshots, logs);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open employee persistence in " + directory, e);
+        }
+    }
+
+    @Override
+    public void added(MockEmployee employee) {
+        mutationLog.appendAdded(employee);
+        onLogged(1);
+    }
+
+    @Override
+    public void removed(UUID id) {
+        mutationLog.appendRemoved(id);
+        onLogged(1);
+    }
+
+    @Override
+    public void addedAll(List<MockEmployee> employees) {
+        mutationLog.appendAddedAll(employees);
+        onLogged(employees.size());
+    }
+
+    @Override
+    public void removedAll(List<UUID> ids) {
+        mutationLog.appendRemovedAll(ids);
+        onLogged(ids.size());
+    }
+
+    /**
+     * Writes a snapshot of the current roster and starts a new log generation, then deletes the files it replaces.
+     */
+    public void compact() {
+        final var start = System.nanoTime();
+        final var rotation = new AtomicReference<Rotation>();
+        try {
+            store.atomically(() -> rotation.set(rotate()));
+        } catch (UncheckedIOException e) {
+            log.error("Compaction could not start a new log generation; appends stay on the current one", e);
+            return;
+        }
+        try {
+            RosterSnapshotFile.write(snapshotPath(rotation.get().generation()), rotation.get().employees());
+            deleteGenerationsBefore(rotation.get().generation());
+        } catch (IOException e) {
+            log.error("Compaction into generation {} failed; the previous generation stays authoritative",
+                    rotation.get().generation(), e);
+            return;
+        }
+        log.info(
+                "Compacted {} employees into snapshot generation {} in {} ms",
+                rotation.get().employees().size(),
+                rotation.get().generation(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Gave up waiting for a running compaction; the previous generation stays authoritative");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (store == null) {
+            return;
+        }
+        final var failure = new AtomicReference<IOException>();
+        store.atomically(() -> {
+            try {
+                mutationLog.close();
+            } catch (IOException e) {
+                failure.set(e);
+            }
+        });
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private EmployeeStore create(Collection<MockEmployee> employees) throws IOException {
+        generation = 1;
+        RosterSnapshotFile.write(snapshotPath(generation), employees);
+        mutationLog = MutationLog.openForAppend(logPath(generation), 0, fsync);
+        log.info("Persisted a new roster of {} employees to {}", employees.size(), directory);
+        return attach(new EmployeeStore(employees, this));
+    }
+
+    private EmployeeStore restore(TreeSet<Long> snapshots, TreeSet<Long> logs) throws IOException {
+        final var start = System.nanoTime();
+        final var base = snapshots.isEmpty() ? 0L : snapshots.last();
+        final var employees = new LinkedHashMap<UUID, MockEmployee>();
+        if (base > 0) {
+            RosterSnapshotFile.read(snapshotPath(base)).forEach(employee -> employees.put(employee.getId(), employee));
+        }
+        final var replayed = new long[1];
+        final var replay = new EmployeeStore.Journal() {
+            @Override
+            public void added(MockEmployee employee) {
+                employees.put(employee.getId(), employee);
+                replayed[0]++;
+            }
+
+            @Override
+            public void removed(UUID id) {
+                employees.remove(id);
+                replayed[0]++;
+            }
+        };
+        generation = Math.max(base, logs.isEmpty() ? base : logs.last());
+        long validLength = 0;
+        for (long logGeneration : logs.tailSet(base, true)) {
+            validLength = MutationLog.replay(logPath(logGeneration), replay);
+        }
+        if (!logs.contains(generation)) {
+            validLength = 0;
+        }
+        mutationLog = MutationLog.openForAppend(logPath(generation), validLength, fsync);
+        mutationsSinceSnapshot = replayed[0];
+        deleteGenerationsBefore(base);
+        log.info(
+                "Restored {} employees from snapshot generation {} and {} logged mutations in {} ms",
+                employees.size(),
+                base,
+                replayed[0],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return attach(new EmployeeStore(employees.values(), this));
+    }
+
+    private EmployeeStore attach(EmployeeStore employeeStore) {
+        this.store = employeeStore;
+        return employeeStore;
+    }
+
+    private void onLogged(int mutations) {
+        mutationsSinceSnapshot += mutations;
+        if (mutationsSinceSnapshot >= compactEvery && !compactionScheduled) {
+            compactionScheduled = true;
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Runs under the store's write lock: captures the roster and switches appends to the next generation's log. The
+     * next log is opened before anything changes, so if that fails appends carry on in the current generation.
+     */
+    private Rotation rotate() {
+        final var next = generation + 1;
+        compactionScheduled = false;
+        final MutationLog nextLog;
+        try {
+            nextLog = MutationLog.openForAppend(logPath(next), 0, fsync);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the mutation log for generation " + next, e);
+        }
+        final var previousLog = mutationLog;
+        mutationLog = nextLog;
+        generation = next;
+        mutationsSinceSnapshot = 0;
+        try {
+            previousLog.close();
+        } catch (IOException e) {
+            // Its mutations are also in the snapshot about to be written for the new generation.
+            log.warn("Failed to close the mutation log of generation {}", next - 1, e);
+        }
+        return new Rotation(generation, store.getEmployees());
+    }
+
+    private void deleteGenerationsBefore(long keep) throws IOException {
+        for (long old : generations(SNAPSHOT_FILE).headSet(keep)) {
+            Files.deleteIfExists(snapshotPath(old));
+        }
+        for (long old : generations(LOG_FILE).headSet(keep)) {
+            Files.deleteIfExists(logPath(old));
+        }
+    }
+
+    private TreeSet<Long> generations(Pattern pattern) throws IOException {
+        final var generations = new TreeSet<Long>();
+        try (var files = Files.list(directory)) {
+            files.map(file -> pattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .forEach(matcher -> generations.add(Long.parseLong(matcher.group(1))));
+        }
+        return generations;
+    }
+
+    private Path snapshotPath(long generation) {
+        return directory.resolve("snapshot-" + generation + ".bin");
+    }
+
+    private Path logPath(long generation) {
+        return directory.resolve("mutations-" + generation + ".log");
+    }
+
+    private record Rotation(long generation, List<MockEmployee> employees) {}
+}
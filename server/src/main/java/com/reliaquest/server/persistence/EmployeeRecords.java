@@ -0,0 +1,82 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding shared by the mutation log and snapshots: the id as two longs, strings as a length-prefixed
+ * UTF-8 run (-1 for null) and integers as plain ints with {@link Integer#MIN_VALUE} standing in for null.
+ */
+final class EmployeeRecords {
+
+    private static final int NULL_LENGTH = -1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private EmployeeRecords() {}
+
+    /**
+     * Appends {@code employee} at the buffer's position, returning a larger copy if it did not fit.
+     */
+    static ByteBuffer put(ByteBuffer buffer, MockEmployee employee) {
+        buffer = putUuid(buffer, employee.getId());
+        buffer = putString(buffer, employee.getName());
+        buffer = ensure(buffer, 2 * Integer.BYTES);
+        buffer.putInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        buffer.putInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        buffer = putString(buffer, employee.getTitle());
+        return putString(buffer, employee.getEmail());
+    }
+
+    static ByteBuffer putUuid(ByteBuffer buffer, UUID id) {
+        buffer = ensure(buffer, 2 * Long.BYTES);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return buffer;
+    }
+
+    static MockEmployee get(ByteBuffer buffer) {
+        final var id = getUuid(buffer);
+        final var name = getString(buffer);
+        final var salary = buffer.getInt();
+        final var age = buffer.getInt();
+        return new MockEmployee(
+                id,
+                name,
+                salary == NULL_INT ? null : salary,
+                age == NULL_INT ? null : age,
+                getString(buffer),
+                getString(buffer));
+    }
+
+    static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    static ByteBuffer ensure(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        final var grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + needed));
+        return grown.put(buffer.flip());
+    }
+
+    private static ByteBuffer putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            return ensure(buffer, Integer.BYTES).putInt(NULL_LENGTH);
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        return ensure(buffer, Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
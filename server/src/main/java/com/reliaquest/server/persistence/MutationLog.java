@@ -0,0 +1,192 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of store mutations. Each record is {@code [int length][int crc32c][byte type][payload]}, where the
+ * checksum covers the type and payload. Replay stops at the first record that is cut short or fails its checksum,
+ * which is where a crash mid-write leaves the file; {@link #openForAppend} then truncates that torn tail away.
+ *
+ * <p>A batch is a single record ({@code [int count]} followed by the entries), so it is replayed whole or not at
+ * all.
+ */
+@Slf4j
+final class MutationLog implements Closeable {
+
+    static final byte ADDED = 1;
+    static final byte REMOVED = 2;
+    static final byte ADDED_BATCH = 3;
+    static final byte REMOVED_BATCH = 4;
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer buffer = ByteBuffer.allocate(512);
+
+    private MutationLog(FileChannel channel, boolean fsync) {
+        this.channel = channel;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Opens {@code path} for appending after its first {@code validLength} bytes, discarding anything beyond them.
+     */
+    static MutationLog openForAppend(Path path, long validLength, boolean fsync) throws IOException {
+        final var channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() > validLength) {
+            log.warn("Truncating {} torn bytes from the end of {}", channel.size() - validLength, path);
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        channel.position(validLength);
+        return new MutationLog(channel, fsync);
+    }
+
+    /**
+     * Replays every intact record of {@code path} into {@code journal} through a read-only memory mapping and returns
+     * the length of the intact prefix.
+     */
+    static long replay(Path path, EmployeeStore.Journal journal) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Mutation log " + path + " exceeds 2 GiB; compact more often");
+            }
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final var crc = new CRC32C();
+            while (mapped.remaining() >= HEADER_BYTES) {
+                final var start = mapped.position();
+                final var length = mapped.getInt();
+                final var checksum = mapped.getInt();
+                if (length <= 0 || length > MAX_RECORD_BYTES || length > mapped.remaining()) {
+                    return start;
+                }
+                final var record = mapped.slice(mapped.position(), length);
+                crc.reset();
+                crc.update(record.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    return start;
+                }
+                apply(record, journal, path);
+                mapped.position(mapped.position() + length);
+            }
+            return mapped.position();
+        }
+    }
+
+    void appendAdded(MockEmployee employee) {
+        startRecord(ADDED);
+        buffer = EmployeeRecords.put(buffer, employee);
+        write();
+    }
+
+    void appendRemoved(UUID id) {
+        startRecord(REMOVED);
+        buffer = EmployeeRecords.putUuid(buffer, id);
+        write();
+    }
+
+    void appendAddedAll(List<MockEmployee> employees) {
+        startRecord(ADDED_BATCH);
+        buffer = EmployeeRecords.ensure(buffer, Integer.BYTES).putInt(employees.size());
+        for (final var employee : employees) {
+            buffer = EmployeeRecords.put(buffer, employee);
+        }
+        write();
+    }
+
+    void appendRemovedAll(List<UUID> ids) {
+        startRecord(REMOVED_BATCH);
+        buffer = EmployeeRecords.ensure(buffer, Integer.BYTES).putInt(ids.size());
+        for (final var id : ids) {
+            buffer = EmployeeRecords.putUuid(buffer, id);
+        }
+        write();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+
+    private void startRecord(byte type) {
+        buffer.clear().position(HEADER_BYTES);
+        buffer.put(type);
+    }
+
+    private void write() {
+        final var length = buffer.position() - HEADER_BYTES;
+        if (length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Mutation record exceeds " + MAX_RECORD_BYTES + " bytes");
+        }
+        crc.reset();
+        crc.update(buffer.array(), HEADER_BYTES, length);
+        buffer.putInt(0, length).putInt(Integer.BYTES, (int) crc.getValue()).flip();
+        long start = -1;
+        try {
+            start = channel.position();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            discardPartialWrite(start);
+            throw new UncheckedIOException("Failed to append to the mutation log", e);
+        }
+    }
+
+    /**
+     * Cuts a half-written record off again so the next append does not land behind bytes that replay stops at.
+     */
+    private void discardPartialWrite(long start) {
+        if (start < 0) {
+            return;
+        }
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            log.error("Could not discard a partial mutation log record", e);
+        }
+    }
+
+    private static void apply(ByteBuffer record, EmployeeStore.Journal journal, Path path) {
+        final var type = record.get();
+        switch (type) {
+            case ADDED -> journal.added(EmployeeRecords.get(record));
+            case REMOVED -> journal.removed(EmployeeRecords.getUuid(record));
+            case ADDED_BATCH -> {
+                for (int remaining = record.getInt(); remaining > 0; remaining--) {
+                    journal.added(EmployeeRecords.get(record));
+                }
+            }
+            case REMOVED_BATCH -> {
+                for (int remaining = record.getInt(); remaining > 0; remaining--) {
+                    journal.removed(EmployeeRecords.getUuid(record));
+                }
+            }
+            default -> throw new IllegalStateException("Unknown record type " + type + " in " + path);
+        }
+    }
+}
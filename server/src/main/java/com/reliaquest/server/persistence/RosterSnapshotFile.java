@@ -0,0 +1,93 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary image of the whole roster: {@code [int magic][int format][int count]}, the encoded employees in
+ * insertion order, then a CRC32C of those records. Snapshots are written to a temporary file and moved into place,
+ * so a snapshot that exists is complete; a checksum mismatch therefore means corruption and fails loudly.
+ */
+final class RosterSnapshotFile {
+
+    private static final int MAGIC = 0x454D5053; // "EMPS"
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private RosterSnapshotFile() {}
+
+    static void write(Path path, Collection<MockEmployee> employees) throws IOException {
+        final var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        final var crc = new CRC32C();
+        try (var channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            var buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+            buffer.putInt(MAGIC).putInt(FORMAT).putInt(employees.size());
+            var checksummedFrom = HEADER_BYTES;
+            for (MockEmployee employee : employees) {
+                if (buffer.position() > WRITE_BUFFER_BYTES - 4096) {
+                    crc.update(buffer.array(), checksummedFrom, buffer.position() - checksummedFrom);
+                    writeFully(channel, buffer.flip());
+                    buffer.clear();
+                    checksummedFrom = 0;
+                }
+                buffer = EmployeeRecords.put(buffer, employee);
+            }
+            crc.update(buffer.array(), checksummedFrom, buffer.position() - checksummedFrom);
+            buffer = EmployeeRecords.ensure(buffer, Integer.BYTES);
+            buffer.putInt((int) crc.getValue());
+            writeFully(channel, buffer.flip());
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads a snapshot through a read-only memory mapping, verifying its checksum before decoding.
+     */
+    static List<MockEmployee> read(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " exceeds 2 GiB");
+            }
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.remaining() < HEADER_BYTES + Integer.BYTES
+                    || mapped.getInt() != MAGIC
+                    || mapped.getInt() != FORMAT) {
+                throw new IOException("Not a roster snapshot: " + path);
+            }
+            final var count = mapped.getInt();
+            final var records = mapped.slice(HEADER_BYTES, mapped.limit() - HEADER_BYTES - Integer.BYTES);
+            final var crc = new CRC32C();
+            crc.update(records.duplicate());
+            if ((int) crc.getValue() != mapped.getInt(mapped.limit() - Integer.BYTES)) {
+                throw new IOException("Checksum mismatch in snapshot " + path);
+            }
+            final var employees = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(EmployeeRecords.get(records));
+            }
+            return employees;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
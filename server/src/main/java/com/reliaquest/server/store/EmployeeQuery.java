@@ -0,0 +1,72 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * One page request against the {@link EmployeeStore}. Every filter is optional; {@code after} is the cursor returned
+ * with the previous page and pages are ordered by id. Callers cap {@code limit} at {@link #MAX_PAGE_SIZE}.
+ */
+@Builder
+public record EmployeeQuery(
+        String name,
+        Integer minSalary,
+        Integer maxSalary,
+        Integer minAge,
+        Integer maxAge,
+        String title,
+        UUID after,
+        int limit) {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public EmployeeQuery {
+        if (limit < 1) {
+            throw new InvalidQueryException("limit must be at least 1");
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new InvalidQueryException("minSalary must not exceed maxSalary");
+        }
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new InvalidQueryException("minAge must not exceed maxAge");
+        }
+        name = name == null || name.isBlank() ? null : normalize(name);
+        title = title == null || title.isBlank() ? null : normalize(title);
+    }
+
+    public boolean hasFilters() {
+        return name != null || title != null || hasSalaryRange() || hasAgeRange();
+    }
+
+    boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    boolean hasAgeRange() {
+        return minAge != null || maxAge != null;
+    }
+
+    boolean matches(MockEmployee employee) {
+        return (name == null
+                        || (employee.getName() != null
+                                && normalize(employee.getName()).contains(name)))
+                && (title == null
+                        || (employee.getTitle() != null
+                                && normalize(employee.getTitle()).equals(title)))
+                && inRange(employee.getSalary(), minSalary, maxSalary)
+                && inRange(employee.getAge(), minAge, maxAge);
+    }
+
+    static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
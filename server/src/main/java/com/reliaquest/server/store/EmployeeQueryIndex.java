@@ -0,0 +1,270 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Secondary indexes behind {@link EmployeeStore#find(EmployeeQuery)}: id order for cursors, sorted salary and age
+ * buckets for ranges, exact title buckets and name trigrams for substring search.
+ *
+ * <p>Every bucket is itself ordered by id. A query picks the most selective index that applies, walks its buckets in
+ * id order from the cursor (merging them when a range spans several), checks the remaining filters on each candidate
+ * and stops as soon as it has one more match than the page holds. Without a usable index it walks the id order
+ * directly. A range spanning more than {@value #MAX_MERGED_BUCKETS} buckets is not used: merging costs a heap entry
+ * per bucket on every page, while a range that wide matches enough of the roster for the id-order walk to fill a page
+ * quickly. Not thread-safe; the store guards it with its lock.
+ */
+final class EmployeeQueryIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    static final int MAX_MERGED_BUCKETS = 64;
+
+    private final TreeMap<UUID, MockEmployee> byId = new TreeMap<>();
+    private final TreeMap<Integer, NavigableSet<UUID>> bySalary = new TreeMap<>();
+    private final TreeMap<Integer, NavigableSet<UUID>> byAge = new TreeMap<>();
+    private final Map<String, NavigableSet<UUID>> byTitle = new HashMap<>();
+    private final Map<String, NavigableSet<UUID>> byNameGram = new HashMap<>();
+
+    void add(MockEmployee employee) {
+        UUID id = employee.getId();
+        byId.put(id, employee);
+        bucket(bySalary, employee.getSalary(), id);
+        bucket(byAge, employee.getAge(), id);
+        if (employee.getTitle() != null) {
+            bucket(byTitle, EmployeeQuery.normalize(employee.getTitle()), id);
+        }
+        for (String gram : grams(employee.getName())) {
+            bucket(byNameGram, gram, id);
+        }
+    }
+
+    /**
+     * Returns one task per index that fills it from {@code employees}. The tasks touch disjoint maps, so they may run
+     * concurrently; the index must be empty and the ids distinct.
+     */
+    List<Runnable> bulkLoad(Collection<MockEmployee> employees) {
+        return List.of(
+                () -> employees.forEach(employee -> byId.put(employee.getId(), employee)),
+                () -> employees.forEach(employee -> bucket(bySalary, employee.getSalary(), employee.getId())),
+                () -> employees.forEach(employee -> bucket(byAge, employee.getAge(), employee.getId())),
+                () -> employees.forEach(employee -> bucket(
+                        byTitle,
+                        employee.getTitle() == null ? null : EmployeeQuery.normalize(employee.getTitle()),
+                        employee.getId())),
+                () -> employees.forEach(employee -> {
+                    for (String gram : grams(employee.getName())) {
+                        bucket(byNameGram, gram, employee.getId());
+                    }
+                }));
+    }
+
+    void remove(MockEmployee employee) {
+        UUID id = employee.getId();
+        byId.remove(id);
+        unindex(bySalary, employee.getSalary(), id);
+        unindex(byAge, employee.getAge(), id);
+        if (employee.getTitle() != null) {
+            unindex(byTitle, EmployeeQuery.normalize(employee.getTitle()), id);
+        }
+        for (String gram : grams(employee.getName())) {
+            unindex(byNameGram, gram, id);
+        }
+    }
+
+    EmployeePage find(EmployeeQuery query) {
+        List<MockEmployee> page = new ArrayList<>(query.limit() + 1);
+        Candidates candidates = query.hasFilters() ? candidates(query) : null;
+        Iterator<UUID> ids = candidates == null
+                ? fromCursor(byId.navigableKeySet(), query.after()).iterator()
+                : candidates.from(query.after());
+        while (page.size() <= query.limit() && ids.hasNext()) {
+            MockEmployee employee = byId.get(ids.next());
+            if (employee != null && query.matches(employee)) {
+                page.add(employee);
+            }
+        }
+        if (page.size() <= query.limit()) {
+            return new EmployeePage(List.copyOf(page), null);
+        }
+        List<MockEmployee> employees = List.copyOf(page.subList(0, query.limit()));
+        return new EmployeePage(employees, employees.get(employees.size() - 1).getId());
+    }
+
+    /**
+     * Returns the smallest candidate source among the applicable indexes, or {@code null} when only filters that
+     * cannot use an index (names shorter than a trigram, ranges too wide to merge) are present. Sizes are summed from
+     * the buckets, so choosing a source never copies ids.
+     */
+    private Candidates candidates(EmployeeQuery query) {
+        Candidates best = null;
+        if (query.title() != null) {
+            NavigableSet<UUID> bucket = byTitle.get(query.title());
+            best = bucket == null ? Candidates.NONE : Candidates.of(List.of(bucket));
+        }
+        if (query.name() != null && query.name().length() >= GRAM_LENGTH) {
+            best = smaller(best, nameCandidates(query.name()));
+        }
+        if (query.hasSalaryRange()) {
+            best = smaller(best, rangeCandidates(bySalary, query.minSalary(), query.maxSalary()));
+        }
+        if (query.hasAgeRange()) {
+            best = smaller(best, rangeCandidates(byAge, query.minAge(), query.maxAge()));
+        }
+        return best;
+    }
+
+    /**
+     * The rarest trigram's posting. It is a superset of the matches; {@link EmployeeQuery#matches} confirms the
+     * substring, which is cheaper than intersecting postings up front for a page that stops early.
+     */
+    private Candidates nameCandidates(String name) {
+        NavigableSet<UUID> rarest = null;
+        for (String gram : grams(name)) {
+            NavigableSet<UUID> posting = byNameGram.get(gram);
+            if (posting == null) {
+                return Candidates.NONE;
+            }
+            if (rarest == null || posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+        return Candidates.of(List.of(rarest));
+    }
+
+    /**
+     * The buckets in {@code [min, max]}, or {@code null} once more than {@value #MAX_MERGED_BUCKETS} turn up, so a wide
+     * range costs a bounded look at the index rather than a pass over every bucket it spans.
+     */
+    private static Candidates rangeCandidates(
+            TreeMap<Integer, NavigableSet<UUID>> index, Integer min, Integer max) {
+        List<NavigableSet<UUID>> buckets = new ArrayList<>();
+        for (NavigableSet<UUID> bucket : index.subMap(
+                        min == null ? Integer.MIN_VALUE : min, true, max == null ? Integer.MAX_VALUE : max, true)
+                .values()) {
+            if (buckets.size() == MAX_MERGED_BUCKETS) {
+                return null;
+            }
+            buckets.add(bucket);
+        }
+        return Candidates.of(buckets);
+    }
+
+    private static Candidates smaller(Candidates best, Candidates candidate) {
+        if (candidate == null) {
+            return best;
+        }
+        return best == null || candidate.size() < best.size() ? candidate : best;
+    }
+
+    private static NavigableSet<UUID> fromCursor(NavigableSet<UUID> ids, UUID after) {
+        return after == null ? ids : ids.tailSet(after, false);
+    }
+
+    private static Set<String> grams(String name) {
+        if (name == null) {
+            return Set.of();
+        }
+        String normalized = EmployeeQuery.normalize(name);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static <K> void bucket(Map<K, NavigableSet<UUID>> index, K key, UUID id) {
+        if (key != null) {
+            index.computeIfAbsent(key, ignored -> new TreeSet<>()).add(id);
+        }
+    }
+
+    private static <K> void unindex(Map<K, NavigableSet<UUID>> index, K key, UUID id) {
+        if (key == null) {
+            return;
+        }
+        NavigableSet<UUID> ids = index.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Disjoint id-ordered buckets that together hold every candidate for a query.
+     */
+    private record Candidates(List<NavigableSet<UUID>> buckets, long size) {
+
+        static final Candidates NONE = new Candidates(List.of(), 0);
+
+        static Candidates of(List<NavigableSet<UUID>> buckets) {
+            long size = 0;
+            for (NavigableSet<UUID> bucket : buckets) {
+                size += bucket.size();
+            }
+            return new Candidates(buckets, size);
+        }
+
+        Iterator<UUID> from(UUID after) {
+            if (buckets.isEmpty()) {
+                return Collections.emptyIterator();
+            }
+            if (buckets.size() == 1) {
+                return fromCursor(buckets.get(0), after).iterator();
+            }
+            return new MergingIterator(buckets, after);
+        }
+    }
+
+    /**
+     * Lazily merges id-ordered buckets, so a page that fills early only touches the head of each bucket.
+     */
+    private static final class MergingIterator implements Iterator<UUID> {
+
+        private final PriorityQueue<Head> heads =
+                new PriorityQueue<>(Comparator.comparing(Head::id));
+
+        MergingIterator(List<NavigableSet<UUID>> buckets, UUID after) {
+            for (NavigableSet<UUID> bucket : buckets) {
+                advance(fromCursor(bucket, after).iterator());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public UUID next() {
+            Head head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            advance(head.rest);
+            return head.id;
+        }
+
+        private void advance(Iterator<UUID> rest) {
+            if (rest.hasNext()) {
+                heads.add(new Head(rest.next(), rest));
+            }
+        }
+
+        private record Head(UUID id, Iterator<UUID> rest) {}
+    }
+}
@@ -0,0 +1,301 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+
+/**
+ * Thread-safe in-memory employee store.
+ *
+ * <p>Lookups by id go straight to a {@link ConcurrentHashMap} without locking. Writes are serialized by a
+ * read/write lock that also maintains insertion order, a case-insensitive name index (so delete-by-name removes the
+ * oldest match without scanning) and the {@link EmployeeQueryIndex} used by paged queries, which run under the read
+ * lock. {@link #getEmployees()} returns an immutable snapshot that is rebuilt lazily, at most once per write, and
+ * shared by every reader until the next write.
+ *
+ * <p>An optional {@link Journal} is told about each mutation before it is applied, while the write lock is held, so
+ * it sees mutations in exactly the order the store applies them and a failed journal write leaves the store
+ * unchanged. {@link #addAll} and {@link #removeAll} journal the whole batch first and only then apply it.
+ */
+public class EmployeeStore {
+
+    private final ConcurrentHashMap<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    private final LinkedHashMap<UUID, MockEmployee> inInsertionOrder = new LinkedHashMap<>();
+    private final Map<String, LinkedHashSet<UUID>> idsByName = new HashMap<>();
+    private final EmployeeQueryIndex queryIndex = new EmployeeQueryIndex();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    private Journal journal = Journal.NONE;
+    private volatile long version;
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+
+    public EmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        this(employees, Journal.NONE);
+    }
+
+    /**
+     * The initial {@code employees} are loaded without being journaled; only later mutations reach {@code journal}.
+     * After one pass to fix the insertion order (a repeated id keeps its first position and its last value), the id,
+     * name and query indexes are built in parallel, each by its own task.
+     */
+    public EmployeeStore(@NonNull Collection<MockEmployee> employees, @NonNull Journal journal) {
+        atomically(() -> {
+            for (MockEmployee employee : employees) {
+                inInsertionOrder.put(Objects.requireNonNull(employee.getId(), "Employee id must not be null"), employee);
+            }
+            Collection<MockEmployee> unique = inInsertionOrder.values();
+            List<Runnable> builds = new ArrayList<>(queryIndex.bulkLoad(unique));
+            builds.add(() -> unique.forEach(employee -> byId.put(employee.getId(), employee)));
+            builds.add(() -> unique.forEach(this::indexName));
+            builds.parallelStream().forEach(Runnable::run);
+            version = employees.size();
+            this.journal = journal;
+        });
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<MockEmployee> getEmployees() {
+        return snapshot().employees();
+    }
+
+    /**
+     * Returns the roster together with the version it was taken at. Both always describe the same state.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current.version() == version) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot.version() != version) {
+                snapshot = new Snapshot(version, List.copyOf(inInsertionOrder.values()));
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public EmployeePage find(@NonNull EmployeeQuery query) {
+        readLock.lock();
+        try {
+            return queryIndex.find(query);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        Objects.requireNonNull(employee.getId(), "Employee id must not be null");
+        writeLock.lock();
+        try {
+            journal.added(employee);
+            put(employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds every employee in one write: the batch is journaled as a whole before any of it is applied, so a failed
+     * journal write leaves the store unchanged.
+     */
+    public void addAll(@NonNull List<MockEmployee> employees) {
+        employees.forEach(employee -> Objects.requireNonNull(employee.getId(), "Employee id must not be null"));
+        if (employees.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            journal.addedAll(employees);
+            employees.forEach(this::put);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<MockEmployee> remove(@NonNull UUID id) {
+        writeLock.lock();
+        try {
+            if (!inInsertionOrder.containsKey(id)) {
+                return Optional.empty();
+            }
+            journal.removed(id);
+            return Optional.of(delete(id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the earliest-added employee whose name matches ignoring case.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        writeLock.lock();
+        try {
+            Set<UUID> ids = idsByName.get(nameKey(name));
+            if (ids == null || ids.isEmpty()) {
+                return Optional.empty();
+            }
+            return remove(ids.iterator().next());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes each target, by id when it has one and otherwise the earliest-added employee with its name, as if the
+     * targets were removed one after another. Every match is resolved and the removals journaled as one batch before
+     * any is applied. The result at each position is the removed employee, or empty when nothing matched.
+     */
+    public List<Optional<MockEmployee>> removeAll(@NonNull List<BatchDeleteMockEmployeeInput> targets) {
+        writeLock.lock();
+        try {
+            Set<UUID> claimed = new LinkedHashSet<>();
+            List<Optional<UUID>> matches = new ArrayList<>(targets.size());
+            for (BatchDeleteMockEmployeeInput target : targets) {
+                Optional<UUID> match = target.getId() != null
+                        ? Optional.of(target.getId()).filter(inInsertionOrder::containsKey)
+                        : firstUnclaimedByName(target.getName(), claimed);
+                match = match.filter(claimed::add);
+                matches.add(match);
+            }
+            if (!claimed.isEmpty()) {
+                journal.removedAll(List.copyOf(claimed));
+            }
+            List<Optional<MockEmployee>> removed = new ArrayList<>(matches.size());
+            for (Optional<UUID> match : matches) {
+                removed.add(match.map(this::delete));
+            }
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code mutations} under a single write lock, so snapshots and paged queries see either none or all of
+     * them. {@link #findById} and {@link #size()} do not take the lock and may observe the mutations part-way. The
+     * lock is reentrant, so the mutations are free to call {@link #add} and the remove methods, but each of those is
+     * journaled on its own; use {@link #addAll} or {@link #removeAll} to journal a batch as one unit.
+     */
+    public void atomically(@NonNull Runnable mutations) {
+        writeLock.lock();
+        try {
+            mutations.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void put(MockEmployee employee) {
+        MockEmployee previous = inInsertionOrder.put(employee.getId(), employee);
+        if (previous != null) {
+            unindexName(previous);
+            queryIndex.remove(previous);
+        }
+        byId.put(employee.getId(), employee);
+        queryIndex.add(employee);
+        indexName(employee);
+        version++;
+    }
+
+    private MockEmployee delete(UUID id) {
+        MockEmployee removed = inInsertionOrder.remove(id);
+        byId.remove(id);
+        unindexName(removed);
+        queryIndex.remove(removed);
+        version++;
+        return removed;
+    }
+
+    private Optional<UUID> firstUnclaimedByName(String name, Set<UUID> claimed) {
+        Set<UUID> ids = name == null ? null : idsByName.get(nameKey(name));
+        if (ids == null) {
+            return Optional.empty();
+        }
+        return ids.stream().filter(id -> !claimed.contains(id)).findFirst();
+    }
+
+    private void indexName(MockEmployee employee) {
+        if (employee.getName() != null) {
+            idsByName
+                    .computeIfAbsent(nameKey(employee.getName()), ignored -> new LinkedHashSet<>())
+                    .add(employee.getId());
+        }
+    }
+
+    private void unindexName(MockEmployee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        String key = nameKey(employee.getName());
+        Set<UUID> ids = idsByName.get(key);
+        if (ids != null && ids.remove(employee.getId()) && ids.isEmpty()) {
+            idsByName.remove(key);
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public record Snapshot(long version, List<MockEmployee> employees) {}
+
+    /**
+     * Receives the store's mutations, in order, before they are applied. A batch arrives as a single {@link #addedAll}
+     * or {@link #removedAll} call, which by default is passed on one mutation at a time.
+     */
+    public interface Journal {
+
+        Journal NONE = new Journal() {
+            @Override
+            public void added(MockEmployee employee) {}
+
+            @Override
+            public void removed(UUID id) {}
+        };
+
+        void added(MockEmployee employee);
+
+        void removed(UUID id);
+
+        default void addedAll(List<MockEmployee> employees) {
+            employees.forEach(this::added);
+        }
+
+        default void removedAll(List<UUID> ids) {
+            ids.forEach(this::removed);
+        }
+    }
+}
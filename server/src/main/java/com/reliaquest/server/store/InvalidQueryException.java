@@ -0,0 +1,12 @@
+package com.reliaquest.server.store;
+
+/**
+ * Thrown when an {@link EmployeeQuery} is built from parameters that cannot describe a page, such as a non-positive
+ * limit or a range whose minimum exceeds its maximum.
+ */
+public class InvalidQueryException extends IllegalArgumentException {
+
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
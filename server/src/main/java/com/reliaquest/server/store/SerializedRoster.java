@@ -0,0 +1,15 @@
+package com.reliaquest.server.store;
+
+/**
+ * The roster response body at one store version, serialized once and kept both as plain and gzip-compressed JSON.
+ */
+public record SerializedRoster(long version, String etag, byte[] json, byte[] gzippedJson) {
+
+    public String etag(boolean gzipped) {
+        return gzipped ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzippedJson : json;
+    }
+}
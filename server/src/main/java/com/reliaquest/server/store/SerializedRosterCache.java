@@ -0,0 +1,92 @@
+package com.reliaquest.server.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the GET roster response pre-serialized. The bytes are rebuilt only when the {@link EmployeeStore} version
+ * moves, so unchanged rosters are served without any per-request serialization or compression.
+ *
+ * <p>ETags combine a per-process boot id with the store version (or the employee id for single employees), so a
+ * restarted server never matches a tag issued by a previous run.
+ */
+@Slf4j
+@Component
+public class SerializedRosterCache {
+
+    private final EmployeeStore employeeStore;
+    private final ObjectMapper objectMapper;
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile SerializedRoster current;
+
+    public SerializedRosterCache(EmployeeStore employeeStore, ObjectMapper objectMapper) {
+        this.employeeStore = employeeStore;
+        this.objectMapper = objectMapper;
+    }
+
+    public SerializedRoster current() {
+        SerializedRoster roster = current;
+        if (roster != null && roster.version() == employeeStore.getVersion()) {
+            return roster;
+        }
+        rebuildLock.lock();
+        try {
+            EmployeeStore.Snapshot snapshot = employeeStore.snapshot();
+            roster = current;
+            if (roster == null || roster.version() != snapshot.version()) {
+                roster = serialize(snapshot);
+                current = roster;
+            }
+            return roster;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Employees are never edited in place, so a single employee's representation is fixed for as long as it exists
+     * and its id is enough to tag it.
+     */
+    public String etag(MockEmployee employee) {
+        return "\"%s-%s\"".formatted(bootId, employee.getId());
+    }
+
+    private SerializedRoster serialize(EmployeeStore.Snapshot snapshot) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Response.handledWith(snapshot.employees()));
+            byte[] gzippedJson = gzip(json);
+            log.debug(
+                    "Serialized roster version {}: {} employees, {} bytes ({} gzipped).",
+                    snapshot.version(),
+                    snapshot.employees().size(),
+                    json.length,
+                    gzippedJson.length);
+            return new SerializedRoster(
+                    snapshot.version(), "\"%s-%d\"".formatted(bootId, snapshot.version()), json, gzippedJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize employee roster.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
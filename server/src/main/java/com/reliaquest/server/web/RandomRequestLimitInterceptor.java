@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -17,6 +18,7 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
             Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final LongAdder rejected = new LongAdder();
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -24,6 +26,7 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
                     .isBefore(requestLimit.get().getLastRequested())) {
+                rejected.increment();
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
@@ -40,6 +43,13 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
         return true;
     }
 
+    /**
+     * Requests answered with 429 so far.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
     private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
         public static RequestLimit init() {
             return new RequestLimit(0, Instant.now());
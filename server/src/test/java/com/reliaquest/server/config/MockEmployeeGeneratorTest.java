@@ -0,0 +1,55 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    @Test
+    void generate_sameSeedProducesSameRoster() {
+        List<MockEmployee> first = new MockEmployeeGenerator(Locale.ENGLISH, 42).generate(40_000);
+        List<MockEmployee> second = new MockEmployeeGenerator(Locale.ENGLISH, 42).generate(40_000);
+
+        assertEquals(first, second);
+        assertNotEquals(first, new MockEmployeeGenerator(Locale.ENGLISH, 43).generate(40_000));
+    }
+
+    @Test
+    void generate_producesValidDistinctEmployees() {
+        List<MockEmployee> employees = new MockEmployeeGenerator(Locale.ENGLISH, 7).generate(50_000);
+
+        assertEquals(50_000, employees.size());
+        assertEquals(50_000, new HashSet<>(employees.stream().map(MockEmployee::getId).toList()).size());
+        assertEquals(50_000, new HashSet<>(employees.stream().map(MockEmployee::getEmail).toList()).size());
+        for (MockEmployee employee : employees) {
+            assertTrue(employee.getSalary() >= MockEmployeeGenerator.MIN_SALARY
+                    && employee.getSalary() < MockEmployeeGenerator.MAX_SALARY);
+            assertTrue(employee.getAge() >= MockEmployeeGenerator.MIN_AGE
+                    && employee.getAge() < MockEmployeeGenerator.MAX_AGE);
+            assertTrue(employee.getName().contains(" "));
+            assertEquals(4, employee.getId().version());
+        }
+    }
+
+    @Test
+    void handle_foldsAccentsAndNeverComesOutEmpty() {
+        assertEquals("oconnor", MockEmployeeGenerator.handle("O'Connor"));
+        assertEquals("zoe", MockEmployeeGenerator.handle("Zo\u00EB"));
+        assertEquals("istanbul", MockEmployeeGenerator.handle("\u0130stanbul"));
+        assertEquals("employee", MockEmployeeGenerator.handle("\u5C71\u7530"));
+    }
+
+    @Test
+    void generate_nonLatinLocaleStillProducesValidEmails() {
+        for (MockEmployee employee : new MockEmployeeGenerator(Locale.JAPANESE, 3).generate(1_000)) {
+            assertTrue(employee.getEmail().matches("[a-z]+\\.[a-z]+\\d+@company\\.com"), employee.getEmail());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.SerializedRosterCache;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private EmployeeStore employeeStore;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        employeeStore = new EmployeeStore(List.of(employee("Tiger Nixon")));
+        SerializedRosterCache serializedRosterCache = new SerializedRosterCache(employeeStore, new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MockEmployeeController(
+                                new MockEmployeeService(new Faker(), employeeStore),
+                                serializedRosterCache,
+                                Validation.buildDefaultValidatorFactory().getValidator()))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void getEmployees_servesSerializedRosterWithEtag() throws Exception {
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.status").value("Successfully processed request."))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Tiger Nixon"));
+    }
+
+    @Test
+    void getEmployees_matchingEtagReturnsNotModifiedUntilRosterChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employee"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        employeeStore.add(employee("Bill Bob"));
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    @Test
+    void getEmployees_gzipClientsGetPrecompressedBody() throws Exception {
+        byte[] plain = mockMvc.perform(get("/api/v1/employee"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        byte[] gzipped = mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertArrayEquals(plain, gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void getEmployees_gzipRefusedWithZeroQvalueGetsPlainBody() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.data").isArray());
+    }
+
+    @Test
+    void acceptsGzip_honoursQvaluesAndWildcard() {
+        assertTrue(MockEmployeeController.acceptsGzip("gzip, deflate"));
+        assertTrue(MockEmployeeController.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(MockEmployeeController.acceptsGzip("*"));
+        assertFalse(MockEmployeeController.acceptsGzip("gzip;q=0"));
+        assertFalse(MockEmployeeController.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(MockEmployeeController.acceptsGzip("br, *;q=0"));
+        assertFalse(MockEmployeeController.acceptsGzip("deflate"));
+        assertFalse(MockEmployeeController.acceptsGzip(null));
+    }
+
+    @Test
+    void getEmployee_supportsConditionalRequests() throws Exception {
+        MockEmployee employee = employeeStore.getEmployees().get(0);
+        String etag = mockMvc.perform(get("/api/v1/employee/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employee_name").value("Tiger Nixon"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employee/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getEmployeePage_appliesFiltersAndReturnsCursor() throws Exception {
+        employeeStore.add(employee("Tiger Woods"));
+        employeeStore.add(employee("Bill Bob"));
+
+        String firstPage = mockMvc.perform(get("/api/v1/employee").param("name", "tiger").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees.length()").value(1))
+                .andExpect(jsonPath("$.data.next_cursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String cursor = JsonPath.read(firstPage, "$.data.next_cursor");
+
+        mockMvc.perform(get("/api/v1/employee")
+                        .param("name", "tiger")
+                        .param("limit", "1")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees.length()").value(1))
+                .andExpect(jsonPath("$.data.next_cursor").doesNotExist());
+    }
+
+    @Test
+    void getEmployeePage_rejectsInvalidRange() throws Exception {
+        mockMvc.perform(get("/api/v1/employee")
+                        .param("minSalary", "10")
+                        .param("maxSalary", "5")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployeePage_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("cursor", "not-a-uuid").param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteEmployeeById_removesOnlyThatEmployee() throws Exception {
+        MockEmployee first = employeeStore.getEmployees().get(0);
+        MockEmployee namesake = employee("Tiger Nixon");
+        employeeStore.add(namesake);
+
+        mockMvc.perform(delete("/api/v1/employee/{id}", namesake.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(namesake.getId().toString()));
+
+        assertEquals(List.of(first), employeeStore.getEmployees());
+        mockMvc.perform(delete("/api/v1/employee/{id}", namesake.getId())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createEmployees_reportsInvalidItemsAndAppliesValidOnes() throws Exception {
+        long versionBefore = employeeStore.getVersion();
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                """
+                                [
+                                  {"name": "Bill Bob", "salary": 1000, "age": 30, "title": "Engineer"},
+                                  {"name": "", "salary": 1000, "age": 12, "title": "Engineer"},
+                                  {"name": "Jill Jenkins", "salary": 2000, "age": 40, "title": "Manager"}
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.data[0].data.employee_name").value("Bill Bob"))
+                .andExpect(jsonPath("$.data[1].index").value(1))
+                .andExpect(jsonPath("$.data[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.data[1].error")
+                        .value("age: must be greater than or equal to 16, name: must not be blank"))
+                .andExpect(jsonPath("$.data[2].status").value("CREATED"));
+
+        assertEquals(3, employeeStore.size());
+        assertEquals(versionBefore + 2, employeeStore.getVersion());
+    }
+
+    @Test
+    void deleteEmployees_matchesByIdOrNameAndReportsMisses() throws Exception {
+        MockEmployee tiger = employeeStore.getEmployees().get(0);
+        employeeStore.add(employee("Bill Bob"));
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                """
+                                [{"id": "%s"}, {"name": "bill bob"}, {"name": "Nobody"}, {}]
+                                """
+                                        .formatted(tiger.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value("DELETED"))
+                .andExpect(jsonPath("$.data[0].data.employee_name").value("Tiger Nixon"))
+                .andExpect(jsonPath("$.data[1].status").value("DELETED"))
+                .andExpect(jsonPath("$.data[2].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.data[3].status").value("INVALID"));
+
+        assertEquals(0, employeeStore.size());
+    }
+
+    @Test
+    void createEmployees_rejectsEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,257 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class EmployeePersistenceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeePersistenceTest.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_restoresCreatesAndDeletesInOrderAfterRestart() throws Exception {
+        List<MockEmployee> expected;
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(() -> List.of(employee("Tiger Nixon"), employee("Bill Bob")));
+            store.add(employee("Jill Jenkins"));
+            store.removeFirstByName("tiger nixon");
+            store.add(employee(null));
+            expected = store.getEmployees();
+        }
+
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(() -> {
+                throw new AssertionError("a persisted roster must not be regenerated");
+            });
+            assertEquals(expected, store.getEmployees());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 9, 20})
+    void open_logTruncatedMidRecordRecoversIntactPrefix(int bytesCut) throws Exception {
+        MockEmployee kept;
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            kept = employee("Kept Employee");
+            store.add(kept);
+            store.add(employee("Torn Employee"));
+        }
+        truncateBy(directory.resolve("mutations-1.log"), bytesCut);
+
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            assertEquals(List.of(kept), store.getEmployees());
+            store.add(employee("After Recovery"));
+        }
+
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            assertEquals(
+                    List.of("Kept Employee", "After Recovery"),
+                    store.getEmployees().stream().map(MockEmployee::getName).toList());
+        }
+    }
+
+    @Test
+    void open_tornBatchIsDroppedWhole() throws Exception {
+        MockEmployee kept = employee("Kept Employee");
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            store.addAll(List.of(kept));
+            store.addAll(List.of(employee("Torn One"), employee("Torn Two"), employee("Torn Three")));
+        }
+        truncateBy(directory.resolve("mutations-1.log"), 4);
+
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            assertEquals(List.of(kept), store.getEmployees());
+        }
+    }
+
+    @Test
+    void open_replaysBatchedAddsAndRemoves() throws Exception {
+        List<MockEmployee> expected;
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            MockEmployee removed = employee("Removed");
+            store.addAll(List.of(employee("First"), removed, employee("Last")));
+            BatchDeleteMockEmployeeInput target = new BatchDeleteMockEmployeeInput();
+            target.setId(removed.getId());
+            store.removeAll(List.of(target));
+            expected = store.getEmployees();
+        }
+
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            assertEquals(expected, store.getEmployees());
+            assertEquals(
+                    List.of("First", "Last"),
+                    store.getEmployees().stream().map(MockEmployee::getName).toList());
+        }
+    }
+
+    @Test
+    void open_corruptRecordStopsReplayAtLastIntactRecord() throws Exception {
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            store.add(employee("First"));
+            store.add(employee("Second"));
+        }
+        Path log = directory.resolve("mutations-1.log");
+        byte[] bytes = Files.readAllBytes(log);
+        bytes[bytes.length - 3] ^= 0x5A;
+        Files.write(log, bytes);
+
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            assertEquals(
+                    List.of("First"),
+                    store.getEmployees().stream().map(MockEmployee::getName).toList());
+        }
+    }
+
+    @Test
+    void compact_replacesOldGenerationAndKeepsLaterMutations() throws Exception {
+        List<MockEmployee> expected;
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(() -> List.of(employee("Tiger Nixon")));
+            store.add(employee("Before Compaction"));
+            persistence.compact();
+            store.add(employee("After Compaction"));
+            expected = store.getEmployees();
+        }
+
+        assertFalse(Files.exists(directory.resolve("snapshot-1.bin")));
+        assertFalse(Files.exists(directory.resolve("mutations-1.log")));
+        assertTrue(Files.exists(directory.resolve("snapshot-2.bin")));
+        try (EmployeePersistence persistence = persistence(1000)) {
+            assertEquals(expected, persistence.open(List::of).getEmployees());
+        }
+    }
+
+    @Test
+    void compact_failingToOpenTheNextLogKeepsAppendingToTheCurrentOne() throws Exception {
+        // A directory where the next generation's log should go makes opening it fail.
+        Path blocked = Files.createDirectory(directory.resolve("mutations-2.log"));
+        List<MockEmployee> expected;
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(() -> List.of(employee("Tiger Nixon")));
+            store.add(employee("Before Compaction"));
+            persistence.compact();
+            store.add(employee("After Failed Compaction"));
+            expected = store.getEmployees();
+        }
+
+        assertTrue(Files.exists(directory.resolve("snapshot-1.bin")));
+        assertFalse(Files.exists(directory.resolve("snapshot-2.bin")));
+        Files.delete(blocked);
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(List::of);
+            assertEquals(expected, store.getEmployees());
+            persistence.compact();
+            assertTrue(Files.exists(directory.resolve("snapshot-2.bin")));
+        }
+    }
+
+    @Test
+    void open_crashBeforeSnapshotCommitReplaysBothLogs() throws Exception {
+        Path backup = Files.createDirectory(directory.resolve("backup"));
+        List<MockEmployee> expected;
+        try (EmployeePersistence persistence = persistence(1000)) {
+            EmployeeStore store = persistence.open(() -> List.of(employee("Tiger Nixon")));
+            store.add(employee("Before Compaction"));
+            Files.copy(directory.resolve("snapshot-1.bin"), backup.resolve("snapshot-1.bin"));
+            Files.copy(directory.resolve("mutations-1.log"), backup.resolve("mutations-1.log"));
+            persistence.compact();
+            store.add(employee("After Compaction"));
+            expected = store.getEmployees();
+        }
+        // Put generation 1 back and drop snapshot 2, as if the process died after rotating the log but before the
+        // new snapshot was moved into place.
+        Files.delete(directory.resolve("snapshot-2.bin"));
+        Files.move(backup.resolve("snapshot-1.bin"), directory.resolve("snapshot-1.bin"));
+        Files.move(backup.resolve("mutations-1.log"), directory.resolve("mutations-1.log"));
+
+        try (EmployeePersistence persistence = persistence(1000)) {
+            assertEquals(expected, persistence.open(List::of).getEmployees());
+        }
+    }
+
+    @Test
+    void added_compactsInBackgroundOnceThresholdIsReached() throws Exception {
+        List<MockEmployee> expected;
+        try (EmployeePersistence persistence = persistence(5)) {
+            EmployeeStore store = persistence.open(List::of);
+            for (int i = 0; i < 12; i++) {
+                store.add(employee("Employee " + i));
+            }
+            expected = store.getEmployees();
+        }
+
+        assertFalse(Files.exists(directory.resolve("snapshot-1.bin")));
+        try (EmployeePersistence persistence = persistence(5)) {
+            assertEquals(expected, persistence.open(List::of).getEmployees());
+        }
+    }
+
+    @Test
+    void open_restoresLargeRosterFromSnapshotAndLog() throws Exception {
+        List<MockEmployee> roster = new MockEmployeeGenerator(Locale.ENGLISH, 11).generate(200_000);
+        List<MockEmployee> expected;
+        try (EmployeePersistence persistence = persistence(50_000)) {
+            EmployeeStore store = persistence.open(() -> roster);
+            List<MockEmployee> added = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                MockEmployee employee = employee("Added " + i);
+                added.add(employee);
+                store.add(employee);
+            }
+            added.stream().limit(5_000).forEach(employee -> store.remove(employee.getId()));
+            expected = store.getEmployees();
+        }
+
+        long start = System.nanoTime();
+        try (EmployeePersistence persistence = persistence(50_000)) {
+            assertEquals(expected, persistence.open(List::of).getEmployees());
+        }
+        logger.info("Restored {} employees in {} ms", expected.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private EmployeePersistence persistence(long compactEvery) {
+        return new EmployeePersistence(directory, false, compactEvery);
+    }
+
+    private static void truncateBy(Path file, int bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - bytes);
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,388 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class EmployeeStoreTest {
+
+    private static final int WRITERS = 8;
+    private static final int OPERATIONS_PER_WRITER = 5_000;
+
+    @Test
+    void findById_returnsStoredEmployee() {
+        MockEmployee employee = employee("Tiger Nixon");
+        EmployeeStore store = new EmployeeStore(List.of(employee));
+
+        assertSame(employee, store.findById(employee.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void getEmployees_keepsInsertionOrderAndIsImmutable() {
+        MockEmployee first = employee("A");
+        MockEmployee second = employee("B");
+        EmployeeStore store = new EmployeeStore(List.of(first, second));
+        MockEmployee third = employee("C");
+        store.add(third);
+
+        List<MockEmployee> employees = store.getEmployees();
+
+        assertEquals(List.of(first, second, third), employees);
+        assertThrows(UnsupportedOperationException.class, () -> employees.add(employee("D")));
+    }
+
+    @Test
+    void constructor_repeatedIdKeepsFirstPositionAndLastValue() {
+        MockEmployee first = employee("First");
+        MockEmployee second = employee("Second");
+        MockEmployee renamed = first.toBuilder().name("Renamed").build();
+
+        EmployeeStore store = new EmployeeStore(List.of(first, second, renamed));
+
+        assertEquals(List.of(renamed, second), store.getEmployees());
+        assertEquals(renamed, store.findById(first.getId()).orElseThrow());
+        assertEquals(Set.of(renamed), employeesIn(store.find(EmployeeQuery.builder().name("renamed").limit(10).build())));
+        assertTrue(store.find(EmployeeQuery.builder().name("first").limit(10).build()).employees().isEmpty());
+        assertTrue(store.removeFirstByName("first").isEmpty());
+        assertEquals(Optional.of(renamed), store.removeFirstByName("renamed"));
+    }
+
+    @Test
+    void getEmployees_reusesSnapshotUntilNextWrite() {
+        EmployeeStore store = new EmployeeStore(List.of(employee("A")));
+
+        List<MockEmployee> snapshot = store.getEmployees();
+        assertSame(snapshot, store.getEmployees());
+
+        store.add(employee("B"));
+        assertEquals(2, store.getEmployees().size());
+        assertEquals(1, snapshot.size());
+    }
+
+    @Test
+    void removeFirstByName_ignoresCaseAndRemovesOldestMatch() {
+        MockEmployee older = employee("Jane Doe");
+        MockEmployee newer = employee("JANE DOE");
+        EmployeeStore store = new EmployeeStore(List.of(older, employee("John"), newer));
+
+        assertSame(older, store.removeFirstByName("jane doe").orElseThrow());
+        assertSame(newer, store.removeFirstByName("Jane Doe").orElseThrow());
+        assertTrue(store.removeFirstByName("jane doe").isEmpty());
+        assertEquals(1, store.size());
+        assertTrue(store.findById(older.getId()).isEmpty());
+    }
+
+    @Test
+    void remove_byIdUpdatesNameIndex() {
+        MockEmployee employee = employee("Jane Doe");
+        EmployeeStore store = new EmployeeStore(List.of(employee));
+
+        assertSame(employee, store.remove(employee.getId()).orElseThrow());
+        assertTrue(store.remove(employee.getId()).isEmpty());
+        assertTrue(store.removeFirstByName("Jane Doe").isEmpty());
+        assertTrue(store.getEmployees().isEmpty());
+    }
+
+    @Test
+    void addAll_failedJournalWriteLeavesStoreUnchanged() {
+        List<List<MockEmployee>> journaled = new ArrayList<>();
+        EmployeeStore store = new EmployeeStore(List.of(), new EmployeeStore.Journal() {
+            @Override
+            public void added(MockEmployee employee) {
+                throw new AssertionError("a batch must be journaled as one unit");
+            }
+
+            @Override
+            public void removed(UUID id) {
+                throw new AssertionError("a batch must be journaled as one unit");
+            }
+
+            @Override
+            public void addedAll(List<MockEmployee> employees) {
+                journaled.add(employees);
+                if (journaled.size() > 1) {
+                    throw new IllegalStateException("disk full");
+                }
+            }
+        });
+        List<MockEmployee> first = List.of(employee("Alice"), employee("Bob"));
+        store.addAll(first);
+
+        assertThrows(IllegalStateException.class, () -> store.addAll(List.of(employee("Carol"), employee("Dave"))));
+
+        assertEquals(first, store.getEmployees());
+        assertEquals(2, store.getVersion());
+    }
+
+    @Test
+    void removeAll_resolvesTargetsInOrderAndJournalsThemTogether() {
+        MockEmployee tiger = employee("Tiger Nixon");
+        MockEmployee firstBill = employee("Bill Bob");
+        MockEmployee secondBill = employee("bill bob");
+        List<List<UUID>> journaled = new ArrayList<>();
+        EmployeeStore store = new EmployeeStore(List.of(tiger, firstBill, secondBill), new EmployeeStore.Journal() {
+            @Override
+            public void added(MockEmployee employee) {}
+
+            @Override
+            public void removed(UUID id) {
+                throw new AssertionError("a batch must be journaled as one unit");
+            }
+
+            @Override
+            public void removedAll(List<UUID> ids) {
+                journaled.add(ids);
+            }
+        });
+
+        List<Optional<MockEmployee>> removed = store.removeAll(List.of(
+                target(tiger.getId(), null),
+                target(null, "BILL BOB"),
+                target(tiger.getId(), null),
+                target(null, "Bill Bob"),
+                target(null, "Bill Bob")));
+
+        assertEquals(
+                List.of(
+                        Optional.of(tiger),
+                        Optional.of(firstBill),
+                        Optional.empty(),
+                        Optional.of(secondBill),
+                        Optional.empty()),
+                removed);
+        assertEquals(List.of(List.of(tiger.getId(), firstBill.getId(), secondBill.getId())), journaled);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void concurrentCreateDeleteAndReads_keepIndexesConsistent() throws Exception {
+        EmployeeStore store = new EmployeeStore(List.of());
+        Set<UUID> survivors = ConcurrentHashMap.newKeySet();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 2);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                int writerId = writer;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                        MockEmployee employee = employee("Writer " + writerId + " Employee " + i);
+                        store.add(employee);
+                        if (i % 2 == 0) {
+                            assertSame(
+                                    employee,
+                                    store.removeFirstByName(employee.getName().toUpperCase())
+                                            .orElseThrow());
+                        } else {
+                            survivors.add(employee.getId());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < 2; reader++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        List<MockEmployee> snapshot = store.getEmployees();
+                        Set<UUID> ids = new HashSet<>();
+                        snapshot.forEach(employee -> assertTrue(ids.add(employee.getId()), "duplicate in snapshot"));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expected = WRITERS * OPERATIONS_PER_WRITER / 2;
+        assertEquals(expected, store.size());
+        assertEquals(expected, store.getEmployees().size());
+        assertEquals(survivors, new HashSet<>(store.getEmployees().stream().map(MockEmployee::getId).toList()));
+        survivors.forEach(id -> assertTrue(store.findById(id).isPresent()));
+        assertFalse(store.removeFirstByName("Writer 0 Employee 0").isPresent());
+        assertTrue(store.removeFirstByName("writer 0 employee 1").isPresent());
+    }
+
+    @Test
+    void find_cursorPagesVisitEveryEmployeeOnceInIdOrder() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 95; i++) {
+            employees.add(employee("Employee " + i));
+        }
+        EmployeeStore store = new EmployeeStore(employees);
+
+        List<UUID> visited = new ArrayList<>();
+        UUID cursor = null;
+        do {
+            EmployeePage page = store.find(
+                    EmployeeQuery.builder().after(cursor).limit(10).build());
+            page.employees().forEach(employee -> visited.add(employee.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(95, visited.size());
+        assertEquals(visited.stream().sorted().toList(), visited);
+        assertEquals(95, new HashSet<>(visited).size());
+    }
+
+    @Test
+    void find_filtersUseIndexesAndCombine() {
+        MockEmployee alice = employee("Alice Johnson", 90_000, 41, "Staff Engineer");
+        MockEmployee bob = employee("Bob Johnston", 60_000, 29, "Engineer");
+        MockEmployee carol = employee("Carol King", 120_000, 35, "staff engineer");
+        MockEmployee dave = employee("Dave Jones", 45_000, 23, "Analyst");
+        EmployeeStore store = new EmployeeStore(List.of(alice, bob, carol, dave));
+
+        assertEquals(Set.of(alice, bob), employeesIn(store.find(EmployeeQuery.builder().name("JOHN").limit(10).build())));
+        assertEquals(
+                Set.of(alice, bob),
+                employeesIn(store.find(EmployeeQuery.builder().minSalary(60_000).maxSalary(100_000).limit(10).build())));
+        assertEquals(
+                Set.of(bob, dave),
+                employeesIn(store.find(EmployeeQuery.builder().maxAge(30).limit(10).build())));
+        assertEquals(
+                Set.of(alice, carol),
+                employeesIn(store.find(EmployeeQuery.builder().title("Staff Engineer").limit(10).build())));
+        assertEquals(
+                Set.of(carol),
+                employeesIn(store.find(EmployeeQuery.builder()
+                        .title("staff engineer")
+                        .minSalary(100_000)
+                        .minAge(30)
+                        .limit(10)
+                        .build())));
+        assertEquals(Set.of(dave), employeesIn(store.find(EmployeeQuery.builder().name("da").limit(10).build())));
+
+        store.remove(alice.getId());
+        assertEquals(Set.of(bob), employeesIn(store.find(EmployeeQuery.builder().name("john").limit(10).build())));
+    }
+
+    @Test
+    void find_filteredResultsPageByCursor() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            employees.add(employee("Employee " + i, 40_000 + i * 1_000, 30, "Engineer"));
+        }
+        EmployeeStore store = new EmployeeStore(employees);
+        EmployeeQuery.EmployeeQueryBuilder query =
+                EmployeeQuery.builder().minSalary(50_000).limit(8);
+
+        EmployeePage first = store.find(query.build());
+        EmployeePage second = store.find(query.after(first.nextCursor()).build());
+        EmployeePage third = store.find(query.after(second.nextCursor()).build());
+
+        assertEquals(8, first.employees().size());
+        assertEquals(8, second.employees().size());
+        assertEquals(4, third.employees().size());
+        assertNull(third.nextCursor());
+        assertTrue(first.nextCursor().compareTo(second.employees().get(0).getId()) < 0);
+
+        List<UUID> paged = new ArrayList<>();
+        for (EmployeePage page : List.of(first, second, third)) {
+            page.employees().forEach(employee -> paged.add(employee.getId()));
+        }
+        assertEquals(paged.stream().sorted().toList(), paged);
+    }
+
+    @Test
+    void find_wideRangeWalksIdOrderAndMatchesEveryPageOfTheNarrowOne() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            employees.add(employee("Employee " + i, 40_000 + (i % 200) * 100, 20 + i % 40, "Engineer"));
+        }
+        EmployeeStore store = new EmployeeStore(employees);
+        int maxSalary = 40_000 + 150 * 100;
+
+        // 151 distinct salaries: too many buckets to merge, so this walks the id order.
+        List<UUID> wide = pageAll(store, EmployeeQuery.builder().maxSalary(maxSalary));
+        List<UUID> expected = employees.stream()
+                .filter(employee -> employee.getSalary() <= maxSalary)
+                .map(MockEmployee::getId)
+                .sorted()
+                .toList();
+        assertTrue(expected.size() > 0 && wide.size() < employees.size());
+        assertEquals(expected, wide);
+
+        // The same range narrowed by age merges a few age buckets instead.
+        List<UUID> narrowed = pageAll(store, EmployeeQuery.builder().maxSalary(maxSalary).maxAge(22));
+        assertEquals(
+                employees.stream()
+                        .filter(employee -> employee.getSalary() <= maxSalary && employee.getAge() <= 22)
+                        .map(MockEmployee::getId)
+                        .sorted()
+                        .toList(),
+                narrowed);
+    }
+
+    @Test
+    void query_rejectsInvalidBounds() {
+        assertThrows(InvalidQueryException.class, () -> EmployeeQuery.builder().limit(0).build());
+        assertThrows(
+                InvalidQueryException.class,
+                () -> EmployeeQuery.builder().minAge(40).maxAge(30).limit(1).build());
+    }
+
+    private static BatchDeleteMockEmployeeInput target(UUID id, String name) {
+        BatchDeleteMockEmployeeInput target = new BatchDeleteMockEmployeeInput();
+        target.setId(id);
+        target.setName(name);
+        return target;
+    }
+
+    private static List<UUID> pageAll(EmployeeStore store, EmployeeQuery.EmployeeQueryBuilder query) {
+        List<UUID> ids = new ArrayList<>();
+        UUID cursor = null;
+        do {
+            EmployeePage page = store.find(query.after(cursor).limit(7).build());
+            page.employees().forEach(employee -> ids.add(employee.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static Set<MockEmployee> employeesIn(EmployeePage page) {
+        return new HashSet<>(page.employees());
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+
+    private static MockEmployee employee(String name, int salary, int age, String title) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, age, title, "employee@company.com");
+    }
+}
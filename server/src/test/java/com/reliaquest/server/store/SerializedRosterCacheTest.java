@@ -0,0 +1,64 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class SerializedRosterCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void current_serializesOncePerVersion() {
+        EmployeeStore store = new EmployeeStore(List.of(employee("Tiger Nixon")));
+        SerializedRosterCache cache = new SerializedRosterCache(store, objectMapper);
+
+        SerializedRoster first = cache.current();
+        assertSame(first, cache.current());
+
+        store.add(employee("Bill Bob"));
+        SerializedRoster second = cache.current();
+
+        assertNotEquals(first.version(), second.version());
+        assertNotEquals(first.etag(), second.etag());
+        assertSame(second, cache.current());
+    }
+
+    @Test
+    void current_bodyMatchesResponseEnvelope() throws Exception {
+        MockEmployee employee = employee("Tiger Nixon");
+        SerializedRosterCache cache = new SerializedRosterCache(new EmployeeStore(List.of(employee)), objectMapper);
+
+        SerializedRoster roster = cache.current();
+        JsonNode body = objectMapper.readTree(roster.json());
+
+        assertEquals("Successfully processed request.", body.get("status").asText());
+        assertEquals(employee.getId().toString(), body.get("data").get(0).get("id").asText());
+        assertEquals("Tiger Nixon", body.get("data").get(0).get("employee_name").asText());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(roster.gzippedJson()))) {
+            assertArrayEquals(roster.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void etag_differsPerRepresentation() {
+        SerializedRoster roster = new SerializedRoster(3, "\"boot-3\"", new byte[0], new byte[0]);
+
+        assertEquals("\"boot-3\"", roster.etag(false));
+        assertEquals("\"boot-3-gzip\"", roster.etag(true));
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}